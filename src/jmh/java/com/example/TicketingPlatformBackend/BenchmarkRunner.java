@@ -0,0 +1,72 @@
+package com.example.TicketingPlatformBackend;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the JMH benchmarks once per thread count and prints one table with throughput and p99
+ * latency side by side, so a change can be compared against a saved baseline at a glance.
+ * The raw JMH results for each thread count are kept as JSON next to the table.
+ * <p>
+ * Arguments: benchmark name pattern, comma-separated thread counts, output directory.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String[] threadCounts = (args.length > 1 ? args[1] : "1").split(",");
+        File outputDirectory = new File(args.length > 2 ? args[2] : "target/jmh");
+        outputDirectory.mkdirs();
+
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (String threadCount : threadCounts) {
+            int threads = Integer.parseInt(threadCount.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(outputDirectory, "jmh-threads-" + threads + ".json").getPath())
+                    .build();
+            for (RunResult result : new Runner(options).run()) {
+                String benchmark = result.getParams().getBenchmark();
+                Map<String, String> params = new TreeMap<>();
+                for (String key : result.getParams().getParamsKeys()) {
+                    params.put(key, result.getParams().getParam(key));
+                }
+                Row row = rows.computeIfAbsent(shortName(benchmark) + (params.isEmpty() ? "" : " " + params) + " t=" + threads, key -> new Row());
+                Result<?> primary = result.getPrimaryResult();
+                if (result.getParams().getMode() == Mode.Throughput) {
+                    row.throughput = String.format("%.3f %s", primary.getScore(), primary.getScoreUnit());
+                } else if (result.getParams().getMode() == Mode.SampleTime) {
+                    row.p99 = String.format("%.3f %s", primary.getStatistics().getPercentile(99), primary.getScoreUnit());
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-90s %22s %22s%n", "Benchmark", "Throughput", "p99");
+        rows.forEach((name, row) -> System.out.printf("%-90s %22s %22s%n", name, row.throughput, row.p99));
+    }
+
+    private static String shortName(String benchmark) {
+        int method = benchmark.lastIndexOf('.');
+        int type = benchmark.lastIndexOf('.', method - 1);
+        return benchmark.substring(type + 1);
+    }
+
+    private static class Row {
+        String throughput = "-";
+        String p99 = "-";
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Compares what logging one pool event costs the calling thread: the original synchronous
+ * FileHandler with MessageFormat parameters against the {@link AsyncLogWriter} ring.
+ * Both write to a temporary file so the application log is left alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private Path directory;
+    private Logger syncLogger;
+    private FileHandler fileHandler;
+    private AsyncLogWriter asyncWriter;
+    private final int[] ticketIds = {41, 42};
+
+    @Setup(Level.Trial)
+    public void openLogs() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+
+        syncLogger = Logger.getLogger("LoggingBenchmark.sync");
+        syncLogger.setUseParentHandlers(false);
+        fileHandler = new FileHandler(directory.resolve("sync.log").toString(), true);
+        fileHandler.setFormatter(new SimpleFormatter());
+        syncLogger.addHandler(fileHandler);
+
+        asyncWriter = new AsyncLogWriter(directory.resolve("async.log").toString(), "LoggingBenchmark.async", 8192, LogOverflowPolicy.BLOCK);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeLogs() throws IOException {
+        syncLogger.removeHandler(fileHandler);
+        fileHandler.close();
+        asyncWriter.close(5000);
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void synchronousFileHandler() {
+        syncLogger.log(java.util.logging.Level.INFO, "{0} purchased {1} tickets. Current Pool Size: {2}/{3}",
+                new Object[]{"[Customer-1]", 2, 500, 1000});
+    }
+
+    @Benchmark
+    public void asyncRing() {
+        long position = asyncWriter.claim();
+        if (position < 0) {
+            return;
+        }
+        PoolEvent event = asyncWriter.slot(position);
+        event.set(PoolEventType.TICKETS_PURCHASED, "[Customer-1]", 2, 500, 1000);
+        event.setTickets(SeatLayout.GENERAL_ADMISSION, ticketIds, 0, 2);
+        asyncWriter.publish(position);
+    }
+}
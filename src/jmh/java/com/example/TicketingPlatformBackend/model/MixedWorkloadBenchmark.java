@@ -0,0 +1,111 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs status polling alongside purchases in fixed read/write ratios, showing how much readers of
+ * the pool's counters slow writers down and the other way round. The status poll reads everything
+ * the status endpoint and the end-of-run summary read.
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixedWorkloadBenchmark {
+
+    @Param({"ATOMIC", "STRIPED"})
+    public InventoryMode inventoryMode;
+
+    private TicketPool pool;
+    private java.util.logging.Level previousLevel;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(java.util.logging.Level.OFF);
+        pool = new TicketPool(100_000, 200_000, inventoryMode, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreLogger() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+        final int[] ids = new int[2];
+    }
+
+    private void purchaseAndReturn(Buyer buyer) {
+        pool.removeTicket(2, "[Customer]", buyer.ids, 0);
+        pool.adminRemoveTicket(buyer.ids, 0, 2, "[Customer]");
+    }
+
+    private void pollStatus(Blackhole blackhole) {
+        blackhole.consume(pool.getCurrentSize());
+        blackhole.consume(pool.getTotalTicketsAddedByVendors());
+        blackhole.consume(pool.getTotalTicketsPurchasedByCustomers());
+        blackhole.consume(pool.getTotalTicketsReturned());
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public void readHeavyStatus(Blackhole blackhole) {
+        pollStatus(blackhole);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyPurchase(Buyer buyer) {
+        purchaseAndReturn(buyer);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public void balancedStatus(Blackhole blackhole) {
+        pollStatus(blackhole);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public void balancedPurchase(Buyer buyer) {
+        purchaseAndReturn(buyer);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public void writeHeavyStatus(Blackhole blackhole) {
+        pollStatus(blackhole);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyPurchase(Buyer buyer) {
+        purchaseAndReturn(buyer);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the pool's write paths on their own, with logging switched off so that only the
+ * inventory and ticket ID bookkeeping is timed. Each operation is paired with its inverse so the
+ * pool stays at a steady size however long the benchmark runs. Thread counts come from the runner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketPoolBenchmark {
+
+    @Param({"ATOMIC", "STRIPED"})
+    public InventoryMode inventoryMode;
+
+    private TicketPool pool;
+    private java.util.logging.Level previousLevel;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(java.util.logging.Level.OFF);
+        pool = new TicketPool(100_000, 200_000, inventoryMode, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreLogger() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    /**
+     * Per-thread buffer for purchased IDs, as a Customer keeps one.
+     */
+    @State(Scope.Thread)
+    public static class Buyer {
+        final int[] ids = new int[2];
+        final String name = "[Customer-" + Thread.currentThread().getId() + "]";
+    }
+
+    @Benchmark
+    public boolean purchaseAndReturn(Buyer buyer) {
+        pool.removeTicket(2, buyer.name, buyer.ids, 0);
+        return pool.adminRemoveTicket(buyer.ids, 0, 2, buyer.name);
+    }
+
+    @Benchmark
+    public boolean releaseAndPurchase(Buyer buyer) {
+        pool.addTickets(1, buyer.name);
+        return pool.removeTicket(1, buyer.name, buyer.ids, 0);
+    }
+}
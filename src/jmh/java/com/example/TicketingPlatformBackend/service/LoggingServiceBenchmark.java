@@ -0,0 +1,83 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LogPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a large pre-written log file the ways the log endpoints do: a random page, the tail
+ * after a cursor, the whole file, and a cold index build as after a restart.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingServiceBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int lines;
+
+    private Path file;
+    private LoggingService loggingService;
+
+    @Setup(Level.Trial)
+    public void writeLog() throws IOException {
+        file = Files.createTempFile("logging-service-benchmark", ".log");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i += 2) {
+                writer.write("Oct 17, 2026 10:15:30 AM TicketingSystemLogger log\n");
+                writer.write("INFO: [Customer-" + (i % 5 + 1) + "] purchased 2 tickets #" + i + ", #" + (i + 1) + ". Current Pool Size: 500/1000\n");
+            }
+        }
+        loggingService = new LoggingService(file.toString());
+        loggingService.tail(0, 1); // Build the index once so the warm benchmarks measure reads only
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteLog() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<String> randomPage() {
+        return loggingService.getLogs(ThreadLocalRandom.current().nextInt(lines - 100), 100);
+    }
+
+    @Benchmark
+    public LogPage tail() {
+        return loggingService.tail(loggingService.cursorAt(lines - 500), 500);
+    }
+
+    @Benchmark
+    public List<String> wholeFile() {
+        return loggingService.getLogs();
+    }
+
+    @Benchmark
+    public LogPage coldIndex() {
+        LoggingService cold = new LoggingService(file.toString());
+        return cold.tail(cold.cursorAt(lines - 1), 1);
+    }
+}
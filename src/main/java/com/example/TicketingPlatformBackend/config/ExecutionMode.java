@@ -0,0 +1,10 @@
+package com.example.TicketingPlatformBackend.config;
+
+/**
+ * ExecutionMode selects what kind of threads run the simulated vendors and customers.
+ */
+public enum ExecutionMode {
+    PLATFORM, // One operating system thread per participant
+    VIRTUAL,  // One virtual thread per participant (Java 21+), falling back to PLATFORM on older runtimes
+    SCHEDULED // All participants ticked by a small fixed pool of scheduler threads
+}
@@ -0,0 +1,27 @@
+package com.example.TicketingPlatformBackend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * ReactiveWebConfig applies the same CORS rules as {@link WebConfig} when the application runs on
+ * WebFlux and Netty (spring.main.web-application-type=reactive).
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Configuration
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    /**
+     * Configures CORS mappings for the reactive API.
+     *
+     * @param registry The CORS registry to configure.
+     */
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/api/**") // Allow CORS for API endpoints
+                .allowedOrigins("https://ticketing-system-frontend-phi.vercel.app/, http://localhost:3000")
+                .allowCredentials(true); // Allow credentials (like cookies) to be sent
+    }
+}
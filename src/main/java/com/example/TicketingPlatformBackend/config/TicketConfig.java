@@ -1,5 +1,9 @@
 package com.example.TicketingPlatformBackend.config;
 
+import com.example.TicketingPlatformBackend.model.InventoryMode;
+import com.example.TicketingPlatformBackend.model.LoadTestSettings;
+import com.example.TicketingPlatformBackend.model.LogOverflowPolicy;
+import com.example.TicketingPlatformBackend.model.ReleaseMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +18,60 @@ public class TicketConfig {
     private int ticketReleaseRate;       // Rate at which tickets are released by vendors.
     private int customerRetrievalRate;   // Rate at which customers retrieve tickets.
     private int maxTicketCapacity;        // Maximum capacity of tickets in the pool.
+    private InventoryMode inventoryMode = InventoryMode.ATOMIC; // How the pool stores its available tickets.
+    private int inventoryStripes;         // Number of stripes in STRIPED mode (0 = one per available processor).
+    private int seatsPerRow;              // Seats in each row for labelled tickets (0 = general admission).
+    private int rowsPerSection;           // Rows in each section for labelled tickets (0 = a single section).
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM; // Kind of threads that run vendors and customers.
+    private int vendorCount = 2;          // Number of simulated vendors started with the system.
+    private int customerCount = 5;        // Number of simulated customers started with the system.
+    private long tickIntervalMillis = 1000; // Time between two actions of a vendor or customer.
+    private int schedulerThreads;         // Tick scheduler threads in SCHEDULED mode (0 = one per available processor).
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK; // What producers do when the log buffer is full.
+    private boolean journalEnabled; // Record pool changes in a journal and recover them on the next start.
+    private String journalDirectory = "data/journal"; // Where journal segments and snapshots are kept.
+    private long journalSnapshotIntervalMillis = 60000; // How often a snapshot compacts the journal.
+    private int admissionsPerSecond;      // Buyers the waiting room admits per second (0 = no waiting room).
+    private int lowWaterMark;             // Pool size at or below which listeners are told stock is low (0 = off).
+    private int maxTicketsPerCustomer;    // Most tickets one customer may hold in a run (0 = no limit).
+    private int purchaseAttemptsPerSecond; // Purchase and hold attempts one customer may make per second (0 = no limit).
+    private int maxTrackedCustomers = 1 << 20; // Buyers holding tickets the limit table can track at once, at least; capped by each pool's ticket capacity.
+    private ReleaseMode releaseMode = ReleaseMode.FIXED; // How vendors size their batches.
+    private int targetFillPercent = 75;   // Fill level ADAPTIVE vendors aim for, as a percentage of capacity.
+    private LoadTestSettings loadTest = new LoadTestSettings(); // Defaults for load generator runs.
+
+    /**
+     * Copies every setting from another configuration into this one.
+     *
+     * @param other The configuration to copy from.
+     */
+    public void update(TicketConfig other) {
+        this.totalTickets = other.getTotalTickets();
+        this.ticketReleaseRate = other.getTicketReleaseRate();
+        this.customerRetrievalRate = other.getCustomerRetrievalRate();
+        this.maxTicketCapacity = other.getMaxTicketCapacity();
+        this.inventoryMode = other.getInventoryMode();
+        this.inventoryStripes = other.getInventoryStripes();
+        this.seatsPerRow = other.getSeatsPerRow();
+        this.rowsPerSection = other.getRowsPerSection();
+        this.executionMode = other.getExecutionMode();
+        this.vendorCount = other.getVendorCount();
+        this.customerCount = other.getCustomerCount();
+        this.tickIntervalMillis = other.getTickIntervalMillis();
+        this.schedulerThreads = other.getSchedulerThreads();
+        this.logOverflowPolicy = other.getLogOverflowPolicy();
+        this.journalEnabled = other.isJournalEnabled();
+        this.journalDirectory = other.getJournalDirectory();
+        this.journalSnapshotIntervalMillis = other.getJournalSnapshotIntervalMillis();
+        this.admissionsPerSecond = other.getAdmissionsPerSecond();
+        this.lowWaterMark = other.getLowWaterMark();
+        this.maxTicketsPerCustomer = other.getMaxTicketsPerCustomer();
+        this.purchaseAttemptsPerSecond = other.getPurchaseAttemptsPerSecond();
+        this.maxTrackedCustomers = other.getMaxTrackedCustomers();
+        this.releaseMode = other.getReleaseMode();
+        this.targetFillPercent = other.getTargetFillPercent();
+        this.loadTest = other.getLoadTest();
+    }
 
     // Getters and Setters
 
@@ -48,4 +106,172 @@ public class TicketConfig {
     public void setMaxTicketCapacity(int maxTicketCapacity) {
         this.maxTicketCapacity = maxTicketCapacity;
     }
+
+    public InventoryMode getInventoryMode() {
+        return inventoryMode;
+    }
+
+    public void setInventoryMode(InventoryMode inventoryMode) {
+        this.inventoryMode = inventoryMode != null ? inventoryMode : InventoryMode.ATOMIC;
+    }
+
+    public int getInventoryStripes() {
+        return inventoryStripes;
+    }
+
+    public void setInventoryStripes(int inventoryStripes) {
+        this.inventoryStripes = inventoryStripes;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public void setSeatsPerRow(int seatsPerRow) {
+        this.seatsPerRow = seatsPerRow;
+    }
+
+    public int getRowsPerSection() {
+        return rowsPerSection;
+    }
+
+    public void setRowsPerSection(int rowsPerSection) {
+        this.rowsPerSection = rowsPerSection;
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode != null ? executionMode : ExecutionMode.PLATFORM;
+    }
+
+    public int getVendorCount() {
+        return vendorCount;
+    }
+
+    public void setVendorCount(int vendorCount) {
+        this.vendorCount = vendorCount;
+    }
+
+    public int getCustomerCount() {
+        return customerCount;
+    }
+
+    public void setCustomerCount(int customerCount) {
+        this.customerCount = customerCount;
+    }
+
+    public long getTickIntervalMillis() {
+        return tickIntervalMillis;
+    }
+
+    public void setTickIntervalMillis(long tickIntervalMillis) {
+        this.tickIntervalMillis = tickIntervalMillis > 0 ? tickIntervalMillis : 1000;
+    }
+
+    public int getSchedulerThreads() {
+        return schedulerThreads;
+    }
+
+    public void setSchedulerThreads(int schedulerThreads) {
+        this.schedulerThreads = schedulerThreads;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy != null ? logOverflowPolicy : LogOverflowPolicy.BLOCK;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public String getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public void setJournalDirectory(String journalDirectory) {
+        this.journalDirectory = journalDirectory != null && !journalDirectory.isBlank() ? journalDirectory : "data/journal";
+    }
+
+    public long getJournalSnapshotIntervalMillis() {
+        return journalSnapshotIntervalMillis;
+    }
+
+    public void setJournalSnapshotIntervalMillis(long journalSnapshotIntervalMillis) {
+        this.journalSnapshotIntervalMillis = journalSnapshotIntervalMillis > 0 ? journalSnapshotIntervalMillis : 60000;
+    }
+
+    public int getAdmissionsPerSecond() {
+        return admissionsPerSecond;
+    }
+
+    public void setAdmissionsPerSecond(int admissionsPerSecond) {
+        this.admissionsPerSecond = Math.max(0, admissionsPerSecond);
+    }
+
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = Math.max(0, lowWaterMark);
+    }
+
+    public int getMaxTicketsPerCustomer() {
+        return maxTicketsPerCustomer;
+    }
+
+    public void setMaxTicketsPerCustomer(int maxTicketsPerCustomer) {
+        this.maxTicketsPerCustomer = Math.max(0, maxTicketsPerCustomer);
+    }
+
+    public int getPurchaseAttemptsPerSecond() {
+        return purchaseAttemptsPerSecond;
+    }
+
+    public void setPurchaseAttemptsPerSecond(int purchaseAttemptsPerSecond) {
+        this.purchaseAttemptsPerSecond = Math.max(0, purchaseAttemptsPerSecond);
+    }
+
+    public int getMaxTrackedCustomers() {
+        return maxTrackedCustomers;
+    }
+
+    public void setMaxTrackedCustomers(int maxTrackedCustomers) {
+        this.maxTrackedCustomers = Math.max(1, maxTrackedCustomers);
+    }
+
+    public ReleaseMode getReleaseMode() {
+        return releaseMode;
+    }
+
+    public void setReleaseMode(ReleaseMode releaseMode) {
+        this.releaseMode = releaseMode;
+    }
+
+    public int getTargetFillPercent() {
+        return targetFillPercent;
+    }
+
+    public void setTargetFillPercent(int targetFillPercent) {
+        this.targetFillPercent = Math.max(1, Math.min(100, targetFillPercent));
+    }
+
+    public LoadTestSettings getLoadTest() {
+        return loadTest;
+    }
+
+    public void setLoadTest(LoadTestSettings loadTest) {
+        this.loadTest = loadTest != null ? loadTest : new LoadTestSettings();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.TicketingPlatformBackend.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -8,6 +9,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * WebConfig is a configuration class that sets up CORS (Cross-Origin Resource Sharing)
  * for the web application, allowing specific origins to access the API.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -0,0 +1,34 @@
+package com.example.TicketingPlatformBackend.config;
+
+import com.example.TicketingPlatformBackend.controller.PoolEventStreamHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocketConfig registers the event stream endpoint, allowing the same frontend origins as the REST API.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final PoolEventStreamHandler poolEventStreamHandler; // Handler streaming pool events
+
+    public WebSocketConfig(PoolEventStreamHandler poolEventStreamHandler) {
+        this.poolEventStreamHandler = poolEventStreamHandler;
+    }
+
+    /**
+     * Maps the event stream to /ws/events.
+     *
+     * @param registry The WebSocket handler registry to configure.
+     */
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(poolEventStreamHandler, "/ws/events")
+                .setAllowedOriginPatterns("https://ticketing-system-frontend-phi.vercel.app", "http://localhost:3000");
+    }
+}
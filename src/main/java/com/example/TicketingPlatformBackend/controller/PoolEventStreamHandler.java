@@ -0,0 +1,38 @@
+package com.example.TicketingPlatformBackend.controller;
+
+import com.example.TicketingPlatformBackend.service.EventStreamService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * PoolEventStreamHandler is the WebSocket endpoint that streams pool events to the frontend.
+ * Clients only listen; anything they send is ignored.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Component
+public class PoolEventStreamHandler extends TextWebSocketHandler {
+
+    private final EventStreamService eventStreamService; // Service that fans events out to subscribers
+
+    public PoolEventStreamHandler(EventStreamService eventStreamService) {
+        this.eventStreamService = eventStreamService;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        eventStreamService.subscribe(session); // Start receiving coalesced event frames
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        eventStreamService.unsubscribe(session);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        eventStreamService.unsubscribe(session);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.TicketingPlatformBackend.controller;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.PoolSnapshot;
+import com.example.TicketingPlatformBackend.model.PurchaseRequest;
+import com.example.TicketingPlatformBackend.model.PurchaseResult;
+import com.example.TicketingPlatformBackend.model.ShutdownProgress;
+import com.example.TicketingPlatformBackend.service.PoolStatusPublisher;
+import com.example.TicketingPlatformBackend.service.TicketingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * ReactiveTicketSystemController serves the ticket system's core API on WebFlux and Netty, selected with
+ * spring.main.web-application-type=reactive; the default servlet setup uses {@link TicketSystemController}.
+ * <p>
+ * Paths and bodies match the servlet controller, so clients work against either. Status reads run on
+ * the event loop, because they only read counters and a prepared snapshot. Everything that can block is
+ * moved to the bounded elastic scheduler:
+ * <ul>
+ *     <li>starting the system, which creates the pool and may open its journal,</li>
+ *     <li>updating the configuration, which waits for the service lock while a start opens the journal and logs what it applied,</li>
+ *     <li>purchases, which may wait for the journal's group commit, a full ledger queue or a blocking log policy.</li>
+ * </ul>
+ * Stop and reset already run on the ticketing service's own lifecycle thread and are only awaited.
+ * The event loops therefore stay free for new connections during an on-sale.
+ * Purchase bodies are decoded as a stream and results are written as the client reads them, so request
+ * and response both follow backpressure.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequestMapping("/api") // Same base URL as the servlet controller
+public class ReactiveTicketSystemController {
+
+    private static final int MAX_PURCHASE_BATCH = 10_000; // Requests accepted in one batched purchase
+
+    private final TicketingService ticketingService; // Service for handling ticket operations
+
+    public ReactiveTicketSystemController(TicketingService ticketingService) {
+        this.ticketingService = ticketingService;
+    }
+
+    /**
+     * Configures the ticket system with provided settings.
+     *
+     * @param config The configuration settings received from the request body.
+     * @return A confirmation message, naming any settings applied to the running system.
+     */
+    @PostMapping("/config")
+    public Mono<String> configureSystem(@RequestBody Mono<TicketConfig> config) {
+        return config.flatMap(settings -> blocking(() -> ticketingService.updateConfig(settings)));
+    }
+
+    /**
+     * Starts the ticket system and begins processing tickets.
+     *
+     * @return A message indicating that the system has started.
+     */
+    @PostMapping("/start")
+    public Mono<String> startSystem() {
+        return blocking(ticketingService::startSystem);
+    }
+
+    /**
+     * Stops the ticket system and halts all operations.
+     *
+     * @return A message indicating that the system has stopped.
+     */
+    @PostMapping("/stop")
+    public Mono<String> stopSystem() {
+        return Mono.fromFuture(ticketingService::stopSystemAsync); // Runs on the service's lifecycle thread
+    }
+
+    /**
+     * Reports how far the latest stop has got, for clients polling a long stop.
+     *
+     * @return The stopped and total participant counts, elapsed time and state.
+     */
+    @GetMapping("/stop/progress")
+    public Mono<ShutdownProgress> getStopProgress() {
+        return Mono.fromSupplier(ticketingService::getShutdownProgress);
+    }
+
+    /**
+     * Resets the ticket system, clearing all current operations and data.
+     *
+     * @return A message indicating that the system has been reset.
+     */
+    @PostMapping("/reset")
+    public Mono<String> resetSystem() {
+        return Mono.fromFuture(ticketingService::resetSystemAsync);
+    }
+
+    /**
+     * Retrieves the current status of the ticket system, including available tickets.
+     *
+     * @return A JSON string representing the current available tickets in the system.
+     */
+    @GetMapping("/status")
+    public Mono<String> getSystemStatus() {
+        return Mono.fromSupplier(() -> "{\"currentTicketsAvailable\": " + ticketingService.getSystemStatus() + "}");
+    }
+
+    /**
+     * Retrieves a snapshot of the pool's counters with per-vendor and per-customer totals and rates.
+     *
+     * @param exchange The current exchange, for the conditional GET.
+     * @return The snapshot as JSON, or 304 Not Modified.
+     */
+    @GetMapping("/status/snapshot")
+    public Mono<ResponseEntity<byte[]>> getStatusSnapshot(ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> {
+            PoolStatusPublisher.Published published = ticketingService.getStatusPublisher().getPublished();
+            PoolSnapshot snapshot = published.getSnapshot();
+            String etag = "\"" + snapshot.getTimestampMillis() + "-" + snapshot.getVersion() + "\""; // Versions restart with each pool
+            if (exchange.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(published.getJson());
+        });
+    }
+
+    /**
+     * Purchases tickets for a batch of buyers in one pass over the pool.
+     * Each request succeeds or fails on its own; earlier requests take priority when stock runs short.
+     *
+     * @param requests The purchase requests, in priority order, decoded as they arrive.
+     * @return One result per request, in the same order, with the purchased ticket IDs.
+     */
+    @PostMapping("/purchases")
+    public Flux<PurchaseResult> purchaseTickets(@RequestBody Flux<PurchaseRequest> requests) {
+        return requests
+                .take(MAX_PURCHASE_BATCH + 1L) // One past the limit is enough to reject the batch
+                .collectList()
+                .flatMap(batch -> {
+                    if (batch.isEmpty() || batch.size() > MAX_PURCHASE_BATCH) {
+                        return Mono.error(new IllegalArgumentException("A purchase batch must hold between 1 and " + MAX_PURCHASE_BATCH + " requests."));
+                    }
+                    return blocking(() -> ticketingService.purchaseBatch(batch));
+                })
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    /**
+     * Runs a call that may block on the bounded elastic scheduler instead of an event loop.
+     */
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleConflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+}
@@ -1,46 +1,79 @@
 package com.example.TicketingPlatformBackend.controller;
 
 import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.EventLogPage;
+import com.example.TicketingPlatformBackend.model.EventStatus;
+import com.example.TicketingPlatformBackend.model.HoldRequest;
+import com.example.TicketingPlatformBackend.model.HoldStatus;
+import com.example.TicketingPlatformBackend.model.LedgerEntry;
+import com.example.TicketingPlatformBackend.model.LoadTestReport;
+import com.example.TicketingPlatformBackend.model.LoadTestSettings;
+import com.example.TicketingPlatformBackend.model.LogPage;
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.example.TicketingPlatformBackend.model.PoolSnapshot;
+import com.example.TicketingPlatformBackend.model.PurchaseRequest;
+import com.example.TicketingPlatformBackend.model.PurchaseResult;
+import com.example.TicketingPlatformBackend.model.QueueStatus;
+import com.example.TicketingPlatformBackend.model.ShutdownProgress;
+import com.example.TicketingPlatformBackend.service.EventRegistry;
+import com.example.TicketingPlatformBackend.service.HoldService;
+import com.example.TicketingPlatformBackend.service.LedgerService;
+import com.example.TicketingPlatformBackend.service.LoadTestService;
+import com.example.TicketingPlatformBackend.service.LogSearchService;
 import com.example.TicketingPlatformBackend.service.LoggingService;
+import com.example.TicketingPlatformBackend.service.PoolStatusPublisher;
 import com.example.TicketingPlatformBackend.service.TicketingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * TicketSystemController handles incoming API requests related to the ticketing system.
  * It provides endpoints for configuring, starting, stopping, and retrieving information about the system.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api") // Base URL for all endpoints in this controller
 public class TicketSystemController {
 
+    private static final int MAX_PURCHASE_BATCH = 10_000; // Requests accepted in one batched purchase
+
     private final TicketingService ticketingService; // Service for handling ticket operations
     private final LoggingService loggingService; // Service for handling logging operations
+    private final EventRegistry eventRegistry; // Independently configured events hosted alongside the default pool
+    private final HoldService holdService; // Time-limited ticket holds for checkout
+    private final LoadTestService loadTestService; // Seeded load generator with a throughput report
+    private final LedgerService ledgerService; // Durable history of releases, purchases and cancellations
+    private final LogSearchService logSearchService; // Filters the structured event log
 
-    public TicketSystemController(TicketingService ticketingService, LoggingService loggingService) {
+    public TicketSystemController(TicketingService ticketingService, LoggingService loggingService,
+                                  EventRegistry eventRegistry, HoldService holdService, LoadTestService loadTestService,
+                                  LedgerService ledgerService, LogSearchService logSearchService) {
         this.ticketingService = ticketingService; // Injected service for ticket operations
         this.loggingService = loggingService; // Injected service for logging operations
+        this.eventRegistry = eventRegistry; // Injected registry for event-scoped operations
+        this.holdService = holdService; // Injected service for checkout holds
+        this.loadTestService = loadTestService; // Injected load generator
+        this.ledgerService = ledgerService; // Injected purchase ledger
+        this.logSearchService = logSearchService; // Injected structured log search
     }
 
     /**
      * Configures the ticket system with provided settings.
      *
      * @param config The configuration settings received from the request body.
-     * @return A confirmation message indicating successful configuration.
+     * @return A confirmation message, naming any settings applied to the running system.
      */
     @PostMapping("/config")
     public String configureSystem(@RequestBody TicketConfig config) {
-        // Set configuration values in the service layer
-        ticketingService.getTicketConfig().setTotalTickets(config.getTotalTickets());
-        ticketingService.getTicketConfig().setTicketReleaseRate(config.getTicketReleaseRate());
-        ticketingService.getTicketConfig().setCustomerRetrievalRate(config.getCustomerRetrievalRate());
-        ticketingService.getTicketConfig().setMaxTicketCapacity(config.getMaxTicketCapacity());
-
-        // Save the updated configuration
-        ticketingService.saveConfig();
-
-        return "Configuration received: " + config.getTotalTickets() + " tickets."; // Return confirmation message
+        return ticketingService.updateConfig(config); // Swaps the active configuration; saving happens in the background
     }
 
     /**
@@ -54,13 +87,24 @@ public class TicketSystemController {
     }
 
     /**
-     * Stops the ticket system and halts all operations.
+     * Stops the ticket system and halts all operations. The stop runs off the request thread, which is
+     * released until the response is ready.
      *
      * @return A message indicating that the system has stopped.
      */
     @PostMapping("/stop")
-    public String stopSystem() {
-        return ticketingService.stopSystem(); // Delegate stop operation to service layer
+    public CompletableFuture<String> stopSystem() {
+        return ticketingService.stopSystemAsync(); // Delegate stop operation to service layer
+    }
+
+    /**
+     * Reports how far the latest stop has got, for clients polling a long stop.
+     *
+     * @return The stopped and total participant counts, elapsed time and state.
+     */
+    @GetMapping("/stop/progress")
+    public ShutdownProgress getStopProgress() {
+        return ticketingService.getShutdownProgress();
     }
 
     /**
@@ -69,8 +113,8 @@ public class TicketSystemController {
      * @return A message indicating that the system has been reset.
      */
     @PostMapping("/reset")
-    public String resetSystem() {
-        return ticketingService.resetSystem(); // Delegate reset operation to service layer
+    public CompletableFuture<String> resetSystem() {
+        return ticketingService.resetSystemAsync(); // Delegate reset operation to service layer
     }
 
     /**
@@ -94,13 +138,391 @@ public class TicketSystemController {
         return "{\"currentTicketsAvailable\": " + ticketingService.getSystemStatus() + "}"; // Return status as JSON string
     }
 
+    /**
+     * Retrieves a snapshot of the pool's counters with per-vendor and per-customer totals and rates.
+     * Snapshots are refreshed at most every 100 ms and served pre-serialized, so clients may poll freely;
+     * a poll that sends the previous ETag back in If-None-Match gets 304 until the snapshot changes.
+     *
+     * @param request The web request, for the conditional GET.
+     * @return The snapshot as JSON, or 304 Not Modified.
+     */
+    @GetMapping("/status/snapshot")
+    public ResponseEntity<byte[]> getStatusSnapshot(WebRequest request) {
+        return snapshotResponse(ticketingService.getStatusPublisher(), request);
+    }
+
+    /**
+     * Purchases tickets for a batch of buyers in one pass over the pool.
+     * Each request succeeds or fails on its own; earlier requests take priority when stock runs short.
+     *
+     * @param requests The purchase requests, in priority order.
+     * @return One result per request, in the same order, with the purchased ticket IDs.
+     */
+    @PostMapping("/purchases")
+    public List<PurchaseResult> purchaseBatch(@RequestBody List<PurchaseRequest> requests) {
+        return ticketingService.purchaseBatch(checkBatch(requests));
+    }
+
+    /**
+     * Reserves tickets for a customer for a limited time, to be confirmed or released.
+     *
+     * @param request Who is holding, how many tickets and for how many seconds.
+     * @return The hold with its ID, ticket IDs and expiry time, or a REJECTED status.
+     */
+    @PostMapping("/holds")
+    public HoldStatus holdTickets(@RequestBody HoldRequest request) {
+        return holdService.hold(ticketingService.getRunningPool(), request);
+    }
+
+    /**
+     * Retrieves a hold that has not yet been confirmed, released or expired.
+     *
+     * @param holdId The hold ID.
+     * @return The hold.
+     */
+    @GetMapping("/holds/{holdId}")
+    public HoldStatus getHold(@PathVariable long holdId) {
+        return holdService.getHold(holdId);
+    }
+
+    /**
+     * Purchases the tickets of a hold before it expires.
+     *
+     * @param holdId The hold ID.
+     * @return The confirmed hold.
+     */
+    @PostMapping("/holds/{holdId}/confirm")
+    public HoldStatus confirmHold(@PathVariable long holdId) {
+        return holdService.confirm(holdId);
+    }
+
+    /**
+     * Returns the tickets of a hold to the pool before it expires.
+     *
+     * @param holdId The hold ID.
+     * @return The released hold.
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public HoldStatus releaseHold(@PathVariable long holdId) {
+        return holdService.release(holdId);
+    }
+
+    /**
+     * Joins the waiting room in front of the pool. Buyers are admitted in the order they joined.
+     *
+     * @return The buyer's queue number, position and estimated wait, or a REJECTED status when sold out.
+     */
+    @PostMapping("/queue")
+    public QueueStatus joinQueue() {
+        return ticketingService.getWaitingRoom().joinWithStatus();
+    }
+
+    /**
+     * Reports a buyer's place in the waiting room.
+     *
+     * @param queueNumber The buyer's queue number.
+     * @return The buyer's position and estimated wait.
+     */
+    @GetMapping("/queue/{queueNumber}")
+    public QueueStatus getQueueStatus(@PathVariable long queueNumber) {
+        return ticketingService.getWaitingRoom().getStatus(queueNumber);
+    }
+
+    /**
+     * Makes the one purchase an admitted buyer is entitled to.
+     *
+     * @param queueNumber The buyer's queue number.
+     * @param request Who is buying and how many tickets.
+     * @return The purchase result.
+     */
+    @PostMapping("/queue/{queueNumber}/purchase")
+    public PurchaseResult purchaseFromQueue(@PathVariable long queueNumber, @RequestBody PurchaseRequest request) {
+        return ticketingService.getWaitingRoom().purchase(queueNumber, request);
+    }
+
+    /**
+     * Starts a load test against a private pool. Fields left out of the body come from the loadTest configuration.
+     *
+     * @param settings Seed, vendor and customer counts, target operations per second and duration; may be omitted.
+     * @return The running report; poll GET /api/load-test for the result.
+     */
+    @PostMapping("/load-test")
+    public ResponseEntity<LoadTestReport> startLoadTest(@RequestBody(required = false) LoadTestSettings settings) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(loadTestService.start(settings));
+    }
+
+    /**
+     * Retrieves the report of the running or most recent load test.
+     *
+     * @return Throughput, latency percentiles and the pool consistency check.
+     */
+    @GetMapping("/load-test")
+    public LoadTestReport getLoadTestReport() {
+        LoadTestReport report = loadTestService.getReport();
+        if (report == null) {
+            throw new NoSuchElementException("No load test has been run.");
+        }
+        return report;
+    }
+
+    /**
+     * Ends the running load test early.
+     *
+     * @return A confirmation message.
+     */
+    @PostMapping("/load-test/stop")
+    public String stopLoadTest() {
+        return loadTestService.stop() ? "Load test stopping." : "No load test is running.";
+    }
+
     /**
      * Retrieves a list of log entries from the logging service.
+     * Without parameters the whole log is returned, as before.
      *
+     * @param offset Index of the first line to return.
+     * @param limit Maximum number of lines to return.
      * @return A list of log messages as strings.
      */
     @GetMapping("/logs")
-    public List<String> getLogs() {
-        return loggingService.getLogs(); // Return list of log entries from logging service
+    public List<String> getLogs(@RequestParam(defaultValue = "0") int offset,
+                                @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int limit) {
+        return loggingService.getLogs(offset, limit); // Return list of log entries from logging service
+    }
+
+    /**
+     * Retrieves only the log entries appended since the caller's last poll.
+     *
+     * @param since The cursor returned by the previous poll (0 on the first poll).
+     * @param limit Maximum number of lines to return.
+     * @return The new lines and the cursor for the next poll.
+     */
+    @GetMapping("/logs/tail")
+    public LogPage tailLogs(@RequestParam(defaultValue = "0") long since,
+                            @RequestParam(defaultValue = "500") int limit) {
+        return loggingService.tail(since, limit); // Return only lines the caller has not seen yet
+    }
+
+    /**
+     * Searches the structured event log. Every filter is optional and they combine.
+     *
+     * @param actor Only records for this vendor or customer, e.g. [Customer-1].
+     * @param type Only records of this event type, e.g. TICKETS_PURCHASED.
+     * @param from Only records at or after this time, in epoch milliseconds.
+     * @param to Only records at or before this time, in epoch milliseconds.
+     * @param cursor The next cursor of the previous page (0 to start at the oldest record).
+     * @param limit Maximum number of records to return.
+     * @return The matching records, oldest first, and the cursor for the next page.
+     */
+    @GetMapping("/logs/search")
+    public EventLogPage searchLogs(@RequestParam(required = false) String actor,
+                                   @RequestParam(required = false) PoolEventType type,
+                                   @RequestParam(defaultValue = "0") long from,
+                                   @RequestParam(defaultValue = "" + Long.MAX_VALUE) long to,
+                                   @RequestParam(defaultValue = "0") long cursor,
+                                   @RequestParam(defaultValue = "100") int limit) {
+        return logSearchService.search(actor, type, from, to, cursor, limit);
+    }
+
+    /**
+     * Retrieves a customer's purchases and cancellations from the ledger, newest first.
+     *
+     * @param name The customer name.
+     * @param before Only entries older than this ledger ID; 0 for the newest. Pass the last ID of a page to get the next.
+     * @param limit Maximum number of entries to return.
+     * @return The ledger entries.
+     */
+    @GetMapping("/ledger/customers")
+    public List<LedgerEntry> getCustomerHistory(@RequestParam String name,
+                                                @RequestParam(defaultValue = "0") long before,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        return ledgerService.customerHistory(name, before, limit);
+    }
+
+    /**
+     * Retrieves a vendor's releases from the ledger, newest first.
+     *
+     * @param name The vendor name.
+     * @param before Only entries older than this ledger ID; 0 for the newest. Pass the last ID of a page to get the next.
+     * @param limit Maximum number of entries to return.
+     * @return The ledger entries.
+     */
+    @GetMapping("/ledger/vendors")
+    public List<LedgerEntry> getVendorHistory(@RequestParam String name,
+                                              @RequestParam(defaultValue = "0") long before,
+                                              @RequestParam(defaultValue = "100") int limit) {
+        return ledgerService.vendorHistory(name, before, limit);
+    }
+
+    /**
+     * Creates an event, or replaces its configuration if it already exists.
+     *
+     * @param eventId The event ID.
+     * @param config The event's configuration.
+     * @return A confirmation message.
+     */
+    @PostMapping("/events/{eventId}/config")
+    public String configureEvent(@PathVariable String eventId, @RequestBody TicketConfig config) {
+        eventRegistry.configure(eventId, config);
+        return "Event " + eventId + " configured: " + config.getTotalTickets() + " tickets.";
+    }
+
+    /**
+     * Starts an event's vendors and customers.
+     *
+     * @param eventId The event ID.
+     * @return A message indicating that the event has started.
+     */
+    @PostMapping("/events/{eventId}/start")
+    public String startEvent(@PathVariable String eventId) {
+        return eventRegistry.startEvent(eventId);
+    }
+
+    /**
+     * Purchases tickets for a batch of buyers from one event.
+     *
+     * @param eventId The event ID.
+     * @param requests The purchase requests, in priority order.
+     * @return One result per request, in the same order, with the purchased ticket IDs.
+     */
+    @PostMapping("/events/{eventId}/purchases")
+    public List<PurchaseResult> purchaseEventBatch(@PathVariable String eventId, @RequestBody List<PurchaseRequest> requests) {
+        return eventRegistry.purchaseBatch(eventId, checkBatch(requests));
+    }
+
+    /**
+     * Reserves tickets from one event for a limited time. Confirm and release use the hold endpoints.
+     *
+     * @param eventId The event ID.
+     * @param request Who is holding, how many tickets and for how many seconds.
+     * @return The hold, or a REJECTED status.
+     */
+    @PostMapping("/events/{eventId}/holds")
+    public HoldStatus holdEventTickets(@PathVariable String eventId, @RequestBody HoldRequest request) {
+        return holdService.hold(eventRegistry.getRunningPool(eventId), request);
+    }
+
+    /**
+     * Joins the waiting room in front of one event's pool.
+     *
+     * @param eventId The event ID.
+     * @return The buyer's queue number, position and estimated wait, or a REJECTED status when sold out.
+     */
+    @PostMapping("/events/{eventId}/queue")
+    public QueueStatus joinEventQueue(@PathVariable String eventId) {
+        return eventRegistry.getWaitingRoom(eventId).joinWithStatus();
+    }
+
+    /**
+     * Reports a buyer's place in one event's waiting room.
+     *
+     * @param eventId The event ID.
+     * @param queueNumber The buyer's queue number.
+     * @return The buyer's position and estimated wait.
+     */
+    @GetMapping("/events/{eventId}/queue/{queueNumber}")
+    public QueueStatus getEventQueueStatus(@PathVariable String eventId, @PathVariable long queueNumber) {
+        return eventRegistry.getWaitingRoom(eventId).getStatus(queueNumber);
+    }
+
+    /**
+     * Makes the one purchase an admitted buyer of one event is entitled to.
+     *
+     * @param eventId The event ID.
+     * @param queueNumber The buyer's queue number.
+     * @param request Who is buying and how many tickets.
+     * @return The purchase result.
+     */
+    @PostMapping("/events/{eventId}/queue/{queueNumber}/purchase")
+    public PurchaseResult purchaseFromEventQueue(@PathVariable String eventId, @PathVariable long queueNumber,
+                                                 @RequestBody PurchaseRequest request) {
+        return eventRegistry.getWaitingRoom(eventId).purchase(queueNumber, request);
+    }
+
+    /**
+     * Stops an event's vendors and customers.
+     *
+     * @param eventId The event ID.
+     * @return A message with the event's remaining tickets.
+     */
+    @PostMapping("/events/{eventId}/stop")
+    public String stopEvent(@PathVariable String eventId) {
+        return eventRegistry.stopEvent(eventId);
+    }
+
+    /**
+     * Stops an event and removes it from the registry.
+     *
+     * @param eventId The event ID.
+     * @return A confirmation message.
+     */
+    @DeleteMapping("/events/{eventId}")
+    public String removeEvent(@PathVariable String eventId) {
+        eventRegistry.removeEvent(eventId);
+        return "Event " + eventId + " removed.";
+    }
+
+    /**
+     * Retrieves the status of one event.
+     *
+     * @param eventId The event ID.
+     * @return The event's pool size, capacity and totals.
+     */
+    @GetMapping("/events/{eventId}/status")
+    public EventStatus getEventStatus(@PathVariable String eventId) {
+        return eventRegistry.getEventStatus(eventId);
+    }
+
+    /**
+     * Retrieves a snapshot of one event's pool counters with per-vendor and per-customer totals and rates.
+     *
+     * @param eventId The event ID.
+     * @param request The web request, for the conditional GET.
+     * @return The snapshot as JSON, or 304 Not Modified.
+     */
+    @GetMapping("/events/{eventId}/status/snapshot")
+    public ResponseEntity<byte[]> getEventStatusSnapshot(@PathVariable String eventId, WebRequest request) {
+        return snapshotResponse(eventRegistry.getStatusPublisher(eventId), request);
+    }
+
+    /**
+     * Retrieves the status of every hosted event.
+     *
+     * @return One status per event.
+     */
+    @GetMapping("/events")
+    public List<EventStatus> getEvents() {
+        return eventRegistry.getEventStatuses();
+    }
+
+    private static ResponseEntity<byte[]> snapshotResponse(PoolStatusPublisher publisher, WebRequest request) {
+        PoolStatusPublisher.Published published = publisher.getPublished();
+        PoolSnapshot snapshot = published.getSnapshot();
+        String etag = "\"" + snapshot.getTimestampMillis() + "-" + snapshot.getVersion() + "\""; // Versions restart with each pool
+        if (request.checkNotModified(etag)) {
+            return null; // The response has been committed as 304 Not Modified
+        }
+        return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(published.getJson());
+    }
+
+    private static List<PurchaseRequest> checkBatch(List<PurchaseRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_PURCHASE_BATCH || requests.contains(null)) {
+            throw new IllegalArgumentException("A purchase batch must hold between 1 and " + MAX_PURCHASE_BATCH + " requests.");
+        }
+        return requests;
+    }
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> handleUnknownEvent(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleConflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AdaptiveRelease sizes the batches of vendors in ADAPTIVE release mode, shared by every vendor of one pool.
+ * <p>
+ * It keeps a smoothed estimate of how fast customers are buying, sampled from the pool's purchase total
+ * at most every {@value #SAMPLE_MILLIS} ms by whichever vendor gets there first. Each vendor then releases
+ * its share of that demand for one tick, plus a share of the distance between the pool's size and the
+ * target fill level, never more than its release rate allows and never more than fits. When the pool sits
+ * at or above the target and nobody is buying, the batch is zero and the vendor backs off for a few ticks
+ * without touching the pool at all.
+ */
+public class AdaptiveRelease {
+
+    static final long SAMPLE_MILLIS = 250; // Shortest time between two demand samples
+    private static final double SMOOTHING = 0.3; // Weight of the newest sample in the demand estimate
+    private static final double GAIN = 0.5; // Fraction of the distance to the target closed per tick
+    static final int MAX_IDLE_TICKS = 4; // Most ticks a vendor skips while nothing needs releasing
+
+    private final TicketPool pool;
+    private final int targetFillPercent; // Pool size the vendors aim for, as a percentage of capacity
+    private final AtomicInteger vendors = new AtomicInteger(); // Vendors sharing the demand
+    private final AtomicBoolean sampling = new AtomicBoolean(); // Held by the one vendor taking a sample
+    private volatile double demandPerSecond; // Smoothed purchase rate
+    private long lastPurchased; // Purchase total at the last sample, only touched while sampling
+    private volatile long lastSampleNanos;
+
+    /**
+     * Creates the shared release controller of a pool.
+     *
+     * @param pool The pool the vendors release into.
+     * @param targetFillPercent The fill level to aim for, between 1 and 100 percent of capacity.
+     */
+    public AdaptiveRelease(TicketPool pool, int targetFillPercent) {
+        this.pool = pool;
+        this.targetFillPercent = Math.max(1, Math.min(100, targetFillPercent));
+        this.lastPurchased = pool.getTotalTicketsPurchasedByCustomers();
+        this.lastSampleNanos = System.nanoTime();
+    }
+
+    /**
+     * Counts another vendor sharing the demand. Called by each adaptive vendor when it is created.
+     */
+    void register() {
+        vendors.incrementAndGet();
+    }
+
+    /**
+     * Returns how many tickets one vendor should release on this tick.
+     *
+     * @param batchLimit The vendor's largest batch per tick.
+     * @param tickIntervalMillis The vendor's tick interval.
+     * @return The batch size, 0 if nothing needs releasing.
+     */
+    int nextBatch(int batchLimit, long tickIntervalMillis) {
+        sample();
+        int capacity = pool.getMaxCapacity();
+        int size = pool.getCurrentSize();
+        int sharing = Math.max(1, vendors.get());
+        double target = capacity * targetFillPercent / 100.0;
+        double wanted = (demandPerSecond * tickIntervalMillis / 1000.0 + GAIN * (target - size)) / sharing;
+        int batch = (int) Math.ceil(wanted); // Rounds up, so a pool just below the target still gets its last tickets
+        return Math.max(0, Math.min(batch, Math.min(batchLimit, capacity - size)));
+    }
+
+    /**
+     * Returns the current demand estimate.
+     *
+     * @return Tickets bought per second, smoothed.
+     */
+    public double getDemandPerSecond() {
+        return demandPerSecond;
+    }
+
+    /**
+     * Returns the fill level the vendors aim for.
+     *
+     * @return The target as a percentage of capacity.
+     */
+    public int getTargetFillPercent() {
+        return targetFillPercent;
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        if (now - lastSampleNanos < SAMPLE_MILLIS * 1_000_000 || !sampling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long elapsed = now - lastSampleNanos;
+            if (elapsed >= SAMPLE_MILLIS * 1_000_000) { // Not sampled while we raced for the flag
+                long purchased = pool.getTotalTicketsPurchasedByCustomers();
+                double rate = (purchased - lastPurchased) * 1e9 / elapsed;
+                demandPerSecond = demandPerSecond == 0 ? rate : SMOOTHING * rate + (1 - SMOOTHING) * demandPerSecond;
+                lastPurchased = purchased;
+                lastSampleNanos = now;
+            }
+        } finally {
+            sampling.set(false);
+        }
+    }
+}
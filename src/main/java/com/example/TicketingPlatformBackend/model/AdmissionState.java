@@ -0,0 +1,14 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * AdmissionState is where a queue number stands in a {@link WaitingRoom}.
+ */
+public enum AdmissionState {
+    WAITING,  // Still in the queue
+    ADMITTED, // May make one purchase
+    USED,     // The admission has already been used for a purchase
+    EXPIRED,  // Admitted too long ago; the buyer must join again
+    SOLD_OUT, // The pool is empty, so waiting is pointless
+    REJECTED, // Turned away on joining because the pool was empty
+    UNKNOWN   // Not a number this waiting room handed out
+}
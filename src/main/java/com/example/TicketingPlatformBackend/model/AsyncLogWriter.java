@@ -0,0 +1,298 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * AsyncLogWriter moves log I/O off the purchase path. Producers claim a slot in a bounded ring of
+ * preallocated {@link PoolEvent}s, fill in plain fields and publish it; a single background thread
+ * drains the ring in batches, formats the events and writes each batch with one flush.
+ * <p>
+ * What a producer does when the ring is full is decided by the {@link LogOverflowPolicy}. An event that
+ * cannot be written is counted as dropped and its slot released, so a failing disk never stalls the ring;
+ * should the writer thread die anyway, producers drop instead of waiting for it.
+ * When {@link EventLogSegments} are given, every record is also written as one JSON line, flushed with the same batch.
+ */
+public class AsyncLogWriter {
+    private static final int MAX_BATCH = 512; // Events written per flush at most
+    private static final long IDLE_PARK_NANOS = 1_000_000; // Writer back-off while the ring is empty
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("MMM dd, yyyy h:mm:ss a")
+            .withZone(ZoneId.systemDefault());
+
+    private final PoolEvent[] slots; // Preallocated events, reused lap after lap
+    private final AtomicLongArray sequences; // Per-slot turn markers shared by producers and the writer
+    private final int mask; // Slot count minus one
+    private final AtomicLong tail = new AtomicLong(); // Next position a producer will claim
+    private long head; // Next position the writer will read (writer thread only)
+
+    private final Writer out; // Destination, flushed once per batch
+    private final String loggerName; // Printed in the header line of every record
+    private final EventLogSegments structured; // JSON-lines copy of every record, or null
+    private final StringBuilder line = new StringBuilder(256); // Reused by the writer thread
+    private char[] chars = new char[256]; // Reused copy buffer between the builder and the writer
+    private final LongAdder dropped = new LongAdder(); // Events discarded under the DROP policy or lost to a failed write
+    private long droppedReported; // Dropped count already written to the log
+    private final Thread writerThread;
+    private volatile LogOverflowPolicy overflowPolicy;
+    private volatile boolean running = true;
+
+    /**
+     * Creates a writer appending to the given file and starts its background thread.
+     *
+     * @param path The log file to append to.
+     * @param loggerName The name printed in each record's header line.
+     * @param bufferSize Number of ring slots (rounded up to a power of two).
+     * @param overflowPolicy What producers do when the ring is full.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public AsyncLogWriter(String path, String loggerName, int bufferSize, LogOverflowPolicy overflowPolicy) throws IOException {
+        this(path, null, loggerName, bufferSize, overflowPolicy);
+    }
+
+    /**
+     * Creates a writer appending to the given file and, for each record, one JSON line to the structured segments.
+     *
+     * @param path The log file to append to.
+     * @param structured Segments receiving the structured copy, or null for none.
+     * @param loggerName The name printed in each record's header line.
+     * @param bufferSize Number of ring slots (rounded up to a power of two).
+     * @param overflowPolicy What producers do when the ring is full.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public AsyncLogWriter(String path, EventLogSegments structured, String loggerName, int bufferSize,
+                          LogOverflowPolicy overflowPolicy) throws IOException {
+        this(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path, true), StandardCharsets.UTF_8), 1 << 16),
+                structured, loggerName, bufferSize, overflowPolicy);
+    }
+
+    AsyncLogWriter(Writer out, String loggerName, int bufferSize, LogOverflowPolicy overflowPolicy) {
+        this(out, null, loggerName, bufferSize, overflowPolicy);
+    }
+
+    AsyncLogWriter(Writer out, EventLogSegments structured, String loggerName, int bufferSize, LogOverflowPolicy overflowPolicy) {
+        int size = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.slots = new PoolEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new PoolEvent();
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.out = out;
+        this.structured = structured;
+        this.loggerName = loggerName;
+        this.overflowPolicy = overflowPolicy;
+        this.writerThread = new Thread(this::drainLoop, "async-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Claims a slot for a new event. The caller must fill the returned slot's event and then call {@link #publish(long)}.
+     *
+     * @return The claimed position, or -1 if the ring is full and the DROP policy discarded the event.
+     */
+    long claim() {
+        int spins = 0;
+        while (true) {
+            long position = tail.get();
+            long difference = sequences.get((int) position & mask) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (difference < 0) { // Full: the writer has not consumed this slot's previous lap yet
+                if (overflowPolicy == LogOverflowPolicy.DROP || !running || !writerThread.isAlive()) {
+                    dropped.increment();
+                    return -1;
+                }
+                if (++spins < 64) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the event stored at a claimed position.
+     */
+    PoolEvent slot(long position) {
+        return slots[(int) position & mask];
+    }
+
+    /**
+     * Hands a filled slot to the writer thread.
+     */
+    void publish(long position) {
+        sequences.lazySet((int) position & mask, position + 1);
+    }
+
+    /**
+     * Records a free-form message.
+     *
+     * @param level The log level.
+     * @param message The already formatted message text.
+     */
+    public void message(Level level, String message) {
+        long position = claim();
+        if (position < 0) {
+            return;
+        }
+        PoolEvent event = slot(position);
+        event.set(PoolEventType.MESSAGE, null, 0, 0, 0);
+        event.level = level;
+        event.message = message;
+        publish(position);
+    }
+
+    public void setOverflowPolicy(LogOverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public LogOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns how many events have been discarded because the ring was full or they could not be written.
+     *
+     * @return The dropped event count.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns how many published events are still waiting to be written.
+     *
+     * @return The backlog size.
+     */
+    public long getBacklog() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Stops accepting waits, writes everything already published and closes the file.
+     *
+     * @param timeoutMillis How long to wait for the writer thread to drain.
+     */
+    public void close(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        while (running || sequences.get((int) head & mask) == head + 1) {
+            int written;
+            try {
+                written = drainBatch();
+            } catch (RuntimeException e) {
+                System.err.println("Failed to write log batch: " + e);
+                written = 0;
+            }
+            if (written == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close log file: " + e.getMessage());
+        }
+        if (structured != null) {
+            structured.close();
+        }
+    }
+
+    private int drainBatch() {
+        int written = 0;
+        try {
+            while (written < MAX_BATCH) {
+                int index = (int) head & mask;
+                if (sequences.get(index) != head + 1) {
+                    break; // Nothing published at this position yet
+                }
+                try {
+                    write(slots[index]);
+                } catch (IOException | RuntimeException e) {
+                    dropped.increment(); // Lose this event rather than retry it forever
+                    System.err.println("Failed to write log event: " + e);
+                } finally {
+                    sequences.lazySet(index, head + mask + 1); // Release the slot for the next lap
+                    head++;
+                    written++;
+                }
+            }
+            long droppedNow = dropped.sum();
+            if (droppedNow != droppedReported) {
+                writeDroppedNotice(droppedNow - droppedReported);
+                droppedReported = droppedNow;
+                written++;
+            }
+            if (written > 0) {
+                out.flush(); // One write to disk for the whole batch
+                if (structured != null) {
+                    structured.flush();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write log batch: " + e.getMessage());
+        }
+        return written;
+    }
+
+    private void write(PoolEvent event) throws IOException {
+        line.setLength(0);
+        appendHeader(event.timestampMillis, event.level);
+        event.appendMessage(line);
+        writeLine();
+        if (structured != null) {
+            structured.append(event);
+        }
+    }
+
+    private void writeDroppedNotice(long count) throws IOException {
+        line.setLength(0);
+        appendHeader(System.currentTimeMillis(), Level.WARNING);
+        line.append(count).append(" log event(s) dropped because the log buffer was full or they could not be written.");
+        writeLine();
+    }
+
+    private void writeLine() throws IOException {
+        line.append(System.lineSeparator());
+        int length = line.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        line.getChars(0, length, chars, 0);
+        out.write(chars, 0, length);
+    }
+
+    /**
+     * Writes the same two-line layout as java.util.logging.SimpleFormatter, so existing log readers keep working.
+     */
+    private void appendHeader(long timestampMillis, Level level) {
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(timestampMillis), line);
+        line.append(' ').append(loggerName).append(System.lineSeparator())
+                .append(level.getLocalizedName()).append(": ");
+    }
+}
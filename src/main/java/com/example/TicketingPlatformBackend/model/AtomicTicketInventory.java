@@ -0,0 +1,64 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AtomicTicketInventory keeps the available count in a single counter updated with compare-and-set loops.
+ */
+class AtomicTicketInventory implements TicketInventory {
+    private final AtomicInteger currentTickets; // Current number of tickets available
+    private volatile int maxCapacity; // Maximum number of tickets that can be held
+
+    AtomicTicketInventory(int initialTickets, int maxCapacity) {
+        this.currentTickets = new AtomicInteger(initialTickets);
+        this.maxCapacity = maxCapacity;
+    }
+
+    @Override
+    public boolean tryAdd(int tickets) {
+        int available;
+        do {
+            available = currentTickets.get();
+            if (available + tickets > maxCapacity) {
+                return false;
+            }
+        } while (!currentTickets.compareAndSet(available, available + tickets));
+        return true;
+    }
+
+    @Override
+    public int tryAddUpTo(int tickets) {
+        int available;
+        int added;
+        do {
+            available = currentTickets.get();
+            added = Math.min(tickets, maxCapacity - available);
+            if (added <= 0) {
+                return 0;
+            }
+        } while (!currentTickets.compareAndSet(available, available + added));
+        return added;
+    }
+
+    @Override
+    public void setMaxCapacity(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    @Override
+    public boolean tryTake(int tickets) {
+        int available;
+        do {
+            available = currentTickets.get();
+            if (available < tickets) {
+                return false;
+            }
+        } while (!currentTickets.compareAndSet(available, available - tickets));
+        return true;
+    }
+
+    @Override
+    public int available() {
+        return currentTickets.get();
+    }
+}
@@ -1,31 +1,68 @@
 package com.example.TicketingPlatformBackend.model;
 
+import java.util.Arrays;
 import java.util.Random;
 import java.util.logging.Level;
 
 /**
  * The Customer class represents a customer in the ticketing system.
- * It implements the Runnable interface to allow concurrent ticket purchasing.
+ * It implements the Participant interface so it can purchase tickets on its own thread
+ * or be ticked by a shared scheduler.
  */
-public class Customer implements Runnable {
+public class Customer implements Participant {
     private final TicketPool ticketPool; // Shared TicketPool instance for managing tickets
     private final String name; // Name of the customer
-    private final int retrievalRate; // Maximum number of tickets the customer can attempt to purchase per interval
+    private volatile int retrievalRate; // Maximum number of tickets the customer can attempt to purchase per second
+    private final long tickIntervalMillis; // Time between two purchase attempts
+    private final RateBudget budget; // Largest purchase each tick allows, carrying fractional credit across ticks
     private final Random random = new Random(); // Random generator for simulating ticket purchases
 
     private int canceledTickets = 0; // Counter to track the number of canceled tickets
+    private int[] heldTicketIds = new int[16]; // IDs of tickets this customer currently holds, oldest first
+    private int heldTicketCount = 0; // Number of valid entries in heldTicketIds
+    private int pendingCancellation = 0; // Tickets from the previous purchase to cancel on the next tick
+    private final WaitingRoom waitingRoom; // Queue the customer waits in before each purchase, or null to buy directly
+    private long queueNumber = 0; // The customer's place in the waiting room, 0 when not queued
 
     /**
      * Constructs a Customer with a specified TicketPool, name, and retrieval rate.
      *
      * @param ticketPool The shared TicketPool where tickets will be purchased.
      * @param name The name of the customer.
-     * @param retrievalRate The maximum number of tickets to purchase per interval.
+     * @param retrievalRate The maximum number of tickets to purchase per second.
      */
     public Customer(TicketPool ticketPool, String name, int retrievalRate) {
+        this(ticketPool, name, retrievalRate, 1000);
+    }
+
+    /**
+     * Constructs a Customer that attempts purchases at a custom interval.
+     *
+     * @param ticketPool The shared TicketPool where tickets will be purchased.
+     * @param name The name of the customer.
+     * @param retrievalRate The maximum number of tickets to purchase per second.
+     * @param tickIntervalMillis The time between two purchase attempts; sub-second intervals buy proportionally smaller batches.
+     */
+    public Customer(TicketPool ticketPool, String name, int retrievalRate, long tickIntervalMillis) {
+        this(ticketPool, name, retrievalRate, tickIntervalMillis, null);
+    }
+
+    /**
+     * Constructs a Customer that queues in a waiting room before every purchase.
+     *
+     * @param ticketPool The shared TicketPool where tickets will be purchased.
+     * @param name The name of the customer.
+     * @param retrievalRate The maximum number of tickets to purchase per second.
+     * @param tickIntervalMillis The time between two purchase attempts.
+     * @param waitingRoom The waiting room in front of the pool, or null to buy directly.
+     */
+    public Customer(TicketPool ticketPool, String name, int retrievalRate, long tickIntervalMillis, WaitingRoom waitingRoom) {
         this.ticketPool = ticketPool;
+        this.waitingRoom = waitingRoom;
         this.name = name;
         this.retrievalRate = retrievalRate;
+        this.tickIntervalMillis = tickIntervalMillis;
+        this.budget = new RateBudget(retrievalRate, tickIntervalMillis);
     }
 
     @Override
@@ -33,16 +70,9 @@ public class Customer implements Runnable {
         // Continuously attempt to purchase tickets until the thread is interrupted
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                // Simulate ticket purchase based on retrieval rate
-                int ticketsToPurchase = random.nextInt(retrievalRate) + 1; // Randomly purchase between 1 and retrieval rate
-                ticketPool.removeTicket(ticketsToPurchase, name); // Attempt to remove tickets from the pool
-
-                Thread.sleep(1000); // Wait for 1 second before trying to purchase more
+                tick();
 
-                // Simulate cancellation after some time (for demonstration)
-                if (random.nextBoolean()) { // Randomly decide whether to cancel some purchases
-                    cancelPurchase(ticketsToPurchase); // Track canceled tickets for admin return
-                }
+                Thread.sleep(tickIntervalMillis); // Wait for the next interval before trying to purchase more
 
             } catch (InterruptedException e) { // Handle interruption gracefully
                 Thread.currentThread().interrupt(); // Restore interrupt status
@@ -52,16 +82,128 @@ public class Customer implements Runnable {
     }
 
     /**
-     * Cancels a specified number of tickets and updates the canceledTickets counter.
+     * Performs one purchase attempt. A cancellation decided on the previous tick is carried out first,
+     * so canceled tickets are returned one interval after they were bought.
+     */
+    @Override
+    public void tick() {
+        // Simulate cancellation after some time (for demonstration)
+        if (pendingCancellation > 0) {
+            cancelPurchase(pendingCancellation); // Track canceled tickets for admin return
+            pendingCancellation = 0;
+        }
+
+        int batchLimit = budget.nextLimit();
+        if (batchLimit == 0) {
+            return; // Below one ticket of credit; slow rates on short intervals buy every few ticks
+        }
+        if (!admitted()) {
+            return; // Still queued; the customer checks its place again on the next tick
+        }
+
+        // Simulate ticket purchase based on retrieval rate
+        int ticketsToPurchase = random.nextInt(batchLimit) + 1; // Randomly purchase between 1 and the batch limit
+        budget.spend(ticketsToPurchase); // Attempts count against the rate whether or not they succeed
+        boolean purchased = purchase(ticketsToPurchase); // Attempt to remove tickets from the pool
+
+        if (purchased && random.nextBoolean()) { // Only tickets that were actually bought can be canceled
+            pendingCancellation = ticketsToPurchase;
+        }
+    }
+
+    /**
+     * Moves the customer through the waiting room: joins when not queued, and uses the admission once
+     * its turn has come. A customer whose admission expired or was turned away joins again later.
+     * While the pool is sold out the customer keeps its place in case tickets are returned.
+     *
+     * @return true if the customer may purchase on this tick.
+     */
+    private boolean admitted() {
+        if (waitingRoom == null) {
+            return true;
+        }
+        if (queueNumber <= 0) {
+            queueNumber = Math.max(0, waitingRoom.join()); // Sold out joins are refused without touching the pool
+            return false;
+        }
+        AdmissionState state = waitingRoom.claim(queueNumber);
+        if (state == AdmissionState.ADMITTED) {
+            queueNumber = 0; // Each admission covers one purchase
+            return true;
+        }
+        if (state != AdmissionState.WAITING && state != AdmissionState.SOLD_OUT) {
+            queueNumber = 0;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the configured per-second rate for this participant.
+     *
+     * @return The maximum number of tickets per second.
+     */
+    public int getRetrievalRate() {
+        return retrievalRate;
+    }
+
+    /**
+     * Changes the per-second rate while the participant is running. The next purchase attempt uses the new rate.
+     *
+     * @param retrievalRate The new maximum number of tickets per second.
+     */
+    public void setRetrievalRate(int retrievalRate) {
+        budget.setRate(retrievalRate);
+        this.retrievalRate = retrievalRate;
+    }
+
+    @Override
+    public long getTickIntervalMillis() {
+        return tickIntervalMillis;
+    }
+
+    /**
+     * Buys tickets from the pool and records their IDs as held by this customer.
+     *
+     * @param ticketsToPurchase The number of tickets to buy.
+     * @return true if the tickets were purchased.
+     */
+    public boolean purchase(int ticketsToPurchase) {
+        if (heldTicketCount + ticketsToPurchase > heldTicketIds.length) {
+            heldTicketIds = Arrays.copyOf(heldTicketIds, Math.max(heldTicketIds.length * 2, heldTicketCount + ticketsToPurchase));
+        }
+        if (ticketPool.removeTicket(ticketsToPurchase, name, heldTicketIds, heldTicketCount)) {
+            heldTicketCount += ticketsToPurchase; // The pool wrote the purchased IDs straight into our held list
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Cancels the customer's most recently purchased tickets and returns exactly those tickets to the pool.
      *
      * @param numberOfCanceledTickets The number of tickets that the customer wishes to cancel.
      */
     public void cancelPurchase(int numberOfCanceledTickets) {
-        this.canceledTickets += numberOfCanceledTickets; // Increment the count of canceled tickets
-        LoggingUtility.getLogger().log(Level.INFO, "{0} canceled {1} ticket(s).", new Object[]{name, numberOfCanceledTickets});
+        int ticketsToCancel = Math.min(numberOfCanceledTickets, heldTicketCount); // Only held tickets can be canceled
+        if (ticketsToCancel == 0) {
+            return;
+        }
+        LoggingUtility.getLogger().log(Level.INFO, "{0} canceled {1} ticket(s).", new Object[]{name, ticketsToCancel});
 
         // Notify admin to return these canceled tickets back to the pool immediately
-        ticketPool.adminRemoveTicket(numberOfCanceledTickets, name);
+        if (ticketPool.adminRemoveTicket(heldTicketIds, heldTicketCount - ticketsToCancel, ticketsToCancel, name)) {
+            heldTicketCount -= ticketsToCancel;
+            this.canceledTickets += ticketsToCancel; // Increment the count of canceled tickets
+        }
+    }
+
+    /**
+     * Returns the IDs of the tickets this customer currently holds.
+     *
+     * @return A copy of the held ticket IDs, oldest first.
+     */
+    public int[] getHeldTicketIds() {
+        return Arrays.copyOf(heldTicketIds, heldTicketCount);
     }
 
     /**
@@ -85,6 +227,7 @@ public class Customer implements Runnable {
      *
      * @return The customer's name.
      */
+    @Override
     public String getName() {
         return name; // Getter for accessing the customer's name
     }
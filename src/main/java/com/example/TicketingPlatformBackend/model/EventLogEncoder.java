@@ -0,0 +1,193 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.Arrays;
+
+/**
+ * EventLogEncoder turns {@link PoolEvent}s into JSON lines with a fixed field order:
+ * <pre>
+ * {"ts":1700000000000,"level":"INFO","type":"TICKETS_PURCHASED","actor":"[Customer-1]","count":2,"poolSize":8,"capacity":10,"tickets":[4,5]}
+ * </pre>
+ * MESSAGE events carry a "message" field instead of "tickets". The encoder writes UTF-8 straight into
+ * a reused byte buffer, so encoding allocates nothing once the buffer has grown to the batch size.
+ * An encoder is not thread safe; each encoding thread owns one.
+ */
+public class EventLogEncoder {
+    private byte[] buffer; // Encoded lines waiting to be written
+    private int length; // Bytes used in the buffer
+
+    public EventLogEncoder() {
+        this(64 * 1024);
+    }
+
+    /**
+     * Creates an encoder with a buffer of the given starting size.
+     *
+     * @param initialCapacity Bytes allocated up front; the buffer grows as needed.
+     */
+    public EventLogEncoder(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Appends one event as a single JSON line.
+     *
+     * @param event The event to encode.
+     * @return The number of bytes the line took.
+     */
+    public int append(PoolEvent event) {
+        int start = length;
+        ascii("{\"ts\":");
+        number(event.timestampMillis);
+        ascii(",\"level\":\"");
+        ascii(event.level.getName());
+        ascii("\",\"type\":\"");
+        ascii(event.type.name());
+        ascii("\",\"actor\":");
+        string(event.actor);
+        ascii(",\"count\":");
+        number(event.count);
+        ascii(",\"poolSize\":");
+        number(event.poolSize);
+        ascii(",\"capacity\":");
+        number(event.capacity);
+        if (event.type == PoolEventType.MESSAGE) {
+            ascii(",\"message\":");
+            string(event.message);
+        } else {
+            ascii(",\"tickets\":[");
+            for (int i = 0; i < event.ticketIdCount; i++) {
+                if (i > 0) {
+                    put((byte) ',');
+                }
+                number(event.ticketIds[i]);
+            }
+            put((byte) ']');
+        }
+        put((byte) '}');
+        put((byte) '\n');
+        return length - start;
+    }
+
+    /**
+     * Appends a JSON string value, or null. Exposed so searches can build needles that match the encoded form exactly.
+     *
+     * @param value The string to quote and escape.
+     */
+    public void string(String value) {
+        if (value == null) {
+            ascii("null");
+            return;
+        }
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (c < 0x20) {
+                escapeControl(c);
+            } else if (c < 0x80) {
+                put((byte) c);
+            } else if (c < 0x800) {
+                put((byte) (0xC0 | (c >> 6)));
+                put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                put((byte) (0xF0 | (codePoint >> 18)));
+                put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                put((byte) (0xE0 | (c >> 12)));
+                put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        put((byte) '"');
+    }
+
+    /**
+     * Appends plain ASCII text without quoting.
+     *
+     * @param text The text to append.
+     */
+    public void ascii(String text) {
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[length++] = (byte) text.charAt(i);
+        }
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Empties the buffer after its contents have been written.
+     */
+    public void reset() {
+        length = 0;
+    }
+
+    /**
+     * Returns a copy of the bytes encoded so far.
+     *
+     * @return The encoded bytes.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private void escapeControl(char c) {
+        switch (c) {
+            case '\n' -> ascii("\\n");
+            case '\r' -> ascii("\\r");
+            case '\t' -> ascii("\\t");
+            default -> {
+                ascii("\\u00");
+                put(hex(c >> 4));
+                put(hex(c & 0xF));
+            }
+        }
+    }
+
+    private static byte hex(int digit) {
+        return (byte) (digit < 10 ? '0' + digit : 'a' + digit - 10);
+    }
+
+    private void number(long value) {
+        ensure(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        if (value == 0) {
+            buffer[length++] = '0';
+            return;
+        }
+        int digits = 0;
+        for (long rest = value; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        buffer[length++] = b;
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(length + extra, buffer.length * 2));
+        }
+    }
+}
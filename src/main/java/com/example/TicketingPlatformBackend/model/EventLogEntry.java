@@ -0,0 +1,65 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * EventLogEntry is one record read back from the structured event log.
+ */
+public class EventLogEntry {
+    private final long timestampMillis; // When the event happened
+    private final String level; // Log level name
+    private final PoolEventType type; // What happened
+    private final String actor; // Vendor or customer name, null for messages
+    private final int count; // Number of tickets involved
+    private final int poolSize; // Pool size right after the event
+    private final int capacity; // Maximum capacity of the pool
+    private final int[] ticketIds; // First few ticket IDs involved
+    private final String message; // Text of MESSAGE records, null otherwise
+
+    public EventLogEntry(long timestampMillis, String level, PoolEventType type, String actor, int count,
+                         int poolSize, int capacity, int[] ticketIds, String message) {
+        this.timestampMillis = timestampMillis;
+        this.level = level;
+        this.type = type;
+        this.actor = actor;
+        this.count = count;
+        this.poolSize = poolSize;
+        this.capacity = capacity;
+        this.ticketIds = ticketIds;
+        this.message = message;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public PoolEventType getType() {
+        return type;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int[] getTicketIds() {
+        return ticketIds;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.List;
+
+/**
+ * EventLogPage is one page of structured log search results, together with the cursor to resume from.
+ */
+public class EventLogPage {
+    private final List<EventLogEntry> entries; // Matching records, oldest first
+    private final long nextCursor; // Position to pass as "cursor" for the next page or a later poll
+    private final boolean reset; // True if segments the cursor pointed into were deleted by rotation
+
+    public EventLogPage(List<EventLogEntry> entries, long nextCursor, boolean reset) {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+        this.reset = reset;
+    }
+
+    public List<EventLogEntry> getEntries() {
+        return entries;
+    }
+
+    public long getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * EventLogSegments keeps the structured event log as numbered JSON-lines files
+ * (events-000001.jsonl, events-000002.jsonl, ...) in one directory. A segment is closed once it
+ * reaches the size cap and the oldest segments are deleted beyond the retention count, so the log
+ * never grows without bound. Lines are encoded into one reused {@link EventLogEncoder} and written
+ * once per batch.
+ * <p>
+ * Only the log writer thread appends; readers list the segments and read them independently.
+ */
+public class EventLogSegments {
+    private static final String PREFIX = "events-";
+    private static final String SUFFIX = ".jsonl";
+
+    private final Path directory; // Where the segments live
+    private final long segmentBytes; // Size at which the current segment is closed
+    private final int maxSegments; // Segments kept, including the current one
+    private final EventLogEncoder encoder = new EventLogEncoder(); // Owned by the writer thread
+    private FileChannel channel; // Current segment, opened for append
+    private long sequence; // Number of the current segment
+    private long segmentSize; // Bytes already written to the current segment
+
+    /**
+     * Opens the newest existing segment for append, or starts the first one.
+     *
+     * @param directory Directory holding the segments, created if missing.
+     * @param segmentBytes Size at which a segment is closed and the next one started.
+     * @param maxSegments Number of segments to keep.
+     * @throws IOException If the directory or segment cannot be opened.
+     */
+    public EventLogSegments(Path directory, long segmentBytes, int maxSegments) throws IOException {
+        if (segmentBytes <= 0 || maxSegments < 1) {
+            throw new IllegalArgumentException("Segments need a positive size and a retention of at least one.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        Files.createDirectories(directory);
+        List<Path> existing = list(directory);
+        sequence = existing.isEmpty() ? 1 : sequenceOf(existing.get(existing.size() - 1));
+        open();
+        if (segmentSize >= segmentBytes) {
+            rotate();
+        }
+    }
+
+    /**
+     * Encodes an event into the pending batch, starting a new segment first if the line would not fit.
+     *
+     * @param event The event to record.
+     */
+    public void append(PoolEvent event) {
+        int pending = encoder.getLength();
+        int line = encoder.append(event);
+        if (segmentSize + pending + line > segmentBytes && segmentSize + pending > 0) {
+            try {
+                write(0, pending); // Finish the current segment with the lines that fit
+                rotate();
+                write(pending, line);
+            } catch (IOException e) {
+                System.err.println("Failed to rotate event log: " + e.getMessage());
+            }
+            encoder.reset();
+        }
+    }
+
+    /**
+     * Writes the pending batch to the current segment.
+     */
+    public void flush() {
+        if (encoder.getLength() == 0) {
+            return;
+        }
+        try {
+            write(0, encoder.getLength());
+        } catch (IOException e) {
+            System.err.println("Failed to write event log batch: " + e.getMessage());
+        }
+        encoder.reset();
+    }
+
+    /**
+     * Writes the pending batch and closes the current segment.
+     */
+    public void close() {
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close event log: " + e.getMessage());
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Lists the segments in a directory, oldest first.
+     *
+     * @param directory The segment directory.
+     * @return The segment files, empty if the directory does not exist.
+     * @throws IOException If the directory cannot be listed.
+     */
+    public static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files.filter(file -> sequenceOf(file) > 0)
+                    .sorted(Comparator.comparingLong(EventLogSegments::sequenceOf))
+                    .toList());
+        }
+    }
+
+    /**
+     * Returns a segment file's number.
+     *
+     * @param file A path in the segment directory.
+     * @return The segment number, or -1 if the file is not a segment.
+     */
+    public static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void write(int offset, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(encoder.getBuffer(), offset, length);
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        segmentSize += length;
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        sequence++;
+        open();
+        List<Path> segments = list(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private void open() throws IOException {
+        Path file = directory.resolve(String.format("%s%06d%s", PREFIX, sequence, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentSize = channel.size();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * EventStatus is a point-in-time summary of one hosted event, returned by the event endpoints.
+ */
+public class EventStatus {
+    private final String eventId; // The event's registry key
+    private final boolean running; // True while vendors and customers are active
+    private final int currentTicketsAvailable; // Tickets in the pool, 0 if the event was never started
+    private final int maxTicketCapacity; // The event's configured pool capacity
+    private final int totalTicketsAdded; // Tickets released by vendors, including the initial tickets
+    private final int totalTicketsPurchased; // Tickets bought by customers
+    private final int totalTicketsReturned; // Canceled tickets returned to the pool
+
+    public EventStatus(String eventId, boolean running, int currentTicketsAvailable, int maxTicketCapacity,
+                       int totalTicketsAdded, int totalTicketsPurchased, int totalTicketsReturned) {
+        this.eventId = eventId;
+        this.running = running;
+        this.currentTicketsAvailable = currentTicketsAvailable;
+        this.maxTicketCapacity = maxTicketCapacity;
+        this.totalTicketsAdded = totalTicketsAdded;
+        this.totalTicketsPurchased = totalTicketsPurchased;
+        this.totalTicketsReturned = totalTicketsReturned;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getCurrentTicketsAvailable() {
+        return currentTicketsAvailable;
+    }
+
+    public int getMaxTicketCapacity() {
+        return maxTicketCapacity;
+    }
+
+    public int getTotalTicketsAdded() {
+        return totalTicketsAdded;
+    }
+
+    public int getTotalTicketsPurchased() {
+        return totalTicketsPurchased;
+    }
+
+    public int getTotalTicketsReturned() {
+        return totalTicketsReturned;
+    }
+}
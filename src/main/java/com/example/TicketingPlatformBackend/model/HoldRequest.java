@@ -0,0 +1,43 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * HoldRequest asks for tickets to be reserved for a customer for a limited time.
+ */
+public class HoldRequest {
+    private String customerName; // Buyer name used in the log
+    private int quantity; // Tickets to reserve, all-or-nothing
+    private int holdSeconds; // How long the hold lasts, 0 for the default
+
+    public HoldRequest() {
+    }
+
+    public HoldRequest(String customerName, int quantity, int holdSeconds) {
+        this.customerName = customerName;
+        this.quantity = quantity;
+        this.holdSeconds = holdSeconds;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public int getHoldSeconds() {
+        return holdSeconds;
+    }
+
+    public void setHoldSeconds(int holdSeconds) {
+        this.holdSeconds = holdSeconds;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * HoldStatus describes a ticket hold after an operation on it.
+ */
+public class HoldStatus {
+    public static final String HELD = "HELD"; // Reserved and waiting for confirmation
+    public static final String CONFIRMED = "CONFIRMED"; // Purchased
+    public static final String RELEASED = "RELEASED"; // Given up by the customer and returned to the pool
+    public static final String REJECTED = "REJECTED"; // Not enough tickets to reserve
+
+    private final long holdId; // Identifier for confirm and release, 0 if rejected
+    private final String customerName; // Buyer name from the request
+    private final int quantity; // Tickets requested
+    private final int[] ticketIds; // Held or purchased ticket IDs, empty if rejected
+    private final long expiresAtMillis; // Epoch time at which an unconfirmed hold is returned to the pool
+    private final String state; // One of the constants above
+    private final String reason; // Why the hold was rejected, null otherwise
+
+    public HoldStatus(long holdId, String customerName, int quantity, int[] ticketIds, long expiresAtMillis, String state, String reason) {
+        this.holdId = holdId;
+        this.customerName = customerName;
+        this.quantity = quantity;
+        this.ticketIds = ticketIds;
+        this.expiresAtMillis = expiresAtMillis;
+        this.state = state;
+        this.reason = reason;
+    }
+
+    public long getHoldId() {
+        return holdId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int[] getTicketIds() {
+        return ticketIds;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * InventoryMode selects how a TicketPool stores its available ticket count.
+ */
+public enum InventoryMode {
+    ATOMIC,  // A single compare-and-set counter shared by every buyer and vendor
+    STRIPED  // Per-core stripes; buyers take from their home stripe and steal only when it runs dry
+}
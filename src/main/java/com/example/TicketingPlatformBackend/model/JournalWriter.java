@@ -0,0 +1,76 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JournalWriter commits the batches of every open {@link PoolJournal} on one background thread, so
+ * journaling a thousand pools costs one thread and one batch buffer rather than a thousand of each.
+ * It gives each journal a turn in which its waiting records are merged into the shared batch buffer,
+ * written and forced to disk. When no journal has anything waiting it parks for the group commit
+ * interval, or until a journal is opened if there are none at all; producers unpark it early when a
+ * stripe fills up.
+ * <p>
+ * Journals commit one after another, so a journal with a slow disk delays the others' commits, never their producers.
+ */
+final class JournalWriter {
+    static final long GROUP_COMMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5); // Longest a record waits for its batch
+
+    private static JournalWriter shared; // Started on first use; guarded by the class
+
+    private final CopyOnWriteArrayList<PoolJournal> journals = new CopyOnWriteArrayList<>(); // Journals still open
+    private final ByteBuffer batch = ByteBuffer.allocate(PoolJournal.BUFFER_BYTES); // Merged batch being committed (writer thread only)
+    private final Thread thread;
+
+    private JournalWriter() {
+        this.thread = new Thread(this::writeLoop, "pool-journal");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Returns the writer shared by every journal in the JVM, starting it on first use.
+     *
+     * @return The shared writer.
+     */
+    static synchronized JournalWriter shared() {
+        if (shared == null) {
+            shared = new JournalWriter();
+        }
+        return shared;
+    }
+
+    /**
+     * Starts giving a newly opened journal turns.
+     */
+    void register(PoolJournal journal) {
+        journals.add(journal);
+        wake();
+    }
+
+    /**
+     * Ends the current park early, because a stripe is filling up or a journal was closed.
+     */
+    void wake() {
+        LockSupport.unpark(thread);
+    }
+
+    private void writeLoop() {
+        while (true) {
+            boolean busy = false;
+            for (PoolJournal journal : journals) {
+                busy |= journal.hasPending();
+                if (!journal.writeTurn(batch)) {
+                    journals.remove(journal); // Closed or failed; it has written its last batch
+                }
+            }
+            if (journals.isEmpty()) {
+                LockSupport.park(this);
+            } else if (!busy) {
+                LockSupport.parkNanos(this, GROUP_COMMIT_NANOS);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LatencySummary is the percentile digest of one kind of load test operation, in microseconds.
+ */
+public class LatencySummary {
+    private final long count; // Operations measured
+    private final double mean; // Average latency
+    private final double p50; // Median latency
+    private final double p90;
+    private final double p99;
+    private final double p999;
+    private final double max; // Slowest operation
+
+    public LatencySummary(LatencyHistogram histogram) {
+        this.count = histogram.getCount();
+        this.mean = histogram.getMean() / 1000;
+        this.p50 = histogram.percentile(50) / 1000.0;
+        this.p90 = histogram.percentile(90) / 1000.0;
+        this.p99 = histogram.percentile(99) / 1000.0;
+        this.p999 = histogram.percentile(99.9) / 1000.0;
+        this.max = histogram.getMax() / 1000.0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LedgerEntry is one row of the purchase ledger: who released, bought or returned which tickets of which event, and when.
+ */
+public class LedgerEntry {
+    private final long id; // Ledger sequence number, increasing in the order entries were written
+    private final String eventId; // Event the tickets belong to
+    private final LedgerEntryType type; // What happened
+    private final String actor; // Vendor or customer name
+    private final int quantity; // Number of tickets
+    private final String ticketIds; // Ticket IDs as sorted ranges, e.g. "3-7,12"
+    private final long createdAtMillis; // When the pool performed the operation
+
+    public LedgerEntry(long id, String eventId, LedgerEntryType type, String actor, int quantity, String ticketIds, long createdAtMillis) {
+        this.id = id;
+        this.eventId = eventId;
+        this.type = type;
+        this.actor = actor;
+        this.quantity = quantity;
+        this.ticketIds = ticketIds;
+        this.createdAtMillis = createdAtMillis;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public LedgerEntryType getType() {
+        return type;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public String getTicketIds() {
+        return ticketIds;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LedgerEntryType says what a row of the purchase ledger records.
+ */
+public enum LedgerEntryType {
+    RELEASE,     // A vendor released tickets into the pool
+    PURCHASE,    // A customer bought tickets, directly or by confirming a hold
+    CANCELLATION // Canceled tickets were returned to the pool
+}
@@ -0,0 +1,11 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LimitDecision is the outcome of checking one purchase attempt against a {@link PurchaseLimiter}.
+ */
+public enum LimitDecision {
+    ALLOWED,      // The attempt may go to the pool
+    RATE_LIMITED, // The customer is making attempts faster than allowed
+    LIMIT_REACHED, // The customer would exceed the most tickets one customer may buy
+    TOO_MANY_CUSTOMERS // The customer is new and the limiter is already tracking as many customers as it can
+}
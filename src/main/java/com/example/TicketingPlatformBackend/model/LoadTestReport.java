@@ -0,0 +1,200 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LoadTestReport describes a load generator run: what was asked for, what throughput was achieved,
+ * how long operations took and whether the pool's books balance at the end.
+ */
+public class LoadTestReport {
+    private LoadTestSettings settings; // The settings the run used
+    private boolean running; // True until every worker has stopped
+    private long startedAtMillis; // Wall-clock start time
+    private long elapsedMillis; // How long the workers actually ran
+
+    private long operations; // Adds, purchases and returns attempted
+    private double achievedOpsPerSecond; // Operations divided by elapsed time
+    private long purchasesSucceeded;
+    private long purchasesFailed; // Sold out or not enough tickets
+    private long ticketsPurchased; // Tickets bought by successful purchases
+    private long addsSucceeded;
+    private long addsRejected; // Would have exceeded the maximum capacity
+    private long returns; // Canceled purchases handed back to the pool
+
+    private LatencySummary purchaseLatency; // Microseconds, measured from when each operation was due
+    private LatencySummary addLatency;
+    private LatencySummary returnLatency;
+
+    private int totalAdded; // Pool totals after the run
+    private int totalPurchased;
+    private int totalReturned;
+    private int ticketsOnHold;
+    private int currentSize;
+    private boolean consistent; // added - purchased + returned - on hold == current
+
+    public LoadTestSettings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public void setStartedAtMillis(long startedAtMillis) {
+        this.startedAtMillis = startedAtMillis;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public void setOperations(long operations) {
+        this.operations = operations;
+    }
+
+    public double getAchievedOpsPerSecond() {
+        return achievedOpsPerSecond;
+    }
+
+    public void setAchievedOpsPerSecond(double achievedOpsPerSecond) {
+        this.achievedOpsPerSecond = achievedOpsPerSecond;
+    }
+
+    public long getPurchasesSucceeded() {
+        return purchasesSucceeded;
+    }
+
+    public void setPurchasesSucceeded(long purchasesSucceeded) {
+        this.purchasesSucceeded = purchasesSucceeded;
+    }
+
+    public long getPurchasesFailed() {
+        return purchasesFailed;
+    }
+
+    public void setPurchasesFailed(long purchasesFailed) {
+        this.purchasesFailed = purchasesFailed;
+    }
+
+    public long getTicketsPurchased() {
+        return ticketsPurchased;
+    }
+
+    public void setTicketsPurchased(long ticketsPurchased) {
+        this.ticketsPurchased = ticketsPurchased;
+    }
+
+    public long getAddsSucceeded() {
+        return addsSucceeded;
+    }
+
+    public void setAddsSucceeded(long addsSucceeded) {
+        this.addsSucceeded = addsSucceeded;
+    }
+
+    public long getAddsRejected() {
+        return addsRejected;
+    }
+
+    public void setAddsRejected(long addsRejected) {
+        this.addsRejected = addsRejected;
+    }
+
+    public long getReturns() {
+        return returns;
+    }
+
+    public void setReturns(long returns) {
+        this.returns = returns;
+    }
+
+    public LatencySummary getPurchaseLatency() {
+        return purchaseLatency;
+    }
+
+    public void setPurchaseLatency(LatencySummary purchaseLatency) {
+        this.purchaseLatency = purchaseLatency;
+    }
+
+    public LatencySummary getAddLatency() {
+        return addLatency;
+    }
+
+    public void setAddLatency(LatencySummary addLatency) {
+        this.addLatency = addLatency;
+    }
+
+    public LatencySummary getReturnLatency() {
+        return returnLatency;
+    }
+
+    public void setReturnLatency(LatencySummary returnLatency) {
+        this.returnLatency = returnLatency;
+    }
+
+    public int getTotalAdded() {
+        return totalAdded;
+    }
+
+    public void setTotalAdded(int totalAdded) {
+        this.totalAdded = totalAdded;
+    }
+
+    public int getTotalPurchased() {
+        return totalPurchased;
+    }
+
+    public void setTotalPurchased(int totalPurchased) {
+        this.totalPurchased = totalPurchased;
+    }
+
+    public int getTotalReturned() {
+        return totalReturned;
+    }
+
+    public void setTotalReturned(int totalReturned) {
+        this.totalReturned = totalReturned;
+    }
+
+    public int getTicketsOnHold() {
+        return ticketsOnHold;
+    }
+
+    public void setTicketsOnHold(int ticketsOnHold) {
+        this.ticketsOnHold = ticketsOnHold;
+    }
+
+    public int getCurrentSize() {
+        return currentSize;
+    }
+
+    public void setCurrentSize(int currentSize) {
+        this.currentSize = currentSize;
+    }
+
+    public boolean isConsistent() {
+        return consistent;
+    }
+
+    public void setConsistent(boolean consistent) {
+        this.consistent = consistent;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LoadTestSettings describes one load generator run. It is read from the "loadTest" section of the
+ * configuration, and any field a REST request sets to a non-zero value overrides it.
+ */
+public class LoadTestSettings {
+    private long seed = 1; // Seeds every worker's random generator, so the same settings replay the same operations
+    private int vendorCount = 2; // Worker threads adding tickets
+    private int customerCount = 8; // Worker threads buying and canceling tickets
+    private int targetOpsPerSecond; // Operations per second across all workers (0 = as fast as possible)
+    private long durationMillis = 10000; // How long the run lasts
+
+    /**
+     * Returns these settings with every non-zero field of the overrides applied.
+     *
+     * @param overrides Settings from a request, or null.
+     * @return A new settings object.
+     */
+    public LoadTestSettings merge(LoadTestSettings overrides) {
+        LoadTestSettings merged = new LoadTestSettings();
+        merged.seed = overrides != null && overrides.seed != 0 ? overrides.seed : seed;
+        merged.vendorCount = overrides != null && overrides.vendorCount != 0 ? overrides.vendorCount : vendorCount;
+        merged.customerCount = overrides != null && overrides.customerCount != 0 ? overrides.customerCount : customerCount;
+        merged.targetOpsPerSecond = overrides != null && overrides.targetOpsPerSecond != 0 ? overrides.targetOpsPerSecond : targetOpsPerSecond;
+        merged.durationMillis = overrides != null && overrides.durationMillis != 0 ? overrides.durationMillis : durationMillis;
+        return merged;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getVendorCount() {
+        return vendorCount;
+    }
+
+    public void setVendorCount(int vendorCount) {
+        this.vendorCount = vendorCount;
+    }
+
+    public int getCustomerCount() {
+        return customerCount;
+    }
+
+    public void setCustomerCount(int customerCount) {
+        this.customerCount = customerCount;
+    }
+
+    public int getTargetOpsPerSecond() {
+        return targetOpsPerSecond;
+    }
+
+    public void setTargetOpsPerSecond(int targetOpsPerSecond) {
+        this.targetOpsPerSecond = targetOpsPerSecond;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * LogOverflowPolicy decides what a producer does when the asynchronous log buffer is full.
+ */
+public enum LogOverflowPolicy {
+    BLOCK, // Wait for the writer to free a slot; no event is ever lost
+    DROP   // Discard the event and count it; producers never wait on disk
+}
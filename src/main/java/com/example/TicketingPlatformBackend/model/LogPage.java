@@ -0,0 +1,30 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.List;
+
+/**
+ * LogPage is one slice of the log file returned to pollers, together with the cursor to resume from.
+ */
+public class LogPage {
+    private final List<String> lines; // Log lines in this page, oldest first
+    private final long nextCursor; // Opaque position to pass as "since" on the next poll
+    private final boolean reset; // True if the log was cleared or rotated since the caller's cursor
+
+    public LogPage(List<String> lines, long nextCursor, boolean reset) {
+        this.lines = lines;
+        this.nextCursor = nextCursor;
+        this.reset = reset;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public long getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+}
@@ -1,31 +1,47 @@
 package com.example.TicketingPlatformBackend.model;
 
 import java.io.IOException;
-import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
 /**
  * LoggingUtility provides centralized logging capabilities for the application,
  * allowing for logging messages to a file with a specific format.
+ * All records, whether structured pool events or free-form logger messages, go through one
+ * {@link AsyncLogWriter}, so callers never wait on disk I/O. Besides the readable text log, every record
+ * is written as a JSON line to size-capped segments under logs/events, which the log search reads.
+ * The ticketing.log-directory system property moves both elsewhere; the test build points it at target/.
  */
 public class LoggingUtility {
 
+    public static final String LOG_DIRECTORY = System.getProperty("ticketing.log-directory", "logs"); // Holds every log below
+    public static final String LOG_FILE_PATH = LOG_DIRECTORY + "/application.log"; // File shared with LoggingService
+    public static final String EVENT_LOG_DIRECTORY = LOG_DIRECTORY + "/events"; // Structured JSON-lines segments
+    private static final long EVENT_SEGMENT_BYTES = 16L * 1024 * 1024; // Size at which a segment is closed
+    private static final int EVENT_SEGMENTS_KEPT = 16; // Segments kept before the oldest is deleted
+    private static final int LOG_BUFFER_SIZE = 8192; // Events that can wait for the writer before the overflow policy applies
+
     private static final Logger logger = Logger.getLogger("TicketingSystemLogger"); // Logger instance for logging events
+    private static AsyncLogWriter writer; // Background writer for every log record, null if the file could not be opened
 
     static {
         try {
             // Create logs directory if it doesn't exist
-            java.io.File logsDir = new java.io.File("logs");
+            java.io.File logsDir = new java.io.File(LOG_DIRECTORY);
             if (!logsDir.exists()) {
                 logsDir.mkdirs();
             }
-            
-            FileHandler fileHandler = new FileHandler("logs/application.log", true); // Create a file handler for logging
-            fileHandler.setFormatter(new SimpleFormatter()); // Set simple text format for log entries
-            logger.addHandler(fileHandler); // Attach file handler to logger
+
+            EventLogSegments segments = new EventLogSegments(java.nio.file.Paths.get(EVENT_LOG_DIRECTORY),
+                    EVENT_SEGMENT_BYTES, EVENT_SEGMENTS_KEPT);
+            writer = new AsyncLogWriter(LOG_FILE_PATH, segments, logger.getName(), LOG_BUFFER_SIZE, LogOverflowPolicy.BLOCK);
+            logger.addHandler(new AsyncLogHandler(writer)); // Route free-form messages through the same writer
             logger.setLevel(Level.INFO); // Set default log level to INFO
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.close(2000), "async-log-shutdown"));
         } catch (IOException e) {
             System.err.println("Failed to initialize logger: " + e.getMessage()); // Error handling if logger setup fails
         }
@@ -39,4 +55,96 @@ public class LoggingUtility {
     public static Logger getLogger() {
         return logger; // Return the logger instance for logging purposes
     }
-}
\ No newline at end of file
+
+    /**
+     * Records a structured pool event without allocating or formatting on the caller's thread.
+     *
+     * @param type What happened.
+     * @param actor The vendor or customer involved.
+     * @param count The number of tickets involved.
+     * @param poolSize The pool size after the event.
+     * @param capacity The pool's maximum capacity.
+     */
+    public static void event(PoolEventType type, String actor, int count, int poolSize, int capacity) {
+        event(type, actor, count, poolSize, capacity, null, null, 0, 0);
+    }
+
+    /**
+     * Records a structured pool event that names specific tickets.
+     *
+     * @param type What happened.
+     * @param actor The vendor or customer involved.
+     * @param count The number of tickets involved.
+     * @param poolSize The pool size after the event.
+     * @param capacity The pool's maximum capacity.
+     * @param seatLayout Layout used to label the tickets when the event is written.
+     * @param ticketIds Array holding the ticket IDs.
+     * @param offset Index of the first ticket ID.
+     * @param length Number of ticket IDs.
+     */
+    public static void event(PoolEventType type, String actor, int count, int poolSize, int capacity,
+                             SeatLayout seatLayout, int[] ticketIds, int offset, int length) {
+        if (writer == null || !logger.isLoggable(type.getLevel())) {
+            return;
+        }
+        long position = writer.claim();
+        if (position < 0) {
+            return; // Dropped by the overflow policy
+        }
+        PoolEvent event = writer.slot(position);
+        event.set(type, actor, count, poolSize, capacity);
+        if (ticketIds != null) {
+            event.setTickets(seatLayout, ticketIds, offset, length);
+        }
+        writer.publish(position);
+    }
+
+    /**
+     * Chooses what happens when producers outpace the log writer.
+     *
+     * @param overflowPolicy BLOCK to wait for space, DROP to discard and count events.
+     */
+    public static void setOverflowPolicy(LogOverflowPolicy overflowPolicy) {
+        if (writer != null && overflowPolicy != null) {
+            writer.setOverflowPolicy(overflowPolicy);
+        }
+    }
+
+    /**
+     * Returns how many log events have been dropped by the DROP overflow policy.
+     *
+     * @return The dropped event count.
+     */
+    public static long getDroppedEventCount() {
+        return writer != null ? writer.getDroppedCount() : 0;
+    }
+
+    /**
+     * JUL handler that formats a record's message on the caller's thread and hands it to the async writer.
+     */
+    private static class AsyncLogHandler extends Handler {
+        private final AsyncLogWriter writer;
+        private final Formatter formatter = new SimpleFormatter();
+
+        AsyncLogHandler(AsyncLogWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (isLoggable(record)) {
+                writer.message(record.getLevel(), formatter.formatMessage(record));
+            }
+        }
+
+        @Override
+        public void flush() {
+            // The writer flushes after every batch
+        }
+
+        @Override
+        public void close() {
+            writer.close(2000);
+        }
+    }
+}
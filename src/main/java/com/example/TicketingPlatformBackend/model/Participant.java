@@ -0,0 +1,27 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * Participant is a simulated vendor or customer. It can either run on its own thread, sleeping
+ * between actions, or be driven one action at a time by a shared scheduler calling {@link #tick()}.
+ */
+public interface Participant extends Runnable {
+
+    /**
+     * Performs a single action (one release or one purchase attempt) without blocking.
+     */
+    void tick();
+
+    /**
+     * Returns how often this participant acts, in milliseconds.
+     *
+     * @return The interval between two ticks.
+     */
+    long getTickIntervalMillis();
+
+    /**
+     * Returns the participant's name, used for logging and thread names.
+     *
+     * @return The participant's name.
+     */
+    String getName();
+}
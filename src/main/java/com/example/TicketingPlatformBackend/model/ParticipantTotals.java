@@ -0,0 +1,53 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * ParticipantTotals is one vendor's or customer's share of a {@link PoolSnapshot}.
+ */
+public class ParticipantTotals {
+    private final String name; // Vendor or customer name as given to the pool
+    private final long ticketsAdded; // Tickets released into the pool
+    private final long ticketsPurchased; // Tickets bought, including confirmed holds
+    private final long ticketsReturned; // Canceled tickets handed back
+    private final long rejectedRequests; // Adds, purchases, holds and returns the pool turned down
+    private final double addedPerSecond; // Over the snapshot's rate window
+    private final double purchasedPerSecond;
+
+    public ParticipantTotals(String name, long ticketsAdded, long ticketsPurchased, long ticketsReturned, long rejectedRequests,
+                             double addedPerSecond, double purchasedPerSecond) {
+        this.name = name;
+        this.ticketsAdded = ticketsAdded;
+        this.ticketsPurchased = ticketsPurchased;
+        this.ticketsReturned = ticketsReturned;
+        this.rejectedRequests = rejectedRequests;
+        this.addedPerSecond = addedPerSecond;
+        this.purchasedPerSecond = purchasedPerSecond;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTicketsAdded() {
+        return ticketsAdded;
+    }
+
+    public long getTicketsPurchased() {
+        return ticketsPurchased;
+    }
+
+    public long getTicketsReturned() {
+        return ticketsReturned;
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests;
+    }
+
+    public double getAddedPerSecond() {
+        return addedPerSecond;
+    }
+
+    public double getPurchasedPerSecond() {
+        return purchasedPerSecond;
+    }
+}
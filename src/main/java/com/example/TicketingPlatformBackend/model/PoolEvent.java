@@ -0,0 +1,129 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.logging.Level;
+
+/**
+ * PoolEvent is one reusable slot in the asynchronous log buffer. Producers fill in plain fields
+ * and the writer thread turns them into text later, so recording an event allocates nothing.
+ */
+public class PoolEvent {
+    static final int MAX_TICKET_IDS = 8; // Ticket IDs copied per event; longer runs are summarized
+
+    long timestampMillis; // When the event happened
+    Level level; // Log level
+    PoolEventType type; // What happened
+    String actor; // Vendor or customer name
+    int count; // Number of tickets involved
+    int poolSize; // Pool size right after the event
+    int capacity; // Maximum capacity of the pool
+    SeatLayout seatLayout; // Used to label ticket IDs when the event is written
+    final int[] ticketIds = new int[MAX_TICKET_IDS]; // First few ticket IDs involved
+    int ticketIdCount; // Number of valid entries in ticketIds
+    String message; // Pre-formatted text for MESSAGE events
+
+    void set(PoolEventType type, String actor, int count, int poolSize, int capacity) {
+        this.timestampMillis = System.currentTimeMillis();
+        this.level = type.getLevel();
+        this.type = type;
+        this.actor = actor;
+        this.count = count;
+        this.poolSize = poolSize;
+        this.capacity = capacity;
+        this.seatLayout = null;
+        this.ticketIdCount = 0;
+        this.message = null;
+    }
+
+    void setTickets(SeatLayout seatLayout, int[] ids, int offset, int length) {
+        this.seatLayout = seatLayout;
+        this.ticketIdCount = Math.min(length, MAX_TICKET_IDS);
+        System.arraycopy(ids, offset, ticketIds, 0, ticketIdCount);
+    }
+
+    /**
+     * Appends the human readable message for this event, matching the wording of the original log lines.
+     *
+     * @param out Builder that receives the message.
+     */
+    void appendMessage(StringBuilder out) {
+        switch (type) {
+            case TICKETS_ADDED -> {
+                out.append(actor).append(" added ").append(count).append(" tickets");
+                if (ticketIdCount > 0) {
+                    out.append(" (").append(seatLayout.label(ticketIds[0])).append(" to ")
+                            .append(seatLayout.label(ticketIds[0] + count - 1)).append(')');
+                }
+                appendPoolSize(out);
+            }
+            case ADD_REJECTED -> out.append("Cannot add ").append(count).append(" tickets by ").append(actor)
+                    .append(". Exceeds max capacity.");
+            case TICKETS_PURCHASED -> {
+                out.append(actor).append(" purchased ").append(count).append(" tickets ");
+                appendTicketLabels(out);
+                appendPoolSize(out);
+            }
+            case PURCHASE_REJECTED_SOLD_OUT -> out.append("No tickets available for ").append(actor).append('.');
+            case PURCHASE_REJECTED_INSUFFICIENT -> out.append(actor).append(" tried to purchase ").append(count)
+                    .append(" tickets but only ").append(poolSize).append(" are available.");
+            case PURCHASE_REJECTED_RATE_LIMITED -> out.append(actor).append(" is purchasing too often. Attempt refused.");
+            case PURCHASE_REJECTED_LIMIT_REACHED -> out.append(actor).append(" tried to purchase ").append(count)
+                    .append(" tickets but would exceed the per-customer limit.");
+            case PURCHASE_REJECTED_TOO_MANY_CUSTOMERS, HOLD_REJECTED_TOO_MANY_CUSTOMERS -> out.append(actor)
+                    .append(" was refused: the per-customer limit table is full.");
+            case TICKETS_RETURNED -> {
+                out.append("Admin returned ").append(count).append(" canceled ticket(s) ");
+                appendTicketLabels(out);
+                out.append(" from ").append(actor);
+                appendPoolSize(out);
+            }
+            case RETURN_REJECTED_CAPACITY -> out.append("Cannot return ").append(count).append(" tickets from ")
+                    .append(actor).append(". Exceeds max capacity.");
+            case RETURN_REJECTED_NOT_SOLD -> {
+                out.append("Cannot return ticket ");
+                appendTicketLabels(out);
+                out.append(" from ").append(actor).append(". It is not a sold ticket.");
+            }
+            case TICKETS_HELD -> {
+                out.append(actor).append(" is holding ").append(count).append(" tickets ");
+                appendTicketLabels(out);
+                appendPoolSize(out);
+            }
+            case HOLD_REJECTED_SOLD_OUT -> out.append("No tickets available to hold for ").append(actor).append('.');
+            case HOLD_REJECTED_INSUFFICIENT -> out.append(actor).append(" tried to hold ").append(count)
+                    .append(" tickets but only ").append(poolSize).append(" are available.");
+            case HOLD_REJECTED_RATE_LIMITED -> out.append(actor).append(" is holding too often. Attempt refused.");
+            case HOLD_REJECTED_LIMIT_REACHED -> out.append(actor).append(" tried to hold ").append(count)
+                    .append(" tickets but would exceed the per-customer limit.");
+            case HOLD_CONFIRMED -> {
+                out.append(actor).append(" confirmed and purchased ").append(count).append(" held tickets ");
+                appendTicketLabels(out);
+                appendPoolSize(out);
+            }
+            case HOLD_RELEASED, HOLD_EXPIRED -> {
+                out.append(type == PoolEventType.HOLD_EXPIRED ? "Hold expired for " : "Hold released by ").append(actor)
+                        .append(", returning ").append(count).append(" tickets ");
+                appendTicketLabels(out);
+                appendPoolSize(out);
+            }
+            case MESSAGE -> out.append(message);
+        }
+    }
+
+    private void appendPoolSize(StringBuilder out) {
+        out.append(". Current Pool Size: ").append(poolSize).append('/').append(capacity);
+    }
+
+    private void appendTicketLabels(StringBuilder out) {
+        out.append('[');
+        for (int i = 0; i < ticketIdCount; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(seatLayout.label(ticketIds[i]));
+        }
+        if (count > ticketIdCount) {
+            out.append(", +").append(count - ticketIdCount).append(" more");
+        }
+        out.append(']');
+    }
+}
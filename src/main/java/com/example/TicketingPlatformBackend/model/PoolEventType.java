@@ -0,0 +1,40 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.logging.Level;
+
+/**
+ * PoolEventType enumerates the structured events a TicketPool reports, each with the log level it is written at.
+ */
+public enum PoolEventType {
+    TICKETS_ADDED(Level.INFO),                   // A vendor released tickets into the pool
+    ADD_REJECTED(Level.WARNING),                 // A release would have exceeded the maximum capacity
+    TICKETS_PURCHASED(Level.INFO),               // A customer bought tickets
+    PURCHASE_REJECTED_SOLD_OUT(Level.WARNING),   // A purchase failed because the pool was empty
+    PURCHASE_REJECTED_INSUFFICIENT(Level.WARNING), // A purchase asked for more tickets than were available
+    PURCHASE_REJECTED_RATE_LIMITED(Level.WARNING), // A customer made purchase attempts faster than allowed
+    PURCHASE_REJECTED_LIMIT_REACHED(Level.WARNING), // A purchase would have exceeded the customer's ticket limit
+    PURCHASE_REJECTED_TOO_MANY_CUSTOMERS(Level.WARNING), // A new customer found the limit table full
+    TICKETS_RETURNED(Level.INFO),                // Canceled tickets went back into the pool
+    RETURN_REJECTED_CAPACITY(Level.WARNING),     // A return would have exceeded the maximum capacity
+    RETURN_REJECTED_NOT_SOLD(Level.WARNING),     // A return named a ticket that is not currently sold
+    TICKETS_HELD(Level.INFO),                    // A customer reserved tickets for a limited time
+    HOLD_REJECTED_SOLD_OUT(Level.WARNING),       // A hold failed because the pool was empty
+    HOLD_REJECTED_INSUFFICIENT(Level.WARNING),   // A hold asked for more tickets than were available
+    HOLD_REJECTED_RATE_LIMITED(Level.WARNING),   // A customer made hold attempts faster than allowed
+    HOLD_REJECTED_LIMIT_REACHED(Level.WARNING),  // A hold would have exceeded the customer's ticket limit
+    HOLD_REJECTED_TOO_MANY_CUSTOMERS(Level.WARNING), // A new customer found the limit table full
+    HOLD_CONFIRMED(Level.INFO),                  // Held tickets were purchased
+    HOLD_RELEASED(Level.INFO),                   // Held tickets were given up by the customer
+    HOLD_EXPIRED(Level.INFO),                    // Held tickets went back to the pool because the hold ran out
+    MESSAGE(Level.INFO);                         // A free-form message from the application logger
+
+    private final Level level;
+
+    PoolEventType(Level level) {
+        this.level = level;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+}
@@ -0,0 +1,656 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * PoolJournal makes a TicketPool's state survive restarts. Every successful add, purchase and
+ * return is appended as a small binary record to an in-memory buffer; the shared {@link JournalWriter}
+ * thread swaps the buffers out, writes them as one checksummed batch and forces it to disk (group
+ * commit), so callers never wait on the disk themselves. Every journal in the JVM shares that thread and
+ * its batch buffer, so an idle journal costs little more than its open file.
+ * <p>
+ * Producers fill per-core stripes, each with its own lock, so concurrent buyers do not queue on one
+ * lock. A stripe's buffers start small and grow as far as the traffic needs. Each record takes a number from a global sequence while it is appended. The writer swaps every
+ * stripe at once and merges the stripes back into sequence order, so a record that happened before
+ * another, such as the release of a ticket and its later purchase, is always replayed first.
+ * <p>
+ * A purchase or return of more than {@value #MAX_IDS_PER_RECORD} tickets is split across records, but all
+ * of them are appended under one hold of the stripe lock, so they always land in the same batch and
+ * recovery replays the whole operation or none of it. An operation too large for its stripe's share
+ * grows the stripe, and the batch, for as long as it takes to commit.
+ * <p>
+ * If the writer fails, the journal stops: later records are dropped and counted, and
+ * {@link #isFailed()} reports it, so metrics and health checks can show that the pool is no longer durable.
+ * <p>
+ * The writer also applies each committed batch to a {@link PoolState}, which therefore always
+ * matches the end of the journal exactly. Periodically that state is written as a snapshot and a new
+ * journal segment is started, and older files are deleted. Recovery loads the newest snapshot and
+ * replays only the segments written after it, stopping cleanly at a torn final batch.
+ * <pre>
+ * segment:  batch*            batch:    length:int crc32:int record*
+ * record:   type:byte count:int (firstId:int | id:int * count)
+ * </pre>
+ */
+public class PoolJournal {
+    static final byte ADD = 1; // count tickets issued from firstId
+    static final byte PURCHASE = 2; // count sold ticket IDs
+    static final byte RETURN = 3; // count canceled ticket IDs returned to the pool
+
+    static final int BUFFER_BYTES = 1 << 20; // Largest batch; shared out between the stripes
+    private static final int INITIAL_STRIPE_BYTES = 1 << 10; // A stripe's buffers grow from this towards its share
+    private static final int MAX_IDS_PER_RECORD = 4096; // Larger purchases or returns are split across records
+    private static final int MAX_STRIPES = 16; // Keeps every stripe larger than the largest record
+    private static final int SEQUENCE_BYTES = 8; // In-memory prefix of each striped record; not written to disk
+    private static final long SNAPSHOT_MAGIC = 0x5449434B534E4150L; // "TICKSNAP"
+    private static final String JOURNAL_PREFIX = "journal-";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+
+    private final Path directory; // Holds the snapshot and journal segment files
+    private final PoolState state; // Everything committed so far (writer thread only)
+    private final boolean startedEmpty; // True if there was no state to recover
+    private final long snapshotIntervalNanos; // How often a snapshot compacts the journal
+
+    private final Stripe[] stripes; // Records waiting for the next batch, spread by producer thread
+    private final AtomicLong sequence = new AtomicLong(); // Records appended so far; numbers each record
+    private long swappedSequence; // Records handed to the writer so far (writer thread only)
+    private volatile PoolMetrics metrics = PoolMetrics.NONE; // Receives producer lock wait and hold times
+    private final LongAdder droppedRecords = new LongAdder(); // Records lost because the journal had stopped
+    private volatile boolean failed; // The writer stopped on an error
+
+    private final CRC32 crc = new CRC32();
+    private final ByteBuffer batchHeader = ByteBuffer.allocate(8);
+    private FileChannel segment; // Current journal segment
+    private long generation; // Number of the current snapshot and segment
+    private long lastSnapshotNanos;
+    private long recordsSinceSnapshot;
+    private final JournalWriter writer; // Shared thread that commits this journal's batches
+    private final CountDownLatch finished = new CountDownLatch(1); // Released once the last batch is written after a close
+    private volatile boolean running = true;
+
+    /**
+     * Opens a journal in the given directory, continuing from a previously recovered state.
+     * The state is written as a fresh snapshot first, so the new journal never depends on older files.
+     *
+     * @param directory The directory for snapshot and journal files.
+     * @param state The state returned by {@link #recover(Path)}, or an empty state for a new pool.
+     * @param snapshotIntervalMillis How often to take a snapshot while records are being written.
+     * @throws IOException If the directory or the first files cannot be written.
+     */
+    public PoolJournal(Path directory, PoolState state, long snapshotIntervalMillis) throws IOException {
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.state = state;
+        this.startedEmpty = state.isEmpty();
+        this.snapshotIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, snapshotIntervalMillis));
+
+        long[] existing = generations(directory, SNAPSHOT_PREFIX);
+        long[] segments = generations(directory, JOURNAL_PREFIX);
+        long latest = Math.max(existing.length == 0 ? 0 : existing[existing.length - 1], segments.length == 0 ? 0 : segments[segments.length - 1]);
+        this.generation = latest + 1;
+        writeSnapshot(directory, generation, state);
+        this.segment = openSegment(generation);
+        deleteBefore(generation);
+        this.lastSnapshotNanos = System.nanoTime();
+
+        int stripeCount = Integer.highestOneBit(Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(BUFFER_BYTES / stripeCount);
+        }
+
+        this.writer = JournalWriter.shared();
+        writer.register(this);
+    }
+
+    /**
+     * Rebuilds the pool state from the newest readable snapshot and the journal segments after it.
+     *
+     * @param directory The journal directory.
+     * @return The recovered state, empty if the directory holds no journal.
+     * @throws IOException If a file cannot be read.
+     */
+    public static PoolState recover(Path directory) throws IOException {
+        PoolState state = new PoolState();
+        if (!Files.isDirectory(directory)) {
+            return state;
+        }
+        long base = 0;
+        long[] snapshots = generations(directory, SNAPSHOT_PREFIX);
+        for (int i = snapshots.length - 1; i >= 0; i--) {
+            if (readSnapshot(directory.resolve(fileName(SNAPSHOT_PREFIX, snapshots[i])), state)) {
+                base = snapshots[i];
+                break;
+            }
+        }
+        for (long segmentGeneration : generations(directory, JOURNAL_PREFIX)) {
+            if (segmentGeneration >= base && !replay(directory.resolve(fileName(JOURNAL_PREFIX, segmentGeneration)), state)) {
+                break; // A torn batch marks the end of what was committed
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Deletes every journal and snapshot file in the directory, used when the system is reset.
+     *
+     * @param directory The journal directory.
+     * @throws IOException If a file cannot be deleted.
+     */
+    public static void delete(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if ((name.startsWith(JOURNAL_PREFIX) || name.startsWith(SNAPSHOT_PREFIX)) && name.contains(SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if the journal was opened without any recovered state, so the pool's initial tickets must be recorded.
+     *
+     * @return true for a new pool.
+     */
+    public boolean isStartedEmpty() {
+        return startedEmpty;
+    }
+
+    /**
+     * Returns true if the writer stopped on an error; nothing recorded since then is durable.
+     *
+     * @return true once the journal has failed.
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Returns how many records were dropped because the journal had stopped, after a failure or a close.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    void recordAdd(int firstId, int count) {
+        Stripe stripe = stripes[TicketInventory.homeStripe(stripes.length)];
+        long requestedNanos = System.nanoTime();
+        stripe.lock.lock();
+        long acquiredNanos = System.nanoTime();
+        try {
+            if (reserve(stripe, 1, SEQUENCE_BYTES + 9)) {
+                stripe.filling.putLong(sequence.getAndIncrement()).put(ADD).putInt(count).putInt(firstId);
+            }
+        } finally {
+            unlockStripe(stripe, requestedNanos, acquiredNanos);
+        }
+    }
+
+    void recordPurchase(int[] ids, int offset, int count) {
+        recordIds(PURCHASE, ids, offset, count);
+    }
+
+    void recordReturn(int[] ids, int offset, int count) {
+        recordIds(RETURN, ids, offset, count);
+    }
+
+    private void recordIds(byte type, int[] ids, int offset, int count) {
+        Stripe stripe = stripes[TicketInventory.homeStripe(stripes.length)];
+        long requestedNanos = System.nanoTime();
+        stripe.lock.lock();
+        long acquiredNanos = System.nanoTime();
+        try {
+            int records = (count + MAX_IDS_PER_RECORD - 1) / MAX_IDS_PER_RECORD;
+            if (!reserve(stripe, records, Math.toIntExact((SEQUENCE_BYTES + 5L) * records + 4L * count))) {
+                return; // Room for every record of the operation is reserved at once, so none waits for the next batch
+            }
+            for (int done = 0; done < count; ) {
+                int n = Math.min(count - done, MAX_IDS_PER_RECORD);
+                stripe.filling.putLong(sequence.getAndIncrement()).put(type).putInt(n);
+                for (int i = 0; i < n; i++) {
+                    stripe.filling.putInt(ids[offset + done + i]);
+                }
+                done += n;
+            }
+        } finally {
+            unlockStripe(stripe, requestedNanos, acquiredNanos);
+        }
+    }
+
+    /**
+     * Releases a stripe's lock and reports how long it was waited for and held.
+     */
+    private void unlockStripe(Stripe stripe, long requestedNanos, long acquiredNanos) {
+        stripe.lock.unlock();
+        metrics.lockTimed(PoolLock.JOURNAL, acquiredNanos - requestedNanos, System.nanoTime() - acquiredNanos);
+    }
+
+    void setMetrics(PoolMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Waits, holding the stripe's lock, until its filling buffer has room for an operation's records.
+     * An operation larger than the stripe's share waits for an empty buffer and grows it to fit.
+     *
+     * @param records The number of records the operation takes.
+     * @param needed The bytes they take, sequence numbers included.
+     * @return false if the journal has stopped and the records were dropped.
+     */
+    private boolean reserve(Stripe stripe, int records, int needed) {
+        while (stripe.filling.remaining() < needed) {
+            if (!running) {
+                break;
+            }
+            if (stripe.filling.capacity() < Math.max(stripe.maxBytes, needed)) {
+                stripe.grow(needed);
+                continue;
+            }
+            writer.wake();
+            stripe.drained.awaitUninterruptibly(); // The writer is still committing the previous batch
+        }
+        if (!running) {
+            droppedRecords.add(records);
+            return false;
+        }
+        if (stripe.filling.position() >= stripe.maxBytes / 2) {
+            writer.wake(); // Commit early rather than let producers hit a full stripe
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if records are waiting for the next batch.
+     */
+    boolean hasPending() {
+        return sequence.get() != swappedSequence;
+    }
+
+    /**
+     * Takes one turn on the writer thread: commits the waiting records as one batch, takes a snapshot when
+     * one is due and, once the journal is closed, writes the last batch and closes the segment.
+     *
+     * @param batch The writer's merge buffer, empty on entry and on return.
+     * @return false once the journal is finished and needs no more turns.
+     */
+    boolean writeTurn(ByteBuffer batch) {
+        try {
+            boolean stopping = !running;
+            if (stopping || hasPending()) {
+                swapStripes();
+                ByteBuffer merged = merge(batch);
+                if (merged.position() > 0) {
+                    commit(merged);
+                }
+            }
+            if (stopping ? recordsSinceSnapshot > 0 : recordsSinceSnapshot > 0 && System.nanoTime() - lastSnapshotNanos >= snapshotIntervalNanos) {
+                rotate();
+            }
+            if (!stopping) {
+                return true;
+            }
+        } catch (IOException | RuntimeException e) {
+            LoggingUtility.getLogger().log(Level.SEVERE, "Pool journal stopped; later changes to the pool are not durable: " + e.getMessage());
+            failed = true;
+            running = false;
+            batch.clear();
+            signalStripes();
+        }
+        try {
+            segment.close();
+        } catch (IOException ignored) {
+            // Nothing left to flush
+        }
+        finished.countDown();
+        return false;
+    }
+
+    /**
+     * Swaps every stripe's buffers while holding all stripe locks, so no record is half in one batch and
+     * half in the next and every record of this batch precedes every record of the next.
+     */
+    private void swapStripes() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+        try {
+            swappedSequence = sequence.get();
+            for (Stripe stripe : stripes) {
+                ByteBuffer full = stripe.filling;
+                stripe.filling = stripe.writing;
+                stripe.writing = full;
+                stripe.drained.signalAll();
+            }
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                stripes[i].lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Merges the swapped stripes in sequence order, dropping the sequence numbers.
+     *
+     * @return The writer's batch buffer, or a larger one made for this batch if an oversized operation needs it.
+     */
+    private ByteBuffer merge(ByteBuffer batch) {
+        long swappedBytes = 0;
+        for (Stripe stripe : stripes) {
+            swappedBytes += stripe.writing.position();
+            stripe.writing.flip();
+        }
+        if (swappedBytes > batch.capacity()) {
+            batch = ByteBuffer.allocate(Math.toIntExact(swappedBytes));
+        }
+        while (true) {
+            ByteBuffer next = null;
+            long nextSequence = Long.MAX_VALUE;
+            for (Stripe stripe : stripes) {
+                ByteBuffer records = stripe.writing;
+                if (records.hasRemaining() && records.getLong(records.position()) < nextSequence) {
+                    next = records;
+                    nextSequence = records.getLong(records.position());
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            int start = next.position() + SEQUENCE_BYTES;
+            int count = next.getInt(start + 1);
+            int length = 5 + 4 * (next.get(start) == ADD ? 1 : count);
+            batch.put(next.array(), start, length);
+            next.position(start + length);
+        }
+        for (Stripe stripe : stripes) {
+            stripe.writing.clear();
+            if (stripe.writing.capacity() > stripe.maxBytes) {
+                stripe.writing = ByteBuffer.allocate(INITIAL_STRIPE_BYTES); // Let go of the room an oversized operation took
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Writes one batch with its length and checksum, forces it to disk, then applies it to the state.
+     */
+    private void commit(ByteBuffer batch) throws IOException {
+        batch.flip();
+        crc.reset();
+        crc.update(batch.array(), 0, batch.limit());
+        batchHeader.clear();
+        batchHeader.putInt(batch.limit()).putInt((int) crc.getValue()).flip();
+        ByteBuffer[] buffers = {batchHeader, batch};
+        while (batch.hasRemaining()) {
+            segment.write(buffers);
+        }
+        segment.force(false);
+
+        batch.rewind();
+        recordsSinceSnapshot += apply(batch, state);
+        batch.clear();
+    }
+
+    /**
+     * Snapshots the state, which matches the end of the current segment, and starts the next segment.
+     */
+    private void rotate() throws IOException {
+        long next = generation + 1;
+        writeSnapshot(directory, next, state);
+        FileChannel previous = segment;
+        segment = openSegment(next);
+        previous.close();
+        generation = next;
+        deleteBefore(next);
+        lastSnapshotNanos = System.nanoTime();
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Commits everything recorded so far, takes a final snapshot and closes the journal's files.
+     *
+     * @param timeoutMillis How long to wait for the writer to finish.
+     */
+    public void close(long timeoutMillis) {
+        running = false;
+        writer.wake();
+        signalStripes();
+        try {
+            finished.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wakes producers waiting for room, so they see that the journal has stopped.
+     */
+    private void signalStripes() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.drained.signalAll();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private static int apply(ByteBuffer records, PoolState state) throws IOException {
+        int applied = 0;
+        while (records.hasRemaining()) {
+            byte type = records.get();
+            int count = records.getInt();
+            switch (type) {
+                case ADD -> state.applyAdd(records.getInt(), count);
+                case PURCHASE -> {
+                    for (int i = 0; i < count; i++) {
+                        state.applyPurchase(records.getInt());
+                    }
+                }
+                case RETURN -> {
+                    for (int i = 0; i < count; i++) {
+                        state.applyReturn(records.getInt());
+                    }
+                }
+                default -> throw new IOException("Unknown journal record type " + type);
+            }
+            state.countEvent();
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Applies every intact batch of a segment to the state.
+     *
+     * @return false if the segment ended in a torn or corrupt batch.
+     */
+    private static boolean replay(Path file, PoolState state) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] batch = new byte[BUFFER_BYTES];
+        long unread = Files.size(file);
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException end) {
+                    return true;
+                }
+                int expected = in.readInt();
+                unread -= 8;
+                if (length < 0 || length > unread) {
+                    return false; // Cut short by a crash
+                }
+                if (length > batch.length) {
+                    batch = new byte[length]; // Holds an operation larger than a stripe's share
+                }
+                unread -= length;
+                in.readFully(batch, 0, length);
+                checksum.reset();
+                checksum.update(batch, 0, length);
+                if ((int) checksum.getValue() != expected) {
+                    return false;
+                }
+                apply(ByteBuffer.wrap(batch, 0, length), state);
+            }
+        } catch (EOFException torn) {
+            return false;
+        }
+    }
+
+    private static void writeSnapshot(Path directory, long generation, PoolState state) throws IOException {
+        int words = (state.getNextId() + 63) >>> 6;
+        long[] sold = state.soldWords();
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 4 + 8 * 4 + 4 + 8 * words + 4);
+        buffer.putLong(SNAPSHOT_MAGIC).putInt(state.getNextId())
+                .putLong(state.getTotalAdded()).putLong(state.getTotalPurchased()).putLong(state.getTotalReturned())
+                .putLong(state.getEventsApplied()).putInt(words);
+        for (int i = 0; i < words; i++) {
+            buffer.putLong(i < sold.length ? sold[i] : 0);
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) checksum.getValue()).flip();
+
+        Path target = directory.resolve(fileName(SNAPSHOT_PREFIX, generation));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Loads a snapshot into the state.
+     *
+     * @return false if the file is not a complete, valid snapshot.
+     */
+    private static boolean readSnapshot(Path file, PoolState state) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < 8 + 4 + 8 * 4 + 4 + 4 || buffer.getLong() != SNAPSHOT_MAGIC) {
+            return false;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.limit() - 4);
+        if ((int) checksum.getValue() != buffer.getInt(buffer.limit() - 4)) {
+            return false;
+        }
+        int nextId = buffer.getInt();
+        long added = buffer.getLong();
+        long purchased = buffer.getLong();
+        long returned = buffer.getLong();
+        long events = buffer.getLong();
+        long[] sold = new long[buffer.getInt()];
+        for (int i = 0; i < sold.length; i++) {
+            sold[i] = buffer.getLong();
+        }
+        state.restore(nextId, sold, added, purchased, returned, events);
+        return true;
+    }
+
+    private FileChannel openSegment(long segmentGeneration) throws IOException {
+        return FileChannel.open(directory.resolve(fileName(JOURNAL_PREFIX, segmentGeneration)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void deleteBefore(long keepGeneration) throws IOException {
+        for (long old : generations(directory, SNAPSHOT_PREFIX)) {
+            if (old < keepGeneration) {
+                Files.deleteIfExists(directory.resolve(fileName(SNAPSHOT_PREFIX, old)));
+            }
+        }
+        for (long old : generations(directory, JOURNAL_PREFIX)) {
+            if (old < keepGeneration) {
+                Files.deleteIfExists(directory.resolve(fileName(JOURNAL_PREFIX, old)));
+            }
+        }
+    }
+
+    private static String fileName(String prefix, long fileGeneration) {
+        return String.format("%s%016d%s", prefix, fileGeneration, SUFFIX);
+    }
+
+    /**
+     * Lists the generation numbers of the files with the given prefix, in ascending order.
+     */
+    private static long[] generations(Path directory, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            long[] found = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(SUFFIX))
+                    .mapToLong(name -> parseGeneration(name.substring(prefix.length(), name.length() - SUFFIX.length())))
+                    .filter(value -> value > 0)
+                    .toArray();
+            Arrays.sort(found);
+            return found;
+        }
+    }
+
+    private static long parseGeneration(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * One producer stripe: a lock and the two buffers swapped between its producers and the writer.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock(); // Guards filling
+        private final Condition drained = lock.newCondition(); // Signalled when the writer swaps buffers
+        private final int maxBytes; // The stripe's share of the batch; its buffers never grow past it
+        private ByteBuffer filling; // Sequence-numbered records waiting for the next batch
+        private ByteBuffer writing; // Records being merged into the batch (writer thread only)
+
+        private Stripe(int maxBytes) {
+            this.maxBytes = maxBytes;
+            this.filling = ByteBuffer.allocate(Math.min(INITIAL_STRIPE_BYTES, maxBytes));
+            this.writing = ByteBuffer.allocate(Math.min(INITIAL_STRIPE_BYTES, maxBytes));
+        }
+
+        /**
+         * Replaces the filling buffer with a larger copy that has room for the given bytes, up to the stripe's
+         * share or, for an operation larger than the share, up to that operation's size.
+         */
+        private void grow(int needed) {
+            int limit = Math.max(maxBytes, needed);
+            int capacity = (int) Math.min(limit, Math.max(2L * filling.capacity(), (long) filling.position() + needed));
+            ByteBuffer larger = ByteBuffer.allocate(capacity);
+            filling.flip();
+            larger.put(filling);
+            filling = larger;
+        }
+    }
+}
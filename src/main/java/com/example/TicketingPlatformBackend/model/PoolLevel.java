@@ -0,0 +1,11 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * PoolLevel is how full a {@link TicketPool} is, as reported to {@link PoolLevelListener}s.
+ */
+public enum PoolLevel {
+    SOLD_OUT,    // No tickets available
+    LOW,         // At or below the pool's low-water mark
+    NORMAL,      // Between the low-water mark and capacity
+    AT_CAPACITY  // Full; vendors cannot add more
+}
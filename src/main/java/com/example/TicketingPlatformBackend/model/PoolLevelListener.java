@@ -0,0 +1,20 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * PoolLevelListener is told when a TicketPool moves from one {@link PoolLevel} to another, on the thread
+ * whose operation caused the move. It is not called while the level stays the same, so a listener costs
+ * nothing between transitions. Like {@link TicketPoolListener}, implementations must not block.
+ */
+public interface PoolLevelListener {
+
+    /**
+     * Called after the pool's level changes. When operations race, a listener may briefly see levels
+     * the pool passes straight through, but the last call always reports the level the pool settled at.
+     *
+     * @param previous The level before the change.
+     * @param current The level after the change.
+     * @param poolSize The pool size that caused the change.
+     * @param capacity The pool's maximum capacity.
+     */
+    void onLevelChanged(PoolLevel previous, PoolLevel current, int poolSize, int capacity);
+}
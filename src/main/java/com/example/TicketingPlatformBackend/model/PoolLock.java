@@ -0,0 +1,9 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * PoolLock names the locks a TicketPool can wait on, for {@link PoolMetrics#lockTimed}.
+ */
+public enum PoolLock {
+    INVENTORY_STRIPES, // Serializes stock increases and steals in STRIPED mode
+    JOURNAL            // Guards the journal's filling buffer while a record is appended
+}
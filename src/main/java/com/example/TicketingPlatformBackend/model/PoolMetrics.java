@@ -0,0 +1,38 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * PoolMetrics receives timings from a TicketPool, on the thread that did the work.
+ * Like {@link TicketPoolListener}, implementations run on the purchase path and must be fast and non-blocking.
+ */
+public interface PoolMetrics {
+
+    /**
+     * Discards every timing. A pool reports here until metrics are attached.
+     */
+    PoolMetrics NONE = new PoolMetrics() {
+        @Override
+        public void operationTimed(PoolEventType type, long elapsedNanos) {
+        }
+
+        @Override
+        public void lockTimed(PoolLock lock, long waitNanos, long holdNanos) {
+        }
+    };
+
+    /**
+     * Called once per pool operation, after it was logged and listeners were told.
+     *
+     * @param type The outcome of the operation.
+     * @param elapsedNanos How long the operation took, including logging.
+     */
+    void operationTimed(PoolEventType type, long elapsedNanos);
+
+    /**
+     * Called each time one of the pool's locks is released.
+     *
+     * @param lock The lock.
+     * @param waitNanos How long the thread waited to acquire it.
+     * @param holdNanos How long the thread held it.
+     */
+    void lockTimed(PoolLock lock, long waitNanos, long holdNanos);
+}
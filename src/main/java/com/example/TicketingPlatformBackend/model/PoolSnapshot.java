@@ -0,0 +1,94 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.List;
+
+/**
+ * PoolSnapshot is an immutable copy of every counter of one pool, taken at one moment and published
+ * whole, so a reader never sees values from two different moments.
+ */
+public class PoolSnapshot {
+    private final long version; // Increases with every publication
+    private final long timestampMillis; // When the counters were read
+    private final int currentTicketsAvailable;
+    private final int maxTicketCapacity;
+    private final long totalTicketsAdded; // Including the initial tickets
+    private final long totalTicketsPurchased; // Including confirmed holds
+    private final long totalTicketsReturned;
+    private final long ticketsOnHold; // Taken by holds not yet confirmed or released
+    private final long ticketsInFlight; // In operations that had not finished when the counters were read
+    private final double addedPerSecond; // Over the last rate window
+    private final double purchasedPerSecond;
+    private final double returnedPerSecond;
+    private final List<ParticipantTotals> participants; // Sorted by name
+
+    public PoolSnapshot(long version, long timestampMillis, int currentTicketsAvailable, int maxTicketCapacity,
+                        long totalTicketsAdded, long totalTicketsPurchased, long totalTicketsReturned, long ticketsOnHold,
+                        double addedPerSecond, double purchasedPerSecond, double returnedPerSecond,
+                        List<ParticipantTotals> participants) {
+        this.version = version;
+        this.timestampMillis = timestampMillis;
+        this.currentTicketsAvailable = currentTicketsAvailable;
+        this.maxTicketCapacity = maxTicketCapacity;
+        this.totalTicketsAdded = totalTicketsAdded;
+        this.totalTicketsPurchased = totalTicketsPurchased;
+        this.totalTicketsReturned = totalTicketsReturned;
+        this.ticketsOnHold = ticketsOnHold;
+        this.ticketsInFlight = totalTicketsAdded - totalTicketsPurchased + totalTicketsReturned - ticketsOnHold - currentTicketsAvailable;
+        this.addedPerSecond = addedPerSecond;
+        this.purchasedPerSecond = purchasedPerSecond;
+        this.returnedPerSecond = returnedPerSecond;
+        this.participants = List.copyOf(participants);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public int getCurrentTicketsAvailable() {
+        return currentTicketsAvailable;
+    }
+
+    public int getMaxTicketCapacity() {
+        return maxTicketCapacity;
+    }
+
+    public long getTotalTicketsAdded() {
+        return totalTicketsAdded;
+    }
+
+    public long getTotalTicketsPurchased() {
+        return totalTicketsPurchased;
+    }
+
+    public long getTotalTicketsReturned() {
+        return totalTicketsReturned;
+    }
+
+    public long getTicketsOnHold() {
+        return ticketsOnHold;
+    }
+
+    public long getTicketsInFlight() {
+        return ticketsInFlight;
+    }
+
+    public double getAddedPerSecond() {
+        return addedPerSecond;
+    }
+
+    public double getPurchasedPerSecond() {
+        return purchasedPerSecond;
+    }
+
+    public double getReturnedPerSecond() {
+        return returnedPerSecond;
+    }
+
+    public List<ParticipantTotals> getParticipants() {
+        return participants;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.Arrays;
+
+/**
+ * PoolState is the durable shape of a TicketPool: how many ticket IDs have been issued, which of
+ * them are sold, and the lifetime totals. It is rebuilt from journal snapshots and replayed records,
+ * and a TicketPool can be restored from it. Only primitive arrays are used so that replaying
+ * millions of records stays fast.
+ */
+public class PoolState {
+    private int nextId; // Ticket IDs below this have been issued
+    private long[] soldWords = new long[1024]; // Bitset of sold ticket IDs
+    private int soldCount; // Number of set bits in soldWords
+    private long totalAdded; // Tickets released into the pool, including the initial tickets
+    private long totalPurchased; // Tickets bought by customers
+    private long totalReturned; // Canceled tickets returned to the pool
+    private long eventsApplied; // Journal records applied to this state
+
+    void applyAdd(int firstId, int count) {
+        nextId = Math.max(nextId, firstId + count);
+        totalAdded += count;
+    }
+
+    void applyPurchase(int id) {
+        if (setSold(id, true)) {
+            totalPurchased++;
+        }
+    }
+
+    void applyReturn(int id) {
+        if (setSold(id, false)) {
+            totalReturned++;
+        }
+    }
+
+    void countEvent() {
+        eventsApplied++;
+    }
+
+    private boolean setSold(int id, boolean sold) {
+        int word = id >>> 6;
+        if (word >= soldWords.length) {
+            soldWords = Arrays.copyOf(soldWords, Math.max(word + 1, soldWords.length * 2));
+        }
+        long mask = 1L << id;
+        if (((soldWords[word] & mask) != 0) == sold) {
+            return false;
+        }
+        soldWords[word] ^= mask;
+        soldCount += sold ? 1 : -1;
+        return true;
+    }
+
+    /**
+     * Reports whether a ticket is sold in this state.
+     *
+     * @param id The ticket ID.
+     * @return true if the ticket is sold.
+     */
+    public boolean isSold(int id) {
+        int word = id >>> 6;
+        return word < soldWords.length && (soldWords[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns true if nothing has ever been recorded, i.e. there is no pool to restore.
+     *
+     * @return true for an empty state.
+     */
+    public boolean isEmpty() {
+        return nextId == 0 && totalAdded == 0;
+    }
+
+    public int getNextId() {
+        return nextId;
+    }
+
+    public int getAvailable() {
+        return nextId - soldCount;
+    }
+
+    public int getSoldCount() {
+        return soldCount;
+    }
+
+    public long getTotalAdded() {
+        return totalAdded;
+    }
+
+    public long getTotalPurchased() {
+        return totalPurchased;
+    }
+
+    public long getTotalReturned() {
+        return totalReturned;
+    }
+
+    public long getEventsApplied() {
+        return eventsApplied;
+    }
+
+    long[] soldWords() {
+        return soldWords;
+    }
+
+    void restore(int nextId, long[] soldWords, long totalAdded, long totalPurchased, long totalReturned, long eventsApplied) {
+        this.nextId = nextId;
+        this.soldWords = soldWords.length > 0 ? soldWords : new long[1];
+        this.soldCount = 0;
+        for (long word : soldWords) {
+            soldCount += Long.bitCount(word);
+        }
+        this.totalAdded = totalAdded;
+        this.totalPurchased = totalPurchased;
+        this.totalReturned = totalReturned;
+        this.eventsApplied = eventsApplied;
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PurchaseLimiter enforces per-customer limits on one pool: how many purchase attempts a customer may
+ * make per second and how many tickets one customer may hold in total. It is checked before the pool's
+ * inventory is touched, so refused attempts cost no pool work.
+ * <p>
+ * Customers are tracked in a fixed-size open-addressing table of primitive arrays, split into
+ * segments with a lock each. A customer is identified by a 64-bit hash of their name, so looking one
+ * up allocates nothing. The attempt rate is a token bucket kept as a single theoretical arrival time
+ * (the generic cell rate algorithm), allowing a burst of one second's attempts. An entry is evicted
+ * once its bucket has refilled and its customer holds no tickets. At that point it is
+ * indistinguishable from a customer never seen before, so eviction loses nothing, and any number of
+ * distinct buyers can pass through the table. Customers who hold tickets stay tracked.
+ * <p>
+ * Each segment gets at least twice its share of maxCustomers slots and accepts new customers until
+ * three quarters of its slots are taken, so at least maxCustomers customers holding tickets can be
+ * tracked at once (about 1.5 times that in practice, as hashing spreads customers evenly across
+ * segments). Beyond that, attempts by new customers are refused with TOO_MANY_CUSTOMERS until
+ * tracked customers go idle. The table costs 40 bytes per slot, about 40 MB for a million customers.
+ */
+public class PurchaseLimiter {
+
+    private static final int SEGMENT_BITS = 6; // 64 segments, chosen by the top bits of the key
+    private static final int MIN_SLOTS = 16; // Smallest segment
+    private static final long SWEEP_INTERVAL_NANOS = 1_000_000; // A full segment is swept for idle entries at most this often
+    private static final long EMPTY = 0; // Key of an unused slot
+
+    private final int maxTicketsPerCustomer; // 0 for no per-customer ticket limit
+    private final long emissionNanos; // Time one attempt token takes to refill, 0 for no rate limit
+    private final long burstNanos; // How far ahead of now the arrival time may run, allowing a one second burst
+    private final Segment[] segments;
+    private final LongAdder evictions = new LongAdder(); // Idle entries replaced by new customers
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxTicketsPerCustomer The most tickets one customer may hold, or 0 for no limit.
+     * @param attemptsPerSecond The purchase attempts one customer may make per second, or 0 for no limit.
+     * @param maxCustomers How many customers holding tickets the table can track at once, at least.
+     */
+    public PurchaseLimiter(int maxTicketsPerCustomer, int attemptsPerSecond, int maxCustomers) {
+        this.maxTicketsPerCustomer = Math.max(0, maxTicketsPerCustomer);
+        this.emissionNanos = attemptsPerSecond > 0 ? Math.max(1, 1_000_000_000L / attemptsPerSecond) : 0;
+        this.burstNanos = attemptsPerSecond > 0 ? emissionNanos * (attemptsPerSecond - 1) : 0;
+        int segmentCount = 1 << SEGMENT_BITS;
+        int share = (Math.max(1, maxCustomers) - 1) / segmentCount + 1;
+        int slotsPerSegment = Integer.highestOneBit(Math.max(MIN_SLOTS, share * 2) * 2 - 1); // Next power of two, at least twice the share
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(slotsPerSegment);
+        }
+    }
+
+    /**
+     * Takes one attempt token and reserves the tickets against the customer's limit.
+     *
+     * @param customerName The customer making the attempt.
+     * @param tickets The number of tickets wanted.
+     * @return ALLOWED if the attempt may go to the pool; the caller must then {@link #refund} the tickets
+     *         if the pool turns it down. TOO_MANY_CUSTOMERS if this customer is new and the table is full.
+     */
+    public LimitDecision tryAcquire(String customerName, int tickets) {
+        return tryAcquire(customerName, tickets, System.nanoTime());
+    }
+
+    LimitDecision tryAcquire(String customerName, int tickets, long nowNanos) {
+        long key = keyOf(customerName);
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.acquire(key, tickets, nowNanos);
+        }
+    }
+
+    /**
+     * Gives back tickets reserved by {@link #tryAcquire}, when the pool turned the attempt down, a hold was
+     * released or sold tickets were returned. The attempt token is not given back.
+     *
+     * @param customerName The customer the tickets were reserved for.
+     * @param tickets The number of tickets to give back.
+     */
+    public void refund(String customerName, int tickets) {
+        if (maxTicketsPerCustomer == 0) {
+            return; // Nothing is counted
+        }
+        long key = keyOf(customerName);
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            segment.refund(key, tickets);
+        }
+    }
+
+    /**
+     * Returns what an attempt would be told right now, without taking a token or reserving anything.
+     *
+     * @param customerName The customer.
+     * @param tickets The number of tickets.
+     * @return The decision tryAcquire would make.
+     */
+    public LimitDecision check(String customerName, int tickets) {
+        long key = keyOf(customerName);
+        Segment segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.check(key, tickets, System.nanoTime());
+        }
+    }
+
+    /**
+     * Returns how many customers are currently tracked.
+     *
+     * @return The number of occupied slots.
+     */
+    public int getTrackedCustomers() {
+        int tracked = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                tracked += segment.size;
+            }
+        }
+        return tracked;
+    }
+
+    /**
+     * Returns how many idle entries have been replaced by new customers.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private Segment segmentOf(long key) {
+        return segments[(int) (key >>> (64 - SEGMENT_BITS))];
+    }
+
+    /**
+     * Hashes a customer name to a non-zero 64-bit key without allocating: FNV-1a over the characters,
+     * then a finalizer so the segment and slot bits are well mixed.
+     */
+    static long keyOf(String customerName) {
+        long hash = 0xcbf29ce484222325L;
+        if (customerName != null) {
+            for (int i = 0; i < customerName.length(); i++) {
+                hash = (hash ^ customerName.charAt(i)) * 0x100000001b3L;
+            }
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    /**
+     * One lock's share of the table, with linear probing. At most three quarters of the slots are
+     * occupied, so a search always ends at an empty slot and probe runs stay short. A new customer takes
+     * over an idle entry on its probe run if there is one; when the segment is at capacity and there is
+     * not, idle entries are deleted in one sweep (with backward-shift deletion, so runs stay unbroken).
+     */
+    private final class Segment {
+        private final long[] keys;
+        private final long[] arrivalNanos; // Theoretical arrival time of the next attempt
+        private final int[] ticketsHeld; // Tickets reserved against the limit
+        private final int mask;
+        private final int capacity; // Occupied slots allowed
+        private int size; // Occupied slots
+        private long lastSweepNanos; // When idle entries were last swept out
+        private boolean swept; // Whether lastSweepNanos is set
+
+        private Segment(int slots) {
+            this.keys = new long[slots];
+            this.arrivalNanos = new long[slots];
+            this.ticketsHeld = new int[slots];
+            this.mask = slots - 1;
+            this.capacity = slots - slots / 4;
+        }
+
+        private LimitDecision acquire(long key, int tickets, long now) {
+            int slot = find(key, now, true);
+            if (slot < 0) {
+                return LimitDecision.TOO_MANY_CUSTOMERS;
+            }
+            LimitDecision decision = decide(slot, tickets, now);
+            if (decision != LimitDecision.RATE_LIMITED) {
+                arrivalNanos[slot] = Math.max(arrivalNanos[slot], now) + emissionNanos; // The attempt uses a token either way
+            }
+            if (decision == LimitDecision.ALLOWED && maxTicketsPerCustomer > 0) {
+                ticketsHeld[slot] += tickets;
+            }
+            return decision;
+        }
+
+        private LimitDecision check(long key, int tickets, long now) {
+            int slot = find(key, now, false);
+            return slot < 0 ? (hasRoom(key, now) ? LimitDecision.ALLOWED : LimitDecision.TOO_MANY_CUSTOMERS) : decide(slot, tickets, now);
+        }
+
+        private void refund(long key, int tickets) {
+            int slot = find(key, 0, false);
+            if (slot >= 0) {
+                ticketsHeld[slot] = Math.max(0, ticketsHeld[slot] - tickets);
+            }
+        }
+
+        private LimitDecision decide(int slot, int tickets, long now) {
+            if (emissionNanos > 0 && arrivalNanos[slot] - now > burstNanos) {
+                return LimitDecision.RATE_LIMITED;
+            }
+            if (maxTicketsPerCustomer > 0 && (long) ticketsHeld[slot] + tickets > maxTicketsPerCustomer) {
+                return LimitDecision.LIMIT_REACHED;
+            }
+            return LimitDecision.ALLOWED;
+        }
+
+        /**
+         * Finds the key's slot. When inserting, a missing key takes over the first entry on its probe run
+         * that carries no state, or failing that the empty slot ending the run if the segment has room.
+         *
+         * @return The slot, or -1 if the key is missing and was not (or could not be) inserted.
+         */
+        private int find(long key, long now, boolean insert) {
+            int home = (int) key & mask;
+            int reusable = -1;
+            for (int probe = 0; probe <= mask; probe++) {
+                int slot = (home + probe) & mask;
+                long existing = keys[slot];
+                if (existing == key) {
+                    return slot;
+                }
+                if (existing == EMPTY) {
+                    if (!insert) {
+                        return -1;
+                    }
+                    if (reusable >= 0) {
+                        evictions.increment();
+                        return claim(reusable, key);
+                    }
+                    if (size >= capacity) {
+                        return sweep(now) > 0 ? find(key, now, true) : -1;
+                    }
+                    size++;
+                    return claim(slot, key);
+                }
+                if (insert && reusable < 0 && isIdle(slot, now)) {
+                    reusable = slot;
+                }
+            }
+            return -1; // Not reached: occupancy stays below the slot count
+        }
+
+        /**
+         * Deletes every idle entry, unless the segment was swept less than {@link #SWEEP_INTERVAL_NANOS} ago.
+         *
+         * @return The number of entries deleted.
+         */
+        private int sweep(long now) {
+            if (swept && now - lastSweepNanos < SWEEP_INTERVAL_NANOS) {
+                return 0; // Bounds the cost of attempts made while every tracked customer is busy
+            }
+            swept = true;
+            lastSweepNanos = now;
+            int freed = 0;
+            for (int slot = 0; slot <= mask; slot++) {
+                while (keys[slot] != EMPTY && isIdle(slot, now)) {
+                    delete(slot); // May move a later entry into this slot, so check it again
+                    freed++;
+                }
+            }
+            evictions.add(freed);
+            return freed;
+        }
+
+        /**
+         * Empties a slot and moves later entries of the same run back, so every key stays reachable from its home slot.
+         */
+        private void delete(int slot) {
+            int hole = slot;
+            for (int next = (slot + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = (int) keys[next] & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) { // Its home is not between the hole and here
+                    keys[hole] = keys[next];
+                    arrivalNanos[hole] = arrivalNanos[next];
+                    ticketsHeld[hole] = ticketsHeld[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            size--;
+        }
+
+        /**
+         * Tells whether a new key would be given a slot right now.
+         */
+        private boolean hasRoom(long key, long now) {
+            if (size < capacity) {
+                return true;
+            }
+            int home = (int) key & mask;
+            for (int probe = 0; probe <= mask; probe++) {
+                int slot = (home + probe) & mask;
+                if (keys[slot] == EMPTY) {
+                    return false;
+                }
+                if (isIdle(slot, now)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isIdle(int slot, long now) {
+            return ticketsHeld[slot] == 0 && arrivalNanos[slot] - now <= 0; // Bucket full and nothing held
+        }
+
+        private int claim(int slot, long key) {
+            keys[slot] = key;
+            arrivalNanos[slot] = Long.MIN_VALUE / 2; // Full bucket; max(arrival, now) picks now
+            ticketsHeld[slot] = 0;
+            return slot;
+        }
+    }
+}
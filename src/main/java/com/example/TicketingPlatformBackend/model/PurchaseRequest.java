@@ -0,0 +1,33 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * PurchaseRequest is one buyer's entry in a batched purchase: who is buying and how many tickets.
+ */
+public class PurchaseRequest {
+    private String customerName; // Buyer name used in the log
+    private int quantity; // Tickets wanted, granted all-or-nothing
+
+    public PurchaseRequest() {
+    }
+
+    public PurchaseRequest(String customerName, int quantity) {
+        this.customerName = customerName;
+        this.quantity = quantity;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * PurchaseResult is the outcome of one {@link PurchaseRequest} in a batch, in the same position as the request.
+ */
+public class PurchaseResult {
+    public static final String SOLD_OUT = "SOLD_OUT"; // The pool was empty
+    public static final String INSUFFICIENT_TICKETS = "INSUFFICIENT_TICKETS"; // Fewer tickets left than requested
+    public static final String RATE_LIMITED = "RATE_LIMITED"; // The customer made attempts too quickly
+    public static final String LIMIT_REACHED = "LIMIT_REACHED"; // The customer would exceed the per-customer ticket limit
+    public static final String TOO_MANY_CUSTOMERS = "TOO_MANY_CUSTOMERS"; // A new customer found the per-customer limit table full
+    public static final String INVALID_QUANTITY = "INVALID_QUANTITY"; // Quantity was zero or negative
+
+    private final String customerName; // Buyer name from the request
+    private final int quantity; // Tickets requested
+    private final boolean success; // True if every requested ticket was purchased
+    private final int[] ticketIds; // IDs of the purchased tickets, empty on failure
+    private final String reason; // Why the request failed, null on success
+
+    public PurchaseResult(String customerName, int quantity, boolean success, int[] ticketIds, String reason) {
+        this.customerName = customerName;
+        this.quantity = quantity;
+        this.success = success;
+        this.ticketIds = ticketIds;
+        this.reason = reason;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public int[] getTicketIds() {
+        return ticketIds;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
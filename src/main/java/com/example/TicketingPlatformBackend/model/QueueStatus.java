@@ -0,0 +1,40 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * QueueStatus tells a buyer in a {@link WaitingRoom} where they stand and roughly how long they will wait.
+ */
+public class QueueStatus {
+    private final long queueNumber; // The buyer's number, 0 if they were turned away
+    private final AdmissionState state; // Where the number stands
+    private final long position; // Buyers admitted before this one, 0 once admitted
+    private final long estimatedWaitMillis; // Position divided by the admission rate
+    private final long queueLength; // Buyers currently waiting
+
+    public QueueStatus(long queueNumber, AdmissionState state, long position, long estimatedWaitMillis, long queueLength) {
+        this.queueNumber = queueNumber;
+        this.state = state;
+        this.position = position;
+        this.estimatedWaitMillis = estimatedWaitMillis;
+        this.queueLength = queueLength;
+    }
+
+    public long getQueueNumber() {
+        return queueNumber;
+    }
+
+    public AdmissionState getState() {
+        return state;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getEstimatedWaitMillis() {
+        return estimatedWaitMillis;
+    }
+
+    public long getQueueLength() {
+        return queueLength;
+    }
+}
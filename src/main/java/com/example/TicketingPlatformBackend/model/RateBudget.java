@@ -0,0 +1,59 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * RateBudget turns a participant's per-second rate into the most tickets it may move on one tick.
+ * Each tick earns rate × interval / 1000 tickets of credit and the tickets moved are spent from it, so
+ * fractional credit carries over: 3 tickets per second on a 10 ms tick allows one ticket about every
+ * 33 ticks instead of one on every tick. Unspent credit is capped just below one tick's worth plus one
+ * ticket, so the fraction left over is never lost but an idle participant cannot save up a burst.
+ * <p>
+ * A budget belongs to one participant and is only used from the thread running its tick; the rate may
+ * be changed from any thread.
+ */
+public final class RateBudget {
+    private static final long MILLI_TICKETS = 1000; // Credit is kept in thousandths of a ticket, so it adds up exactly
+
+    private final long tickIntervalMillis; // Time between two ticks
+    private volatile long perTick; // Credit earned on each tick, in thousandths of a ticket
+    private long credit; // Credit not yet spent, in thousandths of a ticket (ticking thread only)
+
+    /**
+     * Creates a budget for a rate and tick interval.
+     *
+     * @param ratePerSecond The configured per-second rate.
+     * @param tickIntervalMillis The tick interval.
+     */
+    public RateBudget(int ratePerSecond, long tickIntervalMillis) {
+        this.tickIntervalMillis = tickIntervalMillis;
+        setRate(ratePerSecond);
+    }
+
+    /**
+     * Changes the rate; the next tick earns credit at the new rate.
+     *
+     * @param ratePerSecond The new per-second rate.
+     */
+    public void setRate(int ratePerSecond) {
+        this.perTick = Math.max(0, ratePerSecond) * tickIntervalMillis; // Tickets per second times seconds per tick, in thousandths
+    }
+
+    /**
+     * Earns one tick's credit and returns the largest batch it covers.
+     *
+     * @return The batch upper bound for this tick, 0 if the participant should skip it.
+     */
+    public int nextLimit() {
+        long earned = perTick;
+        credit = Math.min(credit + earned, earned + MILLI_TICKETS - 1);
+        return (int) Math.min(Integer.MAX_VALUE, credit / MILLI_TICKETS);
+    }
+
+    /**
+     * Spends credit on the tickets moved this tick.
+     *
+     * @param tickets The number of tickets added or purchased, at most the last limit.
+     */
+    public void spend(int tickets) {
+        credit = Math.max(0, credit - tickets * MILLI_TICKETS);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * ReleaseMode selects how the simulated vendors decide how many tickets to release.
+ */
+public enum ReleaseMode {
+    FIXED,   // A random batch up to the release rate every tick, rejected whole when it does not fit
+    ADAPTIVE // Batches follow observed demand towards a target fill level and are trimmed to fit
+}
@@ -0,0 +1,87 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * SeatLayout maps a numeric ticket ID onto a section, row and seat without storing anything per ticket.
+ * IDs are laid out section by section, row by row; a layout with no rows is general admission.
+ */
+public class SeatLayout {
+    public static final SeatLayout GENERAL_ADMISSION = new SeatLayout(0, 0);
+
+    private final int seatsPerRow; // Seats in every row (0 = general admission)
+    private final int rowsPerSection; // Rows in every section (0 = a single section)
+
+    /**
+     * Creates a seat layout.
+     *
+     * @param seatsPerRow The number of seats in each row, or 0 for general admission.
+     * @param rowsPerSection The number of rows in each section, or 0 for a single section.
+     */
+    public SeatLayout(int seatsPerRow, int rowsPerSection) {
+        this.seatsPerRow = Math.max(0, seatsPerRow);
+        this.rowsPerSection = Math.max(0, rowsPerSection);
+    }
+
+    public boolean isGeneralAdmission() {
+        return seatsPerRow == 0;
+    }
+
+    /**
+     * Returns the 1-based section of a ticket.
+     */
+    public int section(int ticketId) {
+        if (isGeneralAdmission() || rowsPerSection == 0) {
+            return 1;
+        }
+        return ticketId / (seatsPerRow * rowsPerSection) + 1;
+    }
+
+    /**
+     * Returns the 1-based row of a ticket within its section.
+     */
+    public int row(int ticketId) {
+        if (isGeneralAdmission()) {
+            return 0;
+        }
+        int rowIndex = ticketId / seatsPerRow;
+        return (rowsPerSection == 0 ? rowIndex : rowIndex % rowsPerSection) + 1;
+    }
+
+    /**
+     * Returns the 1-based seat of a ticket within its row.
+     */
+    public int seat(int ticketId) {
+        return isGeneralAdmission() ? 0 : ticketId % seatsPerRow + 1;
+    }
+
+    /**
+     * Returns a human readable label such as "S1-R4-12", or "#57" for general admission.
+     *
+     * @param ticketId The ticket ID.
+     * @return The ticket label.
+     */
+    public String label(int ticketId) {
+        if (isGeneralAdmission()) {
+            return "#" + ticketId;
+        }
+        return "S" + section(ticketId) + "-R" + row(ticketId) + "-" + seat(ticketId);
+    }
+
+    /**
+     * Formats a run of ticket IDs for logging, e.g. "[S1-R1-3, S1-R1-4]".
+     *
+     * @param ticketIds Array holding the IDs.
+     * @param offset Index of the first ID.
+     * @param length Number of IDs.
+     * @return The formatted labels.
+     */
+    public String describe(int[] ticketIds, int offset, int length) {
+        StringBuilder labels = new StringBuilder("[");
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                labels.append(", ");
+            }
+            labels.append(label(ticketIds[offset + i]));
+        }
+        return labels.append(']').toString();
+    }
+}
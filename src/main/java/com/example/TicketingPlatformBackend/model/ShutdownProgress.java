@@ -0,0 +1,44 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * ShutdownProgress reports how many vendors and customers a stop has shut down so far.
+ */
+public class ShutdownProgress {
+    private final ShutdownState state; // How far the stop has got
+    private final int participants; // Vendors and customers that were running when the stop began
+    private final int participantsStopped; // Those confirmed stopped so far
+    private final long elapsedMillis; // Time since the stop began, or its total duration once finished
+    private final long deadlineMillis; // Longest the stop waits for participants
+
+    public ShutdownProgress(ShutdownState state, int participants, int participantsStopped, long elapsedMillis, long deadlineMillis) {
+        this.state = state;
+        this.participants = participants;
+        this.participantsStopped = participantsStopped;
+        this.elapsedMillis = elapsedMillis;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public ShutdownState getState() {
+        return state;
+    }
+
+    public int getParticipants() {
+        return participants;
+    }
+
+    public int getParticipantsStopped() {
+        return participantsStopped;
+    }
+
+    public int getParticipantsRunning() {
+        return participants - participantsStopped;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * ShutdownState is how far the latest stop of the ticket system has got.
+ */
+public enum ShutdownState {
+    IDLE,      // The system has not been stopped since the server started
+    STOPPING,  // Participants have been told to stop and are being waited for
+    STOPPED,   // Every participant stopped within the deadline
+    TIMED_OUT  // The deadline passed with participants still running; they are interrupted and will exit on their own
+}
@@ -0,0 +1,168 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * StripedTicketInventory spreads the available count over per-core stripes so buyers on
+ * different cores update different cache lines.
+ * <p>
+ * A purchase first tries its home stripe with a single compare-and-set and never blocks on that path.
+ * Only when the home stripe runs dry does the buyer take the stripe lock and steal from the other stripes.
+ * Every operation that raises a stripe (vendor releases, returns and rolled-back steals) also runs under
+ * that lock, so while the capacity check sums the stripes the total can only shrink underneath it.
+ * This keeps both the maximum capacity and the no-oversell guarantee exact.
+ */
+class StripedTicketInventory implements TicketInventory {
+    private static final int PADDING = 16; // 16 ints = 64 bytes, so each stripe sits on its own cache line
+
+    private final AtomicIntegerArray stripes; // Padded per-stripe ticket counts
+    private final int stripeCount; // Number of stripes
+    private volatile int maxCapacity; // Maximum number of tickets that can be held across all stripes
+    private final ReentrantLock stripeLock = new ReentrantLock(); // Serializes increases and steals
+    private volatile PoolMetrics metrics = PoolMetrics.NONE; // Receives stripe lock wait and hold times
+
+    StripedTicketInventory(int initialTickets, int maxCapacity, int stripeCount) {
+        this.stripeCount = Math.max(1, stripeCount);
+        this.maxCapacity = maxCapacity;
+        this.stripes = new AtomicIntegerArray(this.stripeCount * PADDING);
+        spread(initialTickets, 0);
+    }
+
+    @Override
+    public boolean tryAdd(int tickets) {
+        long requestedNanos = System.nanoTime();
+        stripeLock.lock();
+        long acquiredNanos = System.nanoTime();
+        try {
+            if (available() + tickets > maxCapacity) {
+                return false;
+            }
+            spread(tickets, TicketInventory.homeStripe(stripeCount));
+            return true;
+        } finally {
+            unlockStripes(requestedNanos, acquiredNanos);
+        }
+    }
+
+    @Override
+    public int tryAddUpTo(int tickets) {
+        long requestedNanos = System.nanoTime();
+        stripeLock.lock();
+        long acquiredNanos = System.nanoTime();
+        try {
+            int added = Math.min(tickets, maxCapacity - available());
+            if (added <= 0) {
+                return 0;
+            }
+            spread(added, TicketInventory.homeStripe(stripeCount));
+            return added;
+        } finally {
+            unlockStripes(requestedNanos, acquiredNanos);
+        }
+    }
+
+    @Override
+    public void setMaxCapacity(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    @Override
+    public boolean tryTake(int tickets) {
+        int home = TicketInventory.homeStripe(stripeCount);
+        int index = home * PADDING;
+        int available;
+        while ((available = stripes.get(index)) >= tickets) { // Fast path: the home stripe covers the whole purchase
+            if (stripes.compareAndSet(index, available, available - tickets)) {
+                return true;
+            }
+        }
+        return steal(tickets, home);
+    }
+
+    /**
+     * Slow path for purchases the home stripe cannot cover. Takes what it can from every stripe and
+     * puts it back if the total still falls short, so the purchase stays all-or-nothing.
+     */
+    private boolean steal(int tickets, int home) {
+        long requestedNanos = System.nanoTime();
+        stripeLock.lock();
+        long acquiredNanos = System.nanoTime();
+        try {
+            if (available() < tickets) {
+                return false;
+            }
+            int remaining = tickets;
+            for (int i = 0; i < stripeCount && remaining > 0; i++) {
+                remaining -= drain((home + i) % stripeCount, remaining);
+            }
+            if (remaining > 0) {
+                stripes.getAndAdd(home * PADDING, tickets - remaining); // Concurrent buyers won the race; roll back
+                return false;
+            }
+            return true;
+        } finally {
+            unlockStripes(requestedNanos, acquiredNanos);
+        }
+    }
+
+    /**
+     * Releases the lock and reports how long it was waited for and held.
+     */
+    private void unlockStripes(long requestedNanos, long acquiredNanos) {
+        stripeLock.unlock();
+        metrics.lockTimed(PoolLock.INVENTORY_STRIPES, acquiredNanos - requestedNanos, System.nanoTime() - acquiredNanos);
+    }
+
+    @Override
+    public void setMetrics(PoolMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Takes up to the requested number of tickets from a single stripe.
+     *
+     * @return The number of tickets actually taken.
+     */
+    private int drain(int stripe, int wanted) {
+        int index = stripe * PADDING;
+        int available;
+        int taken;
+        do {
+            available = stripes.get(index);
+            taken = Math.min(available, wanted);
+            if (taken == 0) {
+                return 0;
+            }
+        } while (!stripes.compareAndSet(index, available, available - taken));
+        return taken;
+    }
+
+    /**
+     * Distributes tickets evenly over all stripes, starting the remainder at the given stripe.
+     */
+    private void spread(int tickets, int firstStripe) {
+        int share = tickets / stripeCount;
+        int remainder = tickets % stripeCount;
+        for (int i = 0; i < stripeCount; i++) {
+            int amount = share + (i < remainder ? 1 : 0);
+            if (amount > 0) {
+                stripes.getAndAdd(((firstStripe + i) % stripeCount) * PADDING, amount);
+            }
+        }
+    }
+
+    @Override
+    public int stripeCount() {
+        return stripeCount;
+    }
+
+    @Override
+    public int available() {
+        int total = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            total += stripes.get(i * PADDING);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TicketIdRing is a bounded, lock-free multi-producer/multi-consumer queue of ticket IDs.
+ * IDs live in a primitive int array and each slot carries a sequence number that tells
+ * producers and consumers whose turn it is, so offer and poll never allocate.
+ */
+class TicketIdRing {
+    static final int EMPTY = -1; // Returned by poll when no ticket ID is ready
+
+    private final int mask; // Slot count minus one; the slot count is a power of two
+    private final int[] ids; // Ticket IDs stored in the ring
+    private final AtomicLongArray sequences; // Per-slot turn markers
+    private final AtomicLong tail = new AtomicLong(); // Next position to write
+    private final AtomicLong head = new AtomicLong(); // Next position to read
+
+    TicketIdRing(int minimumSlots) {
+        int slots = Integer.highestOneBit(Math.max(2, minimumSlots) - 1) << 1; // Round up to a power of two
+        this.mask = slots - 1;
+        this.ids = new int[slots];
+        this.sequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Appends a ticket ID to the ring.
+     *
+     * @param id The ticket ID to store.
+     * @return false if the ring is full.
+     */
+    boolean offer(int id) {
+        long position = tail.get();
+        int slot;
+        while (true) {
+            slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // The slot still holds an ID from the previous lap
+            } else {
+                position = tail.get();
+            }
+        }
+        ids[slot] = id;
+        sequences.lazySet(slot, position + 1); // Publish the ID to consumers
+        return true;
+    }
+
+    /**
+     * Removes the oldest ticket ID from the ring.
+     *
+     * @return The ticket ID, or {@link #EMPTY} if no ID is ready.
+     */
+    int poll() {
+        long position = head.get();
+        int slot;
+        while (true) {
+            slot = (int) position & mask;
+            long difference = sequences.get(slot) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return EMPTY;
+            } else {
+                position = head.get();
+            }
+        }
+        int id = ids[slot];
+        sequences.lazySet(slot, position + mask + 1); // Hand the slot back to producers for the next lap
+        return id;
+    }
+}
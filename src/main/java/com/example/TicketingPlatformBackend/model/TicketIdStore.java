@@ -0,0 +1,282 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * TicketIdStore tracks the identity of every ticket in a pool using only primitive storage.
+ * Available IDs wait in a set of {@link TicketIdRing}s (one per inventory stripe), and a chunked
+ * bitset records which IDs are currently sold so that only genuinely sold tickets can be returned.
+ * <p>
+ * The store does no capacity accounting of its own: the pool's {@link TicketInventory} reserves the
+ * count first, so a buyer that got a reservation is guaranteed an ID is in, or on its way to, a ring.
+ * <p>
+ * IDs are never reused, so a pool can release at most {@value #MAX_IDS} tickets over its lifetime,
+ * returned tickets not counted. A release claims its IDs with {@link #claim(int)} before the inventory
+ * counts the tickets, so once the IDs run out further releases are refused rather than overflowing into
+ * negative IDs, and no buyer is ever promised a ticket that cannot get an ID.
+ */
+class TicketIdStore {
+    private static final int CHUNK_SHIFT = 16; // 65,536 tickets (8 KB of bits) per bitset chunk
+    private static final int CHUNK_BITS = 1 << CHUNK_SHIFT;
+    private static final int MAX_CHUNKS = 1 << (31 - CHUNK_SHIFT); // Enough chunks for every non-negative int ID
+    private static final int SPINS_BEFORE_YIELD = 64;
+    static final int MAX_IDS = Integer.MAX_VALUE; // IDs 0 to MAX_IDS - 1 fit in a non-negative int
+
+    private final TicketIdRing[] rings; // Available ticket IDs, one ring per stripe
+    private final AtomicReferenceArray<AtomicLongArray> soldChunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger nextId = new AtomicInteger(); // Next ID handed out to newly released tickets
+    private final AtomicLong claimedIds = new AtomicLong(); // IDs issued or promised to releases in progress
+    private final long maxIds; // IDs this store may ever hand out
+
+    TicketIdStore(int initialTickets, int maxCapacity, int stripes) {
+        this(initialTickets, maxCapacity, stripes, MAX_IDS);
+    }
+
+    TicketIdStore(int initialTickets, int maxCapacity, int stripes, int maxIds) {
+        this(Math.max(initialTickets, maxCapacity), stripes, (long) maxIds);
+        claimedIds.set(initialTickets);
+        issue(initialTickets);
+    }
+
+    private TicketIdStore(int capacity, int stripes, long maxIds) {
+        this.maxIds = maxIds;
+        int ringCount = Math.max(1, stripes);
+        int slotsPerRing = (2 * capacity) / ringCount + 16; // Headroom for in-flight handoffs
+        this.rings = new TicketIdRing[ringCount];
+        for (int i = 0; i < ringCount; i++) {
+            rings[i] = new TicketIdRing(slotsPerRing);
+        }
+    }
+
+    /**
+     * Rebuilds a store from recovered state: every issued ID that is not sold goes back into the rings.
+     *
+     * @param state The recovered pool state.
+     * @param maxCapacity The maximum capacity of the pool.
+     * @param stripes The number of inventory stripes.
+     * @return The restored store.
+     */
+    static TicketIdStore restore(PoolState state, int maxCapacity, int stripes) {
+        TicketIdStore store = new TicketIdStore(Math.max(state.getAvailable(), maxCapacity), stripes, (long) MAX_IDS);
+        int issued = state.getNextId();
+        store.claimedIds.set(issued);
+        store.reserve(issued);
+        for (int id = 0; id < issued; id++) {
+            if (state.isSold(id)) {
+                store.setSold(id, true);
+            } else {
+                store.offer(id, id);
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Claims IDs for a release before its tickets are counted, so the release can be refused while nothing depends on it.
+     *
+     * @param tickets The number of tickets to be released.
+     * @return How many IDs were claimed: all of them, or fewer once the IDs are running out.
+     */
+    int claim(int tickets) {
+        while (true) {
+            long claimed = claimedIds.get();
+            int granted = (int) Math.max(0, Math.min(tickets, maxIds - claimed));
+            if (granted == 0 || claimedIds.compareAndSet(claimed, claimed + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * Gives back claimed IDs that the release did not use, because the pool had no room for them.
+     *
+     * @param tickets The number of unused IDs.
+     */
+    void unclaim(int tickets) {
+        if (tickets > 0) {
+            claimedIds.addAndGet(-tickets);
+        }
+    }
+
+    /**
+     * Creates identities for newly released tickets and makes them available.
+     *
+     * @param tickets The number of new tickets.
+     * @return The first ID of the consecutive block that was issued.
+     */
+    int issue(int tickets) {
+        int firstId = reserve(tickets);
+        publish(firstId, tickets);
+        return firstId;
+    }
+
+    /**
+     * Allocates a block of IDs for newly released tickets without making them available yet,
+     * so the caller can journal the release before any buyer can take one of them. The IDs must have
+     * been claimed.
+     *
+     * @param tickets The number of new tickets.
+     * @return The first ID of the allocated block.
+     */
+    int reserve(int tickets) {
+        int firstId = nextId.getAndAdd(tickets);
+        int lastChunk = (firstId + tickets - 1) >>> CHUNK_SHIFT;
+        for (int chunk = firstId >>> CHUNK_SHIFT; chunk <= lastChunk && tickets > 0; chunk++) {
+            if (soldChunks.get(chunk) == null) {
+                soldChunks.compareAndSet(chunk, null, new AtomicLongArray(CHUNK_BITS / Long.SIZE));
+            }
+        }
+        return firstId;
+    }
+
+    /**
+     * Makes a block of IDs from {@link #reserve(int)} available to buyers.
+     *
+     * @param firstId The first ID of the block.
+     * @param tickets The number of IDs in the block.
+     */
+    void publish(int firstId, int tickets) {
+        int home = TicketInventory.homeStripe(rings.length);
+        for (int i = 0; i < tickets; i++) {
+            offer(firstId + i, home + i); // Round-robin so every stripe gets a share
+        }
+    }
+
+    /**
+     * Takes reserved ticket IDs out of the rings and marks them sold.
+     * The caller must already hold an inventory reservation for this many tickets.
+     *
+     * @param tickets The number of IDs to take.
+     * @param ticketIds Destination array for the IDs.
+     * @param offset Index in the destination array to start writing at.
+     */
+    void take(int tickets, int[] ticketIds, int offset) {
+        take(tickets, ticketIds, offset, true);
+    }
+
+    /**
+     * Takes reserved ticket IDs out of the rings, marking them sold or leaving them unsold for a hold.
+     * The caller must already hold an inventory reservation for this many tickets.
+     *
+     * @param tickets The number of IDs to take.
+     * @param ticketIds Destination array for the IDs.
+     * @param offset Index in the destination array to start writing at.
+     * @param markSold false to take the IDs for a hold that is confirmed or released later.
+     */
+    void take(int tickets, int[] ticketIds, int offset, boolean markSold) {
+        int home = TicketInventory.homeStripe(rings.length);
+        for (int i = 0; i < tickets; i++) {
+            int id = pollAny(home);
+            if (markSold) {
+                setSold(id, true);
+            }
+            ticketIds[offset + i] = id;
+        }
+    }
+
+    /**
+     * Marks a sold ticket as no longer sold, ahead of returning it to the pool.
+     *
+     * @param id The ticket ID being returned.
+     * @return false if the ID was never issued or is not currently sold.
+     */
+    boolean unmarkSold(int id) {
+        return id >= 0 && id < nextId.get() && setSold(id, false);
+    }
+
+    /**
+     * Marks a ticket as sold again, used to roll back a return that failed the capacity check.
+     *
+     * @param id The ticket ID.
+     */
+    void remarkSold(int id) {
+        setSold(id, true);
+    }
+
+    /**
+     * Makes a returned ticket ID available again. Its sold flag must already be cleared.
+     *
+     * @param id The ticket ID.
+     */
+    void release(int id) {
+        offer(id, TicketInventory.homeStripe(rings.length));
+    }
+
+    /**
+     * Reports whether a ticket is currently sold.
+     *
+     * @param id The ticket ID.
+     * @return true if the ticket has been purchased and not returned.
+     */
+    boolean isSold(int id) {
+        if (id < 0 || id >= nextId.get()) {
+            return false;
+        }
+        AtomicLongArray chunk = soldChunks.get(id >>> CHUNK_SHIFT);
+        return chunk != null && (chunk.get((id & (CHUNK_BITS - 1)) >>> 6) & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the number of ticket IDs issued so far.
+     *
+     * @return The issued ID count.
+     */
+    int issuedCount() {
+        return nextId.get();
+    }
+
+    private void offer(int id, int firstRing) {
+        int spins = 0;
+        while (true) {
+            for (int i = 0; i < rings.length; i++) {
+                if (rings[(firstRing + i) % rings.length].offer(id)) {
+                    return;
+                }
+            }
+            backOff(++spins); // Every ring is full until in-flight buyers drain their reserved IDs
+        }
+    }
+
+    private int pollAny(int firstRing) {
+        int spins = 0;
+        while (true) {
+            for (int i = 0; i < rings.length; i++) {
+                int id = rings[(firstRing + i) % rings.length].poll();
+                if (id != TicketIdRing.EMPTY) {
+                    return id;
+                }
+            }
+            backOff(++spins); // The reserved ID is still being published by a vendor or a return
+        }
+    }
+
+    private boolean setSold(int id, boolean sold) {
+        AtomicLongArray chunk = soldChunks.get(id >>> CHUNK_SHIFT);
+        if (chunk == null) {
+            return false; // The issuing vendor has not installed this chunk yet, so the ID cannot be sold
+        }
+        int index = (id & (CHUNK_BITS - 1)) >>> 6;
+        long mask = 1L << id; // Shifts only use the low six bits
+        long word;
+        long updated;
+        do {
+            word = chunk.get(index);
+            if (((word & mask) != 0) == sold) {
+                return false;
+            }
+            updated = sold ? word | mask : word & ~mask;
+        } while (!chunk.compareAndSet(index, word, updated));
+        return true;
+    }
+
+    private static void backOff(int spins) {
+        if (spins < SPINS_BEFORE_YIELD) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * TicketInventory is the storage strategy behind a TicketPool's available ticket count.
+ * Implementations must never let the count drop below zero or rise above the maximum capacity.
+ */
+interface TicketInventory {
+
+    /**
+     * Puts tickets into the inventory unless that would exceed the maximum capacity.
+     *
+     * @param tickets The number of tickets to add.
+     * @return true if the tickets were added, false if the capacity check failed.
+     */
+    boolean tryAdd(int tickets);
+
+    /**
+     * Puts as many of the tickets into the inventory as fit under the maximum capacity.
+     *
+     * @param tickets The number of tickets offered.
+     * @return The number of tickets added, 0 if the inventory is full.
+     */
+    int tryAddUpTo(int tickets);
+
+    /**
+     * Takes tickets out of the inventory. Either all of them are taken or none are.
+     *
+     * @param tickets The number of tickets to take.
+     * @return true if the tickets were taken, false if there was not enough stock.
+     */
+    boolean tryTake(int tickets);
+
+    /**
+     * Returns the number of tickets currently available. Never blocks.
+     *
+     * @return The available ticket count.
+     */
+    int available();
+
+    /**
+     * Changes the maximum capacity checked by later adds. Adds already past the check are not undone.
+     *
+     * @param maxCapacity The new maximum capacity.
+     */
+    void setMaxCapacity(int maxCapacity);
+
+    /**
+     * Returns how many independent stripes the inventory is split into.
+     *
+     * @return The stripe count, 1 for unstriped inventories.
+     */
+    default int stripeCount() {
+        return 1;
+    }
+
+    /**
+     * Reports lock timings to the given metrics. Inventories that never lock ignore it.
+     *
+     * @param metrics Where lock timings go.
+     */
+    default void setMetrics(PoolMetrics metrics) {
+    }
+
+    /**
+     * Maps the calling thread onto a stripe, so the same thread keeps hitting the same cache line.
+     *
+     * @param stripeCount The number of stripes.
+     * @return The calling thread's home stripe.
+     */
+    static int homeStripe(int stripeCount) {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9; // Fibonacci hashing spreads sequential thread ids
+        return (hash >>> 1) % stripeCount;
+    }
+
+    /**
+     * Creates the inventory implementation for the given mode.
+     *
+     * @param mode The inventory mode to use.
+     * @param initialTickets The number of tickets the inventory starts with.
+     * @param maxCapacity The maximum number of tickets the inventory may hold.
+     * @param stripes The number of stripes for striped mode, or 0 to use one per available processor.
+     * @return A new inventory instance.
+     */
+    static TicketInventory create(InventoryMode mode, int initialTickets, int maxCapacity, int stripes) {
+        if (mode == InventoryMode.STRIPED) {
+            int stripeCount = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+            return new StripedTicketInventory(initialTickets, maxCapacity, stripeCount);
+        }
+        return new AtomicTicketInventory(initialTickets, maxCapacity);
+    }
+}
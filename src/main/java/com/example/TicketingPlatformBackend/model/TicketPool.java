@@ -1,17 +1,46 @@
 package com.example.TicketingPlatformBackend.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 /**
  * TicketPool manages the available tickets in the system and handles concurrent access
- * by both vendors and customers using synchronized methods.
+ * by both vendors and customers without taking a lock on the purchase path.
+ * The available count lives in a {@link TicketInventory} chosen by {@link InventoryMode}, which keeps
+ * the capacity and stock checks exact, and all getters are plain reads that never block writers.
+ * Every ticket also has an integer ID tracked by a {@link TicketIdStore}, so purchases hand out
+ * specific tickets and cancellations return exactly those tickets.
  */
 public class TicketPool {
-    private int currentTickets; // Current number of tickets available in the pool
-    private final int maxCapacity; // Maximum capacity of tickets that can be held in the pool
+    private final TicketInventory inventory; // Storage for the number of tickets available in the pool
+    private final TicketIdStore ticketIds; // Identities of available and sold tickets
+    private final SeatLayout seatLayout; // Maps ticket IDs onto sections, rows and seats
+    private final int idCapacity; // Most tickets the ID store was sized for; capacity cannot be raised past it
+    private volatile int maxCapacity; // Maximum capacity of tickets that can be held in the pool
 
-    private int totalTicketsAddedByVendors; // Total number of tickets added by vendors
-    private int totalTicketsPurchasedByCustomers; // Total number of tickets purchased by customers
+    private final LongAdder totalTicketsAddedByVendors = new LongAdder(); // Total number of tickets added by vendors
+    private final LongAdder totalTicketsPurchasedByCustomers = new LongAdder(); // Total number of tickets purchased by customers
+    private final LongAdder totalTicketsReturned = new LongAdder(); // Total number of canceled tickets returned to the pool
+    private final LongAdder ticketsOnHold = new LongAdder(); // Tickets taken by holds that are not yet confirmed or released
+    private final LongAdder ticketsWithdrawn = new LongAdder(); // Released holds that no longer fit under the capacity
+
+    private static final TicketPoolListener[] NO_LISTENERS = new TicketPoolListener[0];
+    private volatile TicketPoolListener[] listeners = NO_LISTENERS; // Copy-on-write, so notifying never locks
+    private volatile PoolJournal journal; // Durable record of every change, or null when journaling is off
+    private volatile PoolMetrics metrics = PoolMetrics.NONE; // Receives operation timings
+    private volatile boolean eventLogging = true; // Whether operations are written to the application log
+    private volatile PurchaseLimiter purchaseLimiter; // Per-customer limits checked before the inventory, or null
+
+    private static final ThreadLocal<int[]> RELEASE_ID = ThreadLocal.withInitial(() -> new int[1]); // Reused per thread; listeners copy what they keep
+
+    private static final PoolLevelListener[] NO_LEVEL_LISTENERS = new PoolLevelListener[0];
+    private volatile PoolLevelListener[] levelListeners = NO_LEVEL_LISTENERS; // Copy-on-write, like listeners
+    private final AtomicReference<PoolLevel> level; // Level as of the latest operation
+    private volatile int lowWaterMark; // Pool sizes at or below this are LOW; 0 for no LOW level
 
     /**
      * Initializes a TicketPool with a specified initial number of tickets and maximum capacity.
@@ -20,68 +49,689 @@ public class TicketPool {
      * @param maxCapacity The maximum capacity that can be held in the pool.
      */
     public TicketPool(int initialTickets, int maxCapacity) {
-        this.currentTickets = initialTickets;
+        this(initialTickets, maxCapacity, InventoryMode.ATOMIC, 0);
+    }
+
+    /**
+     * Initializes a general admission TicketPool with a specified inventory mode.
+     *
+     * @param initialTickets The initial number of tickets available in the pool.
+     * @param maxCapacity The maximum capacity that can be held in the pool.
+     * @param inventoryMode How the available ticket count is stored.
+     * @param stripes The number of stripes in striped mode, or 0 for one per available processor.
+     */
+    public TicketPool(int initialTickets, int maxCapacity, InventoryMode inventoryMode, int stripes) {
+        this(initialTickets, maxCapacity, inventoryMode, stripes, SeatLayout.GENERAL_ADMISSION);
+    }
+
+    /**
+     * Initializes a TicketPool with a specified inventory mode and seat layout.
+     *
+     * @param initialTickets The initial number of tickets available in the pool.
+     * @param maxCapacity The maximum capacity that can be held in the pool.
+     * @param inventoryMode How the available ticket count is stored.
+     * @param stripes The number of stripes in striped mode, or 0 for one per available processor.
+     * @param seatLayout How ticket IDs map onto sections, rows and seats.
+     */
+    public TicketPool(int initialTickets, int maxCapacity, InventoryMode inventoryMode, int stripes, SeatLayout seatLayout) {
+        this.inventory = TicketInventory.create(inventoryMode, initialTickets, maxCapacity, stripes);
+        this.ticketIds = new TicketIdStore(initialTickets, maxCapacity, inventory.stripeCount());
+        this.seatLayout = seatLayout;
+        this.maxCapacity = maxCapacity;
+        this.idCapacity = Math.max(initialTickets, maxCapacity);
+        this.totalTicketsAddedByVendors.add(initialTickets);
+        this.level = new AtomicReference<>(levelOf(initialTickets));
+
+        LoggingUtility.getLogger().log(Level.INFO, "Initialized {0} TicketPool with {1} tickets. Current Pool Size: {2}/{3}",
+                new Object[]{inventoryMode, initialTickets, initialTickets, maxCapacity});
+    }
+
+    /**
+     * Restores a TicketPool from state recovered out of a {@link PoolJournal}: the same tickets are
+     * available, the same tickets are sold and the lifetime totals carry on from where they were.
+     *
+     * @param state The recovered pool state.
+     * @param maxCapacity The maximum capacity that can be held in the pool.
+     * @param inventoryMode How the available ticket count is stored.
+     * @param stripes The number of stripes in striped mode, or 0 for one per available processor.
+     * @param seatLayout How ticket IDs map onto sections, rows and seats.
+     */
+    public TicketPool(PoolState state, int maxCapacity, InventoryMode inventoryMode, int stripes, SeatLayout seatLayout) {
+        this.inventory = TicketInventory.create(inventoryMode, state.getAvailable(), maxCapacity, stripes);
+        this.ticketIds = TicketIdStore.restore(state, maxCapacity, inventory.stripeCount());
+        this.seatLayout = seatLayout;
         this.maxCapacity = maxCapacity;
-        this.totalTicketsAddedByVendors = initialTickets;
-        this.totalTicketsPurchasedByCustomers = 0;
+        this.idCapacity = Math.max(state.getAvailable(), maxCapacity);
+        this.level = new AtomicReference<>(levelOf(state.getAvailable()));
+        this.totalTicketsAddedByVendors.add(state.getTotalAdded());
+        this.totalTicketsPurchasedByCustomers.add(state.getTotalPurchased());
+        this.totalTicketsReturned.add(state.getTotalReturned());
 
-        LoggingUtility.getLogger().log(Level.INFO, "Initialized TicketPool with {0} tickets. Current Pool Size: {1}/{2}",
-                new Object[]{initialTickets, currentTickets, maxCapacity});
+        LoggingUtility.getLogger().log(Level.INFO, "Restored {0} TicketPool from {1} journal events. Current Pool Size: {2}/{3}, Sold: {4}",
+                new Object[]{inventoryMode, state.getEventsApplied(), state.getAvailable(), maxCapacity, state.getSoldCount()});
     }
 
     /**
-     * Adds a specified number of tickets to the pool if it does not exceed maximum capacity.
+     * Adds a specified number of newly released tickets to the pool if it does not exceed maximum capacity.
+     * Each released ticket receives the next free ticket ID. IDs are never reused, so a pool releases
+     * at most 2,147,483,647 tickets over its lifetime; releases beyond that are rejected.
      *
      * @param ticketsToAdd The number of tickets to be added by a vendor.
      * @param vendorName The name of the vendor adding these tickets (for logging purposes).
+     * @return true if the tickets were added, false if they would have exceeded the maximum capacity
+     *         or the pool has run out of ticket IDs.
+     */
+    public boolean addTickets(int ticketsToAdd, String vendorName) {
+        long startNanos = System.nanoTime();
+        int claimed = claimIds(ticketsToAdd);
+        if (claimed == ticketsToAdd && inventory.tryAdd(ticketsToAdd)) {
+            issue(ticketsToAdd, vendorName, startNanos);
+            return true;
+        }
+        ticketIds.unclaim(claimed);
+        record(startNanos, PoolEventType.ADD_REJECTED, vendorName, ticketsToAdd, null, 0, 0);
+        return false;
+    }
+
+    /**
+     * Adds as many of the offered tickets as fit under the maximum capacity, instead of rejecting the
+     * whole batch when it does not fit.
+     *
+     * @param ticketsOffered The number of tickets the vendor would like to add.
+     * @param vendorName The name of the vendor adding these tickets (for logging purposes).
+     * @return The number of tickets added, 0 if the pool was already full.
+     */
+    public int addTicketsUpTo(int ticketsOffered, String vendorName) {
+        long startNanos = System.nanoTime();
+        int claimed = claimIds(ticketsOffered);
+        int added = claimed > 0 ? inventory.tryAddUpTo(claimed) : 0;
+        ticketIds.unclaim(claimed - added);
+        if (added == 0) {
+            record(startNanos, PoolEventType.ADD_REJECTED, vendorName, ticketsOffered, null, 0, 0);
+            return 0;
+        }
+        issue(added, vendorName, startNanos);
+        return added;
+    }
+
+    /**
+     * Claims IDs for a release, logging once the pool has run out of them.
      */
-    public synchronized void addTickets(int ticketsToAdd, String vendorName) {
-        if (currentTickets + ticketsToAdd <= maxCapacity) {
-            currentTickets += ticketsToAdd;
-            totalTicketsAddedByVendors += ticketsToAdd;
-            LoggingUtility.getLogger().log(Level.INFO, "{0} added {1} tickets. Current Pool Size: {2}/{3}",
-                    new Object[]{vendorName, ticketsToAdd, currentTickets, maxCapacity});
-        } else {
-            LoggingUtility.getLogger().log(Level.WARNING, "Cannot add {0} tickets by {1}. Exceeds max capacity.",
-                    new Object[]{ticketsToAdd, vendorName});
+    private int claimIds(int tickets) {
+        int claimed = ticketIds.claim(tickets);
+        if (claimed < tickets) {
+            LoggingUtility.getLogger().log(Level.SEVERE, "TicketPool has issued every ticket ID it can; {0} new tickets were refused.", tickets - claimed);
         }
+        return claimed;
+    }
+
+    /**
+     * Gives tickets that already passed the capacity check their IDs and makes them available to buyers.
+     */
+    private void issue(int tickets, String vendorName, long startNanos) {
+        int firstId = ticketIds.reserve(tickets);
+        PoolJournal journal = this.journal;
+        if (journal != null) {
+            journal.recordAdd(firstId, tickets); // Journaled before any buyer can take one of these IDs
+        }
+        ticketIds.publish(firstId, tickets);
+        totalTicketsAddedByVendors.add(tickets);
+        int[] releaseId = RELEASE_ID.get();
+        releaseId[0] = firstId;
+        record(startNanos, PoolEventType.TICKETS_ADDED, vendorName, tickets, releaseId, 0, 1);
+    }
+
+    /**
+     * Removes a specified number of tickets from the pool when customers attempt to purchase them,
+     * for callers that do not need to know which tickets they received.
+     *
+     * @param ticketsToRemove The number of tickets that a customer wishes to purchase.
+     * @param customerName The name of the customer making the purchase (for logging purposes).
+     * @return true if the tickets were purchased, false if there was not enough stock.
+     */
+    public boolean removeTicket(int ticketsToRemove, String customerName) {
+        return removeTicket(ticketsToRemove, customerName, new int[ticketsToRemove], 0);
     }
 
     /**
      * Removes a specified number of tickets from the pool when customers attempt to purchase them.
+     * The purchase is all-or-nothing: either every requested ticket is taken or none are.
+     * The IDs of the purchased tickets are written into the caller's array, so no allocation is needed.
      *
      * @param ticketsToRemove The number of tickets that a customer wishes to purchase.
      * @param customerName The name of the customer making the purchase (for logging purposes).
+     * @param purchasedIds Array that receives the purchased ticket IDs.
+     * @param offset Index in purchasedIds where the first ID is written.
+     * @return true if the tickets were purchased, false if there was not enough stock or a per-customer
+     *         limit refused the attempt; {@link #purchase} tells which.
+     */
+    public boolean removeTicket(int ticketsToRemove, String customerName, int[] purchasedIds, int offset) {
+        return purchase(ticketsToRemove, customerName, purchasedIds, offset) == null;
+    }
+
+    /**
+     * Purchases tickets like {@link #removeTicket(int, String, int[], int)}, reporting why a refused
+     * attempt was refused. The reason is the decision this attempt met, not a later reading of the pool.
+     *
+     * @param ticketsToRemove The number of tickets that a customer wishes to purchase.
+     * @param customerName The name of the customer making the purchase.
+     * @param purchasedIds Array that receives the purchased ticket IDs.
+     * @param offset Index in purchasedIds where the first ID is written.
+     * @return null if the tickets were purchased, otherwise one of the {@link PurchaseResult} reasons.
+     */
+    public String purchase(int ticketsToRemove, String customerName, int[] purchasedIds, int offset) {
+        long startNanos = System.nanoTime();
+        PurchaseLimiter limiter = this.purchaseLimiter;
+        if (limiter != null) {
+            LimitDecision decision = limiter.tryAcquire(customerName, ticketsToRemove);
+            if (decision != LimitDecision.ALLOWED) {
+                record(startNanos, purchaseRejection(decision), customerName, ticketsToRemove, null, 0, 0);
+                return reasonFor(decision);
+            }
+        }
+        if (!inventory.tryTake(ticketsToRemove)) {
+            if (limiter != null) {
+                limiter.refund(customerName, ticketsToRemove);
+            }
+            boolean soldOut = inventory.available() == 0;
+            record(startNanos, soldOut ? PoolEventType.PURCHASE_REJECTED_SOLD_OUT : PoolEventType.PURCHASE_REJECTED_INSUFFICIENT,
+                    customerName, ticketsToRemove, null, 0, 0);
+            return soldOut ? PurchaseResult.SOLD_OUT : PurchaseResult.INSUFFICIENT_TICKETS;
+        }
+
+        ticketIds.take(ticketsToRemove, purchasedIds, offset);
+        PoolJournal journal = this.journal;
+        if (journal != null) {
+            journal.recordPurchase(purchasedIds, offset, ticketsToRemove);
+        }
+        totalTicketsPurchasedByCustomers.add(ticketsToRemove);
+        record(startNanos, PoolEventType.TICKETS_PURCHASED, customerName, ticketsToRemove, purchasedIds, offset, ticketsToRemove);
+        return null;
+    }
+
+    /**
+     * Reserves tickets for a customer without selling them. The tickets leave the pool like a purchase,
+     * but stay unsold until {@link #confirmHold} buys them or {@link #releaseHold} puts them back.
+     * Holds are not journaled: after a restart, tickets that were only held are available again.
+     *
+     * @param ticketsToHold The number of tickets to reserve, all-or-nothing.
+     * @param customerName The name of the customer holding the tickets (for logging purposes).
+     * @param heldIds Array that receives the held ticket IDs.
+     * @param offset Index in heldIds where the first ID is written.
+     * @return true if the tickets were reserved, false if there was not enough stock or a per-customer
+     *         limit refused the attempt; {@link #hold} tells which.
+     */
+    public boolean holdTickets(int ticketsToHold, String customerName, int[] heldIds, int offset) {
+        return hold(ticketsToHold, customerName, heldIds, offset) == null;
+    }
+
+    /**
+     * Reserves tickets like {@link #holdTickets}, reporting why a refused attempt was refused.
+     *
+     * @param ticketsToHold The number of tickets to reserve.
+     * @param customerName The name of the customer holding them.
+     * @param heldIds Array that receives the held ticket IDs.
+     * @param offset Index in heldIds where the first ID is written.
+     * @return null if the tickets were reserved, otherwise one of the {@link PurchaseResult} reasons.
+     */
+    public String hold(int ticketsToHold, String customerName, int[] heldIds, int offset) {
+        long startNanos = System.nanoTime();
+        PurchaseLimiter limiter = this.purchaseLimiter;
+        if (limiter != null) {
+            LimitDecision decision = limiter.tryAcquire(customerName, ticketsToHold); // Held tickets count towards the limit
+            if (decision != LimitDecision.ALLOWED) {
+                record(startNanos, holdRejection(decision), customerName, ticketsToHold, null, 0, 0);
+                return reasonFor(decision);
+            }
+        }
+        if (!inventory.tryTake(ticketsToHold)) {
+            if (limiter != null) {
+                limiter.refund(customerName, ticketsToHold);
+            }
+            boolean soldOut = inventory.available() == 0;
+            record(startNanos, soldOut ? PoolEventType.HOLD_REJECTED_SOLD_OUT : PoolEventType.HOLD_REJECTED_INSUFFICIENT,
+                    customerName, ticketsToHold, null, 0, 0);
+            return soldOut ? PurchaseResult.SOLD_OUT : PurchaseResult.INSUFFICIENT_TICKETS;
+        }
+
+        ticketIds.take(ticketsToHold, heldIds, offset, false);
+        ticketsOnHold.add(ticketsToHold);
+        record(startNanos, PoolEventType.TICKETS_HELD, customerName, ticketsToHold, heldIds, offset, ticketsToHold);
+        return null;
+    }
+
+    /**
+     * Purchases tickets previously reserved with {@link #holdTickets}.
+     * The caller must make sure each hold is confirmed or released exactly once.
+     *
+     * @param heldIds Array holding the held ticket IDs.
+     * @param offset Index of the first ID.
+     * @param length The number of held tickets.
+     * @param customerName The name of the customer confirming the hold (for logging purposes).
+     */
+    public void confirmHold(int[] heldIds, int offset, int length, String customerName) {
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < length; i++) {
+            ticketIds.remarkSold(heldIds[offset + i]);
+        }
+        PoolJournal journal = this.journal;
+        if (journal != null) {
+            journal.recordPurchase(heldIds, offset, length);
+        }
+        ticketsOnHold.add(-length);
+        totalTicketsPurchasedByCustomers.add(length);
+        record(startNanos, PoolEventType.HOLD_CONFIRMED, customerName, length, heldIds, offset, length);
+    }
+
+    /**
+     * Puts tickets previously reserved with {@link #holdTickets} back into the pool, as many as fit under
+     * the maximum capacity. If vendors refilled the pool while the tickets were held, the ones that no
+     * longer fit are withdrawn: they are neither available nor sold, so the pool never holds more than
+     * its capacity. Holds are not journaled, so withdrawn tickets are available again after a restart.
+     *
+     * @param heldIds Array holding the held ticket IDs.
+     * @param offset Index of the first ID.
+     * @param length The number of held tickets.
+     * @param customerName The name of the customer whose hold ended (for logging purposes).
+     * @param expired true if the hold ran out rather than being released by the customer.
+     * @return The number of tickets put back; the rest were withdrawn.
+     */
+    public int releaseHold(int[] heldIds, int offset, int length, String customerName, boolean expired) {
+        long startNanos = System.nanoTime();
+        PurchaseLimiter limiter = this.purchaseLimiter;
+        if (limiter != null) {
+            limiter.refund(customerName, length);
+        }
+        int restocked = inventory.tryAddUpTo(length);
+        for (int i = 0; i < restocked; i++) {
+            ticketIds.release(heldIds[offset + i]);
+        }
+        ticketsOnHold.add(-length);
+        if (restocked < length) {
+            ticketsWithdrawn.add(length - restocked);
+            LoggingUtility.getLogger().log(Level.WARNING, "Withdrew {0} ticket(s) released by {1}: the pool was refilled to capacity while they were held.",
+                    new Object[]{length - restocked, customerName});
+        }
+        record(startNanos, expired ? PoolEventType.HOLD_EXPIRED : PoolEventType.HOLD_RELEASED, customerName, restocked, heldIds, offset, restocked);
+        return restocked;
+    }
+
+    /**
+     * Applies a batch of purchase requests in one pass. Each request is all-or-nothing on its own.
+     * When the pool holds enough stock for the whole batch, the stock for every request is reserved
+     * with a single inventory update; otherwise requests are served in order, each as a separate
+     * purchase, so earlier requests in the batch get priority.
+     *
+     * @param requests The purchase requests, in priority order.
+     * @return One result per request, in the same order.
      */
-    public synchronized void removeTicket(int ticketsToRemove, String customerName) {
-        if (currentTickets >= ticketsToRemove) {
-            currentTickets -= ticketsToRemove;
-            totalTicketsPurchasedByCustomers += ticketsToRemove;
-            LoggingUtility.getLogger().log(Level.INFO, "{0} purchased {1} tickets. Current Pool Size: {2}/{3}",
-                    new Object[]{customerName, ticketsToRemove, currentTickets, maxCapacity});
-        } else if (currentTickets == 0) {
-            LoggingUtility.getLogger().log(Level.WARNING, "No tickets available for {0}.", customerName);
-        } else {
-            LoggingUtility.getLogger().log(Level.WARNING, "{0} tried to purchase {1} tickets but only {2} are available.",
-                    new Object[]{customerName, ticketsToRemove, currentTickets});
+    public List<PurchaseResult> purchaseBatch(List<PurchaseRequest> requests) {
+        long startNanos = System.nanoTime();
+        int count = requests.size();
+        int[][] purchased = new int[count][];
+        boolean[] soldOut = new boolean[count]; // Pool state when a request was turned down
+        LimitDecision[] limits = new LimitDecision[count]; // Per-customer decision, null when no limiter is set
+        PurchaseLimiter limiter = this.purchaseLimiter;
+        long wanted = 0;
+        for (int i = 0; i < count; i++) {
+            PurchaseRequest request = requests.get(i);
+            if (isValidQuantity(request.getQuantity())) {
+                limits[i] = limiter != null ? limiter.tryAcquire(request.getCustomerName(), request.getQuantity()) : LimitDecision.ALLOWED;
+                if (limits[i] == LimitDecision.ALLOWED) {
+                    wanted += request.getQuantity();
+                }
+            }
+        }
+
+        boolean wholeBatch = wanted > 0 && wanted <= Integer.MAX_VALUE && inventory.tryTake((int) wanted);
+        int grantedTickets = 0;
+        for (int i = 0; i < count; i++) {
+            int quantity = requests.get(i).getQuantity();
+            if (limits[i] != LimitDecision.ALLOWED) {
+                continue; // Invalid or refused before reaching the inventory
+            }
+            if (wholeBatch || inventory.tryTake(quantity)) {
+                purchased[i] = new int[quantity];
+                ticketIds.take(quantity, purchased[i], 0);
+                grantedTickets += quantity;
+            } else {
+                soldOut[i] = inventory.available() == 0;
+                if (limiter != null) {
+                    limiter.refund(requests.get(i).getCustomerName(), quantity);
+                }
+            }
         }
+
+        if (grantedTickets > 0) {
+            totalTicketsPurchasedByCustomers.add(grantedTickets);
+            PoolJournal journal = this.journal;
+            if (journal != null) {
+                int[] allIds = new int[grantedTickets];
+                int offset = 0;
+                for (int[] ids : purchased) {
+                    if (ids != null) {
+                        System.arraycopy(ids, 0, allIds, offset, ids.length);
+                        offset += ids.length;
+                    }
+                }
+                journal.recordPurchase(allIds, 0, grantedTickets); // One record for the whole batch
+            }
+        }
+
+        List<PurchaseResult> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PurchaseRequest request = requests.get(i);
+            int quantity = request.getQuantity();
+            if (purchased[i] != null) {
+                record(startNanos, PoolEventType.TICKETS_PURCHASED, request.getCustomerName(), quantity, purchased[i], 0, quantity);
+                results.add(new PurchaseResult(request.getCustomerName(), quantity, true, purchased[i], null));
+            } else if (!isValidQuantity(quantity)) {
+                results.add(new PurchaseResult(request.getCustomerName(), quantity, false, new int[0], PurchaseResult.INVALID_QUANTITY));
+            } else if (limits[i] != LimitDecision.ALLOWED) {
+                record(startNanos, purchaseRejection(limits[i]), request.getCustomerName(), quantity, null, 0, 0);
+                results.add(new PurchaseResult(request.getCustomerName(), quantity, false, new int[0], reasonFor(limits[i])));
+            } else {
+                record(startNanos, soldOut[i] ? PoolEventType.PURCHASE_REJECTED_SOLD_OUT : PoolEventType.PURCHASE_REJECTED_INSUFFICIENT,
+                        request.getCustomerName(), quantity, null, 0, 0);
+                results.add(new PurchaseResult(request.getCustomerName(), quantity, false, new int[0],
+                        soldOut[i] ? PurchaseResult.SOLD_OUT : PurchaseResult.INSUFFICIENT_TICKETS));
+            }
+        }
+        return results;
+    }
+
+    private static String reasonFor(LimitDecision decision) {
+        return switch (decision) {
+            case RATE_LIMITED -> PurchaseResult.RATE_LIMITED;
+            case LIMIT_REACHED -> PurchaseResult.LIMIT_REACHED;
+            case TOO_MANY_CUSTOMERS -> PurchaseResult.TOO_MANY_CUSTOMERS;
+            case ALLOWED -> null;
+        };
+    }
+
+    private static PoolEventType purchaseRejection(LimitDecision decision) {
+        return switch (decision) {
+            case RATE_LIMITED -> PoolEventType.PURCHASE_REJECTED_RATE_LIMITED;
+            case TOO_MANY_CUSTOMERS -> PoolEventType.PURCHASE_REJECTED_TOO_MANY_CUSTOMERS;
+            default -> PoolEventType.PURCHASE_REJECTED_LIMIT_REACHED;
+        };
+    }
+
+    private static PoolEventType holdRejection(LimitDecision decision) {
+        return switch (decision) {
+            case RATE_LIMITED -> PoolEventType.HOLD_REJECTED_RATE_LIMITED;
+            case TOO_MANY_CUSTOMERS -> PoolEventType.HOLD_REJECTED_TOO_MANY_CUSTOMERS;
+            default -> PoolEventType.HOLD_REJECTED_LIMIT_REACHED;
+        };
+    }
+
+    private static boolean isValidQuantity(int quantity) {
+        return quantity > 0;
     }
 
     /**
-     * Admin function to return canceled or unused tickets back into the pool.
+     * Admin function to return specific canceled tickets back into the pool.
+     * The return is all-or-nothing: it is rejected if any ID is not currently sold or if the
+     * tickets would push the pool past its maximum capacity.
      *
-     * @param ticketsToReturn The number of canceled or unused tickets being returned.
+     * @param returnedIds Array holding the IDs of the canceled tickets.
+     * @param offset Index of the first ID to return.
+     * @param length The number of tickets being returned.
      * @param customerName The name of the customer whose canceled tickets are being returned (for logging purposes).
+     * @return true if the tickets were returned to the pool.
+     */
+    public boolean adminRemoveTicket(int[] returnedIds, int offset, int length, String customerName) {
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < length; i++) {
+            if (!ticketIds.unmarkSold(returnedIds[offset + i])) {
+                remarkSold(returnedIds, offset, i);
+                record(startNanos, PoolEventType.RETURN_REJECTED_NOT_SOLD, customerName, 1, returnedIds, offset + i, 1);
+                return false;
+            }
+        }
+
+        if (!inventory.tryAdd(length)) {
+            remarkSold(returnedIds, offset, length);
+            record(startNanos, PoolEventType.RETURN_REJECTED_CAPACITY, customerName, length, null, 0, 0);
+            return false;
+        }
+
+        PoolJournal journal = this.journal;
+        if (journal != null) {
+            journal.recordReturn(returnedIds, offset, length); // Journaled before another buyer can take these IDs
+        }
+        for (int i = 0; i < length; i++) {
+            ticketIds.release(returnedIds[offset + i]);
+        }
+        totalTicketsReturned.add(length);
+        PurchaseLimiter limiter = this.purchaseLimiter;
+        if (limiter != null) {
+            limiter.refund(customerName, length); // Canceled tickets no longer count towards the customer's limit
+        }
+        record(startNanos, PoolEventType.TICKETS_RETURNED, customerName, length, returnedIds, offset, length);
+        return true;
+    }
+
+    /**
+     * Logs an operation, notifies listeners and reports how long it took, reading the pool size once.
+     */
+    private void record(long startNanos, PoolEventType type, String actor, int count, int[] ids, int offset, int length) {
+        int poolSize = inventory.available();
+        if (eventLogging) {
+            LoggingUtility.event(type, actor, count, poolSize, maxCapacity, seatLayout, ids, offset, length);
+        }
+        for (TicketPoolListener listener : listeners) {
+            listener.onPoolEvent(type, actor, count, poolSize, maxCapacity, ids, offset, length);
+        }
+        if (levelOf(poolSize) != level.get()) {
+            changeLevel(poolSize);
+        }
+        metrics.operationTimed(type, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Moves the pool to the level of the given size and tells the level listeners. Another operation may
+     * have changed the pool since that size was read and already checked the level before this change,
+     * so the size is read again after every change until the level agrees with it.
+     */
+    private void changeLevel(int poolSize) {
+        PoolLevel current = level.get();
+        PoolLevel observed = levelOf(poolSize);
+        while (observed != current) {
+            if (level.compareAndSet(current, observed)) {
+                for (PoolLevelListener listener : levelListeners) {
+                    listener.onLevelChanged(current, observed, poolSize, maxCapacity);
+                }
+                current = observed;
+                poolSize = inventory.available();
+                observed = levelOf(poolSize);
+            } else {
+                current = level.get(); // Another operation moved it first; check against its level
+            }
+        }
+    }
+
+    private PoolLevel levelOf(int poolSize) {
+        if (poolSize <= 0) {
+            return PoolLevel.SOLD_OUT;
+        }
+        if (poolSize >= maxCapacity) {
+            return PoolLevel.AT_CAPACITY;
+        }
+        return poolSize <= lowWaterMark ? PoolLevel.LOW : PoolLevel.NORMAL;
+    }
+
+    /**
+     * Registers a listener that is told when the pool sells out, drops to its low-water mark or fills up,
+     * and when it leaves those levels again.
+     *
+     * @param listener The listener to add.
+     */
+    public synchronized void addLevelListener(PoolLevelListener listener) {
+        PoolLevelListener[] updated = Arrays.copyOf(levelListeners, levelListeners.length + 1);
+        updated[levelListeners.length] = listener;
+        levelListeners = updated;
+    }
+
+    /**
+     * Unregisters a previously added level listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public synchronized void removeLevelListener(PoolLevelListener listener) {
+        levelListeners = Arrays.stream(levelListeners).filter(existing -> existing != listener).toArray(PoolLevelListener[]::new);
+    }
+
+    /**
+     * Sets the pool size at or below which the pool counts as LOW. Listeners are told if this changes the level.
+     *
+     * @param lowWaterMark The low-water mark in tickets, or 0 for no LOW level.
+     */
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = Math.max(0, lowWaterMark);
+        changeLevel(inventory.available());
+    }
+
+    /**
+     * Changes the maximum capacity of a live pool. Lowering it below the current size only stops vendors
+     * from adding until customers bring the pool back under it; nothing already in the pool is removed.
+     *
+     * @param maxCapacity The new maximum capacity.
+     * @throws IllegalArgumentException If the capacity is not positive, or is larger than the pool was
+     *                                  created for, which requires a new pool.
+     */
+    public void setMaxCapacity(int maxCapacity) {
+        if (maxCapacity <= 0) {
+            throw new IllegalArgumentException("Maximum capacity must be greater than zero.");
+        }
+        if (maxCapacity > idCapacity) {
+            throw new IllegalArgumentException("Raising the maximum capacity above " + idCapacity + " requires a restart.");
+        }
+        inventory.setMaxCapacity(maxCapacity);
+        this.maxCapacity = maxCapacity;
+        changeLevel(inventory.available());
+    }
+
+    /**
+     * Sets the per-customer limits checked before every purchase and hold.
+     *
+     * @param purchaseLimiter The limiter, or null for no per-customer limits.
+     */
+    public void setPurchaseLimiter(PurchaseLimiter purchaseLimiter) {
+        this.purchaseLimiter = purchaseLimiter;
+    }
+
+    /**
+     * Returns the per-customer limits of this pool.
+     *
+     * @return The limiter, or null if there are no per-customer limits.
+     */
+    public PurchaseLimiter getPurchaseLimiter() {
+        return purchaseLimiter;
+    }
+
+    /**
+     * Returns the pool's level as of its latest operation.
+     *
+     * @return The level.
+     */
+    public PoolLevel getLevel() {
+        return level.get();
+    }
+
+    /**
+     * Registers a listener that is told about every pool operation.
+     *
+     * @param listener The listener to add.
+     */
+    public synchronized void addListener(TicketPoolListener listener) {
+        TicketPoolListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregisters a previously added listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public synchronized void removeListener(TicketPoolListener listener) {
+        listeners = Arrays.stream(listeners).filter(existing -> existing != listener).toArray(TicketPoolListener[]::new);
+    }
+
+    /**
+     * Starts recording every change to this pool in a journal. Attach it before any vendor or customer
+     * starts; a journal opened without recovered state first records the pool's initial tickets.
+     *
+     * @param journal The journal to write to, or null to stop journaling.
      */
-    public synchronized void adminRemoveTicket(int ticketsToReturn, String customerName) {
-        if (currentTickets + ticketsToReturn <= maxCapacity) {
-            currentTickets += ticketsToReturn;
-            LoggingUtility.getLogger().log(Level.INFO, "Admin returned {0} canceled ticket(s) from {1}. Current Pool Size: {2}/{3}",
-                    new Object[]{ticketsToReturn, customerName, currentTickets, maxCapacity});
-        } else {
-            LoggingUtility.getLogger().log(Level.WARNING, "Cannot return {0} tickets from {1}. Exceeds max capacity.",
-                    new Object[]{ticketsToReturn, customerName});
+    public void setJournal(PoolJournal journal) {
+        if (journal != null && journal.isStartedEmpty() && ticketIds.issuedCount() > 0) {
+            journal.recordAdd(0, ticketIds.issuedCount());
         }
+        if (journal != null) {
+            journal.setMetrics(metrics);
+        }
+        this.journal = journal;
+    }
+
+    /**
+     * Returns the journal recording this pool's changes.
+     *
+     * @return The journal, or null when journaling is off.
+     */
+    public PoolJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Reports operation and lock timings to the given metrics, including those of the inventory and journal.
+     *
+     * @param metrics Where timings go, or null to stop reporting.
+     */
+    public void setMetrics(PoolMetrics metrics) {
+        PoolMetrics target = metrics != null ? metrics : PoolMetrics.NONE;
+        inventory.setMetrics(target);
+        PoolJournal journal = this.journal;
+        if (journal != null) {
+            journal.setMetrics(target);
+        }
+        this.metrics = target;
+    }
+
+    /**
+     * Turns writing every operation to the application log on or off. Listeners and metrics are unaffected.
+     * Load tests turn it off so they measure the pool rather than the log.
+     *
+     * @param eventLogging true to log every operation.
+     */
+    public void setEventLogging(boolean eventLogging) {
+        this.eventLogging = eventLogging;
+    }
+
+    private void remarkSold(int[] ids, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            ticketIds.remarkSold(ids[offset + i]);
+        }
+    }
+
+    /**
+     * Reports whether a specific ticket is currently sold, for auditing.
+     *
+     * @param ticketId The ticket ID.
+     * @return true if the ticket has been purchased and not returned.
+     */
+    public boolean isSold(int ticketId) {
+        return ticketIds.isSold(ticketId);
+    }
+
+    /**
+     * Returns the seat layout used to label this pool's tickets.
+     *
+     * @return The seat layout.
+     */
+    public SeatLayout getSeatLayout() {
+        return seatLayout;
     }
 
     /**
@@ -89,8 +739,8 @@ public class TicketPool {
      *
      * @return The current size of available tickets.
      */
-    public synchronized int getCurrentSize() {
-        return currentTickets;
+    public int getCurrentSize() {
+        return inventory.available();
     }
 
     /**
@@ -98,17 +748,27 @@ public class TicketPool {
      *
      * @return The maximum capacity.
      */
-    public synchronized int getMaxCapacity() {
+    public int getMaxCapacity() {
         return maxCapacity;
     }
 
+    /**
+     * Returns the most tickets the pool can ever have available at once, so no single purchase or hold can be larger.
+     * Callers check requests against it before sizing an array of ticket IDs by the requested quantity.
+     *
+     * @return The number of tickets the pool's ID store was sized for.
+     */
+    public int getTicketCapacity() {
+        return idCapacity;
+    }
+
     /**
      * Returns total number of added by vendors for reporting purposes.
      *
      * @return Total added by vendors.
      */
-    public synchronized int getTotalTicketsAddedByVendors() {
-        return totalTicketsAddedByVendors;
+    public int getTotalTicketsAddedByVendors() {
+        return totalTicketsAddedByVendors.intValue();
     }
 
     /**
@@ -116,8 +776,36 @@ public class TicketPool {
      *
      * @return Total purchased by customers.
      */
-    public synchronized int getTotalTicketsPurchasedByCustomers() {
-        return totalTicketsPurchasedByCustomers;
+    public int getTotalTicketsPurchasedByCustomers() {
+        return totalTicketsPurchasedByCustomers.intValue();
+    }
+
+    /**
+     * Returns total number of canceled tickets returned to the pool for reporting purposes.
+     *
+     * @return Total returned by the admin.
+     */
+    public int getTotalTicketsReturned() {
+        return totalTicketsReturned.intValue();
+    }
+
+    /**
+     * Returns the number of tickets currently reserved by holds. These have left the pool without being purchased,
+     * so added - purchased + returned - on hold - withdrawn equals the current size once the pool is quiet.
+     *
+     * @return Tickets on hold.
+     */
+    public int getTicketsOnHold() {
+        return ticketsOnHold.intValue();
+    }
+
+    /**
+     * Returns the number of released hold tickets that were withdrawn because the pool was already full.
+     *
+     * @return Tickets withdrawn.
+     */
+    public int getTicketsWithdrawn() {
+        return ticketsWithdrawn.intValue();
     }
 
 }
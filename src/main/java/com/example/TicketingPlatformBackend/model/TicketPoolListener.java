@@ -0,0 +1,38 @@
+package com.example.TicketingPlatformBackend.model;
+
+/**
+ * TicketPoolListener receives every operation a TicketPool performs, on the thread that performed it.
+ * Implementations must be fast and must not block, because they run on the purchase path.
+ */
+public interface TicketPoolListener {
+
+    /**
+     * Called after a pool operation completes or is rejected.
+     *
+     * @param type What happened.
+     * @param actor The vendor or customer involved.
+     * @param count The number of tickets involved.
+     * @param poolSize The pool size right after the operation.
+     * @param capacity The pool's maximum capacity.
+     */
+    void onPoolEvent(PoolEventType type, String actor, int count, int poolSize, int capacity);
+
+    /**
+     * Called instead of {@link #onPoolEvent(PoolEventType, String, int, int, int)} with the IDs of the tickets
+     * involved, for listeners that need them. The array belongs to the pool's caller and must be copied if kept.
+     *
+     * @param type What happened.
+     * @param actor The vendor or customer involved.
+     * @param count The number of tickets involved.
+     * @param poolSize The pool size right after the operation.
+     * @param capacity The pool's maximum capacity.
+     * @param ticketIds The ticket IDs, or null if the operation moved no tickets. For releases it holds only the
+     *                  first of count consecutive IDs.
+     * @param offset Index of the first ID.
+     * @param length The number of IDs.
+     */
+    default void onPoolEvent(PoolEventType type, String actor, int count, int poolSize, int capacity,
+                             int[] ticketIds, int offset, int length) {
+        onPoolEvent(type, actor, count, poolSize, capacity);
+    }
+}
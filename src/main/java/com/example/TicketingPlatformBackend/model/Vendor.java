@@ -5,37 +5,72 @@ import java.util.logging.Level;
 
 /**
  * Vendor represents a vendor in the ticketing system that releases
- * a certain number of tickets at defined intervals. It implements Runnable
- * to allow concurrent execution as a separate thread.
+ * a certain number of tickets at defined intervals. It can run as a separate thread
+ * or be ticked by a shared scheduler.
  */
-public class Vendor implements Runnable {
+public class Vendor implements Participant {
     private final TicketPool ticketPool; // Shared TicketPool instance where vendors add their released tickets
     private final String name; // Name of the vendor
-    private final int releaseRate; // Maximum number of tickets that can be added per interval
+    private volatile int releaseRate; // Maximum number of tickets that can be added per second
+    private final long tickIntervalMillis; // Time between two releases
+    private final RateBudget budget; // Largest release each tick allows, carrying fractional credit across ticks
     private final Random random = new Random();
+    private final AdaptiveRelease adaptiveRelease; // Sizes batches in ADAPTIVE release mode, null in FIXED mode
+    private int idleTicks; // Ticks still to skip after finding nothing to release
+    private int backoff; // Ticks skipped after the next idle tick, doubled while the pool needs nothing
 
     /**
      * Constructs a Vendor with specified TicketPool reference and release rate.
      *
      * @param ticketPool The shared TicketPool where this vendor will add its released tickets.
      * @param name The name of this vendor.
-     * @param releaseRate The maximum number of tickets that can be added per interval by this vendor.
+     * @param releaseRate The maximum number of tickets that can be added per second by this vendor.
      */
     public Vendor(TicketPool ticketPool, String name, int releaseRate) {
+        this(ticketPool, name, releaseRate, 1000);
+    }
+
+    /**
+     * Constructs a Vendor that releases tickets at a custom interval.
+     *
+     * @param ticketPool The shared TicketPool where this vendor will add its released tickets.
+     * @param name The name of this vendor.
+     * @param releaseRate The maximum number of tickets that can be added per second by this vendor.
+     * @param tickIntervalMillis The time between two releases; sub-second intervals release proportionally smaller batches.
+     */
+    public Vendor(TicketPool ticketPool, String name, int releaseRate, long tickIntervalMillis) {
+        this(ticketPool, name, releaseRate, tickIntervalMillis, null);
+    }
+
+    /**
+     * Constructs a Vendor whose batches are sized by a shared adaptive controller. The release rate
+     * remains the upper bound of every batch.
+     *
+     * @param ticketPool The shared TicketPool where this vendor will add its released tickets.
+     * @param name The name of this vendor.
+     * @param releaseRate The maximum number of tickets that can be added per second by this vendor.
+     * @param tickIntervalMillis The time between two releases.
+     * @param adaptiveRelease The controller shared by the pool's vendors, or null to release random batches.
+     */
+    public Vendor(TicketPool ticketPool, String name, int releaseRate, long tickIntervalMillis, AdaptiveRelease adaptiveRelease) {
         this.ticketPool = ticketPool;
+        this.adaptiveRelease = adaptiveRelease;
+        if (adaptiveRelease != null) {
+            adaptiveRelease.register();
+        }
         this.name = name;
         this.releaseRate = releaseRate;
+        this.tickIntervalMillis = tickIntervalMillis;
+        this.budget = new RateBudget(releaseRate, tickIntervalMillis);
     }
 
     @Override
     public void run() {
         while (!Thread.currentThread().isInterrupted()) {  // Loop until interrupted
             try {
-                // Simulate adding a random number of tickets based on release rate
-                int ticketsToAdd = random.nextInt(releaseRate) + 1;  // Randomly determine how many to add (between 1 and release rate)
-                ticketPool.addTickets(ticketsToAdd, name);  // Add these determined amount of tickets into shared pool
+                tick();
 
-                Thread.sleep(1000);  // Wait for 1 second before attempting to add more
+                Thread.sleep(tickIntervalMillis);  // Wait for the next interval before attempting to add more
 
             } catch (InterruptedException e) {  // Handle interruption gracefully during sleep or other blocking operations
                 Thread.currentThread().interrupt();  // Restore interrupt status after catching exception
@@ -44,12 +79,76 @@ public class Vendor implements Runnable {
         }
     }
 
+    /**
+     * Releases one batch of tickets into the pool.
+     */
+    @Override
+    public void tick() {
+        int batchLimit = budget.nextLimit();
+        if (batchLimit == 0) {
+            return;  // Below one ticket of credit; slow rates on short intervals release every few ticks
+        }
+        if (adaptiveRelease != null) {
+            releaseAdaptively(batchLimit);
+            return;
+        }
+        // Simulate adding a random number of tickets based on release rate
+        int ticketsToAdd = random.nextInt(batchLimit) + 1;  // Randomly determine how many to add (between 1 and the batch limit)
+        budget.spend(ticketsToAdd);
+        ticketPool.addTickets(ticketsToAdd, name);  // Add these determined amount of tickets into shared pool
+    }
+
+    /**
+     * Releases the batch the adaptive controller asks for, trimmed to what fits. While nothing needs
+     * releasing the vendor skips more and more ticks, up to {@link AdaptiveRelease#MAX_IDLE_TICKS},
+     * and goes back to every tick as soon as it releases again.
+     */
+    private void releaseAdaptively(int batchLimit) {
+        if (idleTicks > 0) {
+            idleTicks--;
+            return;
+        }
+        int batch = adaptiveRelease.nextBatch(batchLimit, tickIntervalMillis);
+        int added = batch > 0 ? ticketPool.addTicketsUpTo(batch, name) : 0;
+        budget.spend(added);
+        if (added > 0) {
+            backoff = 0;
+            return;
+        }
+        idleTicks = backoff;
+        backoff = Math.min(AdaptiveRelease.MAX_IDLE_TICKS, Math.max(1, backoff * 2));
+    }
+
+    /**
+     * Returns the configured per-second rate for this participant.
+     *
+     * @return The maximum number of tickets per second.
+     */
+    public int getReleaseRate() {
+        return releaseRate;
+    }
+
+    /**
+     * Changes the per-second rate while the participant is running. The next release uses the new rate.
+     *
+     * @param releaseRate The new maximum number of tickets per second.
+     */
+    public void setReleaseRate(int releaseRate) {
+        budget.setRate(releaseRate);
+        this.releaseRate = releaseRate;
+    }
+
+    @Override
+    public long getTickIntervalMillis() {
+        return tickIntervalMillis;
+    }
 
     /**
      * Returns the vendor's name. This is useful for logging and tracking operations performed by this vendor.
      *
      * @return Vendor's name.
      */
+    @Override
     public String getName() {
         return name;
     }
@@ -0,0 +1,233 @@
+package com.example.TicketingPlatformBackend.model;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WaitingRoom sits in front of a TicketPool and lets buyers through in the order they arrived,
+ * at a rate the pool can sustain, instead of letting every buyer race for the pool at once.
+ * <p>
+ * It works like a deli counter. Joining takes the next queue number from a single counter, and one
+ * admitter periodically advances the number being served. A buyer's position is the gap between the
+ * two, so positions and wait estimates cost nothing to compute and the queue stores nothing per buyer.
+ * Each admitted number may be used for exactly one purchase, which a fixed-size bitmap over the most
+ * recently admitted numbers enforces; older admissions expire.
+ * <p>
+ * While the pool is empty, joining is refused and waiting buyers are told the event is sold out,
+ * so a sold-out rush never reaches the pool or the log.
+ */
+public class WaitingRoom {
+    public static final long ADMIT_INTERVAL_MILLIS = 50; // How often the owner should call admit()
+    private static final int ADMISSION_WINDOW_SECONDS = 60; // How long an admitted buyer has to make their purchase
+
+    private final TicketPool ticketPool; // The pool buyers are admitted to
+    private final int admissionsPerSecond; // Admission rate
+    private final AtomicLong lastIssued = new AtomicLong(); // Highest queue number handed out
+    private volatile long admittedThrough; // Every number up to this one has been admitted (admitter writes only)
+    private final AtomicLongArray usedAdmissions; // One bit per number in the admission window
+    private final long windowSize; // Numbers in the admission window, a power of two
+    private final LongAdder rejectedOnJoin = new LongAdder(); // Buyers turned away because the pool was empty
+
+    private double admissionCredit; // Admissions earned but not yet granted (admitter only)
+    private long lastAdmitNanos; // When admissions were last granted (admitter only)
+    private boolean admitting; // False until the first admit() call sets the clock (admitter only)
+
+    /**
+     * Creates a waiting room in front of a pool.
+     *
+     * @param ticketPool The pool buyers are admitted to.
+     * @param admissionsPerSecond How many buyers are admitted per second.
+     */
+    public WaitingRoom(TicketPool ticketPool, int admissionsPerSecond) {
+        this.ticketPool = ticketPool;
+        this.admissionsPerSecond = Math.max(1, admissionsPerSecond);
+        long window = Math.max(1 << 16, (long) this.admissionsPerSecond * ADMISSION_WINDOW_SECONDS);
+        this.windowSize = Long.highestOneBit(window - 1) << 1;
+        this.usedAdmissions = new AtomicLongArray((int) (windowSize >>> 6));
+    }
+
+    /**
+     * Joins the queue.
+     *
+     * @return The buyer's queue number, or -1 if the pool is sold out.
+     */
+    public long join() {
+        if (isSoldOut()) {
+            rejectedOnJoin.increment();
+            return -1;
+        }
+        return lastIssued.incrementAndGet();
+    }
+
+    /**
+     * Uses a queue number's admission. Succeeds at most once per number.
+     *
+     * @param queueNumber The buyer's queue number.
+     * @return ADMITTED if the buyer may purchase now, otherwise why not.
+     */
+    public AdmissionState claim(long queueNumber) {
+        AdmissionState state = peek(queueNumber);
+        if (state != AdmissionState.ADMITTED) {
+            return state;
+        }
+        int index = (int) ((queueNumber & (windowSize - 1)) >>> 6);
+        long bit = 1L << queueNumber;
+        long word;
+        do {
+            word = usedAdmissions.get(index);
+            if ((word & bit) != 0) {
+                return AdmissionState.USED;
+            }
+        } while (!usedAdmissions.compareAndSet(index, word, word | bit));
+        return AdmissionState.ADMITTED;
+    }
+
+    /**
+     * Makes one purchase for an admitted buyer, using up the admission.
+     * Waiting buyers are told the pool is sold out without the pool being touched.
+     *
+     * @param queueNumber The buyer's queue number.
+     * @param request Who is buying and how many tickets.
+     * @return The purchase result.
+     * @throws IllegalStateException If the buyer has not been admitted yet, or the admission was used or has expired.
+     */
+    public PurchaseResult purchase(long queueNumber, PurchaseRequest request) {
+        int quantity = request.getQuantity();
+        if (quantity <= 0) {
+            return new PurchaseResult(request.getCustomerName(), quantity, false, new int[0], PurchaseResult.INVALID_QUANTITY); // Keeps the admission for a corrected request
+        }
+        AdmissionState state = claim(queueNumber);
+        switch (state) {
+            case ADMITTED -> {
+                if (quantity > ticketPool.getTicketCapacity()) { // Bounds the ID array by the pool, not by the request
+                    return new PurchaseResult(request.getCustomerName(), quantity, false, new int[0], PurchaseResult.INSUFFICIENT_TICKETS);
+                }
+                int[] ticketIds = new int[quantity];
+                String reason = ticketPool.purchase(quantity, request.getCustomerName(), ticketIds, 0);
+                if (reason == null) {
+                    return new PurchaseResult(request.getCustomerName(), quantity, true, ticketIds, null);
+                }
+                return new PurchaseResult(request.getCustomerName(), quantity, false, new int[0], reason);
+            }
+            case SOLD_OUT -> {
+                return new PurchaseResult(request.getCustomerName(), request.getQuantity(), false, new int[0], PurchaseResult.SOLD_OUT);
+            }
+            case UNKNOWN -> throw new NoSuchElementException("Unknown queue number: " + queueNumber);
+            case WAITING -> throw new IllegalStateException("Queue number " + queueNumber + " has not been admitted yet; "
+                    + position(queueNumber) + " buyers are ahead.");
+            default -> throw new IllegalStateException("The admission for queue number " + queueNumber + " is " + state + ".");
+        }
+    }
+
+    /**
+     * Reports where a queue number stands without using its admission.
+     *
+     * @param queueNumber The buyer's queue number.
+     * @return The buyer's state, position and estimated wait.
+     */
+    public QueueStatus getStatus(long queueNumber) {
+        AdmissionState state = peek(queueNumber);
+        long position = state == AdmissionState.WAITING ? position(queueNumber) : 0;
+        return new QueueStatus(queueNumber, state, position, position * 1000 / admissionsPerSecond, getQueueLength());
+    }
+
+    /**
+     * Joins the queue and reports the new number's status.
+     *
+     * @return The buyer's status, REJECTED if the pool is sold out.
+     */
+    public QueueStatus joinWithStatus() {
+        long queueNumber = join();
+        if (queueNumber < 0) {
+            return new QueueStatus(0, AdmissionState.REJECTED, 0, 0, getQueueLength());
+        }
+        return getStatus(queueNumber);
+    }
+
+    private AdmissionState peek(long queueNumber) {
+        if (queueNumber <= 0 || queueNumber > lastIssued.get()) {
+            return AdmissionState.UNKNOWN;
+        }
+        long through = admittedThrough;
+        if (queueNumber > through) {
+            return isSoldOut() ? AdmissionState.SOLD_OUT : AdmissionState.WAITING;
+        }
+        if (queueNumber <= through - windowSize) {
+            return AdmissionState.EXPIRED;
+        }
+        long word = usedAdmissions.get((int) ((queueNumber & (windowSize - 1)) >>> 6));
+        return (word & (1L << queueNumber)) != 0 ? AdmissionState.USED : AdmissionState.ADMITTED;
+    }
+
+    private long position(long queueNumber) {
+        return Math.max(0, queueNumber - admittedThrough);
+    }
+
+    /**
+     * Admits the buyers whose turn has come since the last call. Must be called from one thread at a time,
+     * typically every few tens of milliseconds from a scheduler. Nobody is admitted while the pool is empty.
+     */
+    public void admit() {
+        admit(System.nanoTime());
+    }
+
+    void admit(long now) {
+        if (admitting) {
+            admissionCredit += admissionsPerSecond * ((now - lastAdmitNanos) / 1e9);
+        }
+        admitting = true;
+        lastAdmitNanos = now;
+        if (isSoldOut()) {
+            admissionCredit = 0; // Do not bank admissions while there is nothing to buy
+            return;
+        }
+
+        long issued = lastIssued.get();
+        long from = admittedThrough;
+        long to = Math.min(issued, from + Math.min((long) admissionCredit, windowSize)); // Never more than the bitmap can track at once
+        for (long number = from + 1; number <= to; number++) {
+            // Clear the bit this number shares with one a full window earlier, before anyone can claim it
+            int index = (int) ((number & (windowSize - 1)) >>> 6);
+            long bit = 1L << number;
+            usedAdmissions.getAndAccumulate(index, ~bit, (word, mask) -> word & mask);
+        }
+        admissionCredit -= to - from;
+        admittedThrough = to;
+        if (to == issued) {
+            admissionCredit = Math.min(admissionCredit, 1); // An empty queue must not save up a burst
+        }
+    }
+
+    /**
+     * Returns true if the pool has no tickets left.
+     *
+     * @return true while sold out.
+     */
+    public boolean isSoldOut() {
+        return ticketPool.getCurrentSize() <= 0;
+    }
+
+    /**
+     * Returns how many buyers are waiting to be admitted.
+     *
+     * @return The queue length.
+     */
+    public long getQueueLength() {
+        return Math.max(0, lastIssued.get() - admittedThrough);
+    }
+
+    /**
+     * Returns how many buyers were turned away on joining because the pool was sold out.
+     *
+     * @return The rejected count.
+     */
+    public long getRejectedOnJoinCount() {
+        return rejectedOnJoin.sum();
+    }
+
+    public int getAdmissionsPerSecond() {
+        return admissionsPerSecond;
+    }
+}
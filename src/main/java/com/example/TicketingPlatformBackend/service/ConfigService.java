@@ -0,0 +1,169 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+/**
+ * ConfigService holds the active ticket configuration and persists it outside the application.
+ * <p>
+ * The active configuration is a snapshot: every update builds a new TicketConfig and swaps it in
+ * atomically, so readers always see one complete configuration and never take a lock. Snapshots are
+ * shared and must not be modified; call {@link #update} instead.
+ * <p>
+ * Updates are written to the configured file on a background thread, so requests never wait for the
+ * disk, and bursts of updates collapse into one write of the latest snapshot. Each write goes to a
+ * temporary file that is synced and then renamed over the old one, so a crash leaves either the old
+ * or the new file, never a torn one. On startup the file is read back when it exists; otherwise the
+ * defaults bound from the application properties apply.
+ */
+@Service
+public class ConfigService {
+
+    private final Path configFile; // Where the configuration is persisted
+    private final AtomicReference<TicketConfig> current; // The active snapshot
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean writeQueued = new AtomicBoolean(); // A write of the latest snapshot is already queued
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "config-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ConfigService(TicketConfig defaults, @Value("${ticketing.config-file:data/config.json}") String configFile) {
+        this.configFile = Path.of(configFile);
+        this.current = new AtomicReference<>(load(defaults));
+    }
+
+    /**
+     * Returns the active configuration. The snapshot is shared, so callers must not modify it.
+     *
+     * @return The active configuration.
+     */
+    public TicketConfig get() {
+        return current.get();
+    }
+
+    /**
+     * Replaces the active configuration with a copy of the given one and schedules it to be persisted.
+     *
+     * @param requested The new settings. Not retained, so the caller may keep using it.
+     * @return The new active snapshot.
+     */
+    public TicketConfig update(TicketConfig requested) {
+        TicketConfig snapshot = copyOf(requested);
+        current.set(snapshot);
+        persistAsync();
+        return snapshot;
+    }
+
+    /**
+     * Returns the file the configuration is persisted to.
+     *
+     * @return The configuration file.
+     */
+    public Path getConfigFile() {
+        return configFile;
+    }
+
+    /**
+     * Waits until every update made so far has been written.
+     *
+     * @param timeoutMillis How long to wait at most.
+     * @return true if the writes finished in time.
+     */
+    public boolean flush(long timeoutMillis) {
+        try {
+            writer.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS); // The writer runs tasks in order
+            return true;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush(5000);
+        writer.shutdown();
+    }
+
+    private void persistAsync() {
+        if (writeQueued.compareAndSet(false, true)) {
+            writer.execute(() -> {
+                writeQueued.set(false); // Updates from here on queue another write
+                write(current.get());
+            });
+        }
+    }
+
+    private void write(TicketConfig config) {
+        Path temp = null;
+        try {
+            Path directory = configFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, configFile.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer bytes = ByteBuffer.wrap(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(config));
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true); // On disk before it replaces the old file
+            }
+            try {
+                Files.move(temp, configFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, configFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LoggingUtility.getLogger().log(Level.WARNING, "Could not save the configuration to {0}: {1}", new Object[]{configFile, e.getMessage()});
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Left for the next write to overwrite
+                }
+            }
+        }
+    }
+
+    private TicketConfig load(TicketConfig defaults) {
+        if (Files.isRegularFile(configFile)) {
+            try {
+                TicketConfig saved = objectMapper.readValue(configFile.toFile(), TicketConfig.class);
+                LoggingUtility.getLogger().log(Level.INFO, "Loaded the configuration from {0}.", configFile);
+                return saved;
+            } catch (IOException e) {
+                LoggingUtility.getLogger().log(Level.WARNING, "Could not read the configuration from {0}, using the defaults: {1}",
+                        new Object[]{configFile, e.getMessage()});
+            }
+        }
+        return copyOf(defaults);
+    }
+
+    private static TicketConfig copyOf(TicketConfig source) {
+        TicketConfig copy = new TicketConfig();
+        copy.update(source);
+        return copy;
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.AdaptiveRelease;
+import com.example.TicketingPlatformBackend.model.Customer;
+import com.example.TicketingPlatformBackend.model.EventStatus;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.PoolJournal;
+import com.example.TicketingPlatformBackend.model.PoolLevel;
+import com.example.TicketingPlatformBackend.model.PurchaseRequest;
+import com.example.TicketingPlatformBackend.model.PurchaseResult;
+import com.example.TicketingPlatformBackend.model.ReleaseMode;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import com.example.TicketingPlatformBackend.model.Vendor;
+import com.example.TicketingPlatformBackend.model.WaitingRoom;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+/**
+ * EventRegistry hosts any number of independent events in one JVM, each with its own configuration
+ * and TicketPool, looked up by event ID in a ConcurrentHashMap.
+ * <p>
+ * Events do not get threads of their own. Every vendor and customer of every event ticks on one
+ * shared {@link TickScheduler}, every event's journal is committed by one shared writer thread, and
+ * sold-out events are stopped on one lifecycle thread, so the thread count stays fixed however many
+ * events are running.
+ */
+@Service
+public class EventRegistry {
+
+    private static final Pattern EVENT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}"); // Safe in URLs and journal paths
+
+    private final ConcurrentHashMap<String, TicketEvent> events = new ConcurrentHashMap<>();
+    private TickScheduler scheduler; // Shared by all events, created on the first start
+    private final MetricsService metricsService; // Publishes each running event's pool metrics
+    private final LedgerService ledgerService; // Records each event's purchases, or null when none are kept
+    private final ExecutorService lifecycleExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-lifecycle"); // Runs sold-out stops off purchase threads, one at a time
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a registry whose metrics go to a private registry that nobody reads and whose purchases are not recorded.
+     */
+    public EventRegistry() {
+        this(new MetricsService(new SimpleMeterRegistry()), null);
+    }
+
+    @Autowired
+    public EventRegistry(MetricsService metricsService, LedgerService ledgerService) {
+        this.metricsService = metricsService;
+        this.ledgerService = ledgerService;
+        metricsService.gauge("ticket.events.running", "Events whose vendors and customers are running", this::getRunningEventCount);
+    }
+
+    /**
+     * Creates an event or replaces the configuration of an existing one.
+     * A running event keeps its current settings until it is restarted.
+     *
+     * @param eventId The event ID.
+     * @param config The event's configuration.
+     * @return The configured event.
+     */
+    public TicketEvent configure(String eventId, TicketConfig config) {
+        if (eventId == null || !EVENT_ID.matcher(eventId).matches()) {
+            throw new IllegalArgumentException("Event ID must be 1-64 letters, digits, '-' or '_'.");
+        }
+        TicketEvent event = events.computeIfAbsent(eventId, TicketEvent::new);
+        synchronized (event) {
+            event.getConfig().update(config);
+        }
+        return event;
+    }
+
+    /**
+     * Looks up an event.
+     *
+     * @param eventId The event ID.
+     * @return The event.
+     * @throws NoSuchElementException If no event has that ID.
+     */
+    public TicketEvent getEvent(String eventId) {
+        TicketEvent event = events.get(eventId);
+        if (event == null) {
+            throw new NoSuchElementException("Unknown event: " + eventId);
+        }
+        return event;
+    }
+
+    /**
+     * Starts an event's vendors and customers on the shared scheduler, with a fresh pool
+     * (or the pool recovered from the event's journal).
+     *
+     * @param eventId The event ID.
+     * @return A message describing the start.
+     */
+    public String startEvent(String eventId) {
+        TicketEvent event = getEvent(eventId);
+        TickScheduler sharedScheduler = scheduler();
+        synchronized (event) {
+            if (event.isRunning()) {
+                throw new IllegalStateException("Event " + eventId + " is already running.");
+            }
+            TicketConfig config = event.getConfig();
+            if (config.getTotalTickets() <= 0) {
+                throw new IllegalStateException("Initial ticket count must be greater than zero.");
+            }
+
+            TicketPool pool;
+            try {
+                pool = PoolFactory.create(config, Path.of(config.getJournalDirectory(), eventId));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not open the journal for event " + eventId + ": " + e.getMessage(), e);
+            }
+            event.setTicketPool(pool);
+            pool.addLevelListener((previous, current, poolSize, capacity) -> {
+                if (current == PoolLevel.SOLD_OUT && event.getTicketPool() == pool) {
+                    stopSoon(event); // Sold out: stop at once rather than on the next poll
+                }
+            });
+            PoolStatusPublisher publisher = new PoolStatusPublisher(pool);
+            pool.addListener(publisher);
+            if (ledgerService != null) {
+                pool.addListener(ledgerService.listenerFor(eventId));
+            }
+            event.setStatusPublisher(publisher);
+            int vendors = config.getVendorCount();
+            int customers = config.getCustomerCount();
+            metricsService.unbind(event.getPoolMeters()); // Meters of the previous run's pool
+            event.setPoolMeters(metricsService.bind(eventId, pool,
+                    () -> event.isRunning() ? vendors : 0, () -> event.isRunning() ? customers : 0));
+
+            WaitingRoom room = config.getAdmissionsPerSecond() > 0 ? new WaitingRoom(pool, config.getAdmissionsPerSecond()) : null;
+            event.setWaitingRoom(room);
+            if (room != null) {
+                event.getParticipantTasks().add(sharedScheduler.schedule(room::admit, WaitingRoom.ADMIT_INTERVAL_MILLIS, WaitingRoom.ADMIT_INTERVAL_MILLIS));
+            }
+
+            long tickInterval = config.getTickIntervalMillis();
+            AdaptiveRelease adaptiveRelease = config.getReleaseMode() == ReleaseMode.ADAPTIVE
+                    ? new AdaptiveRelease(pool, config.getTargetFillPercent()) : null;
+            for (int i = 0; i < config.getVendorCount(); i++) {
+                Vendor vendor = new Vendor(pool, "[" + eventId + " Vendor-" + (i + 1) + "]", config.getTicketReleaseRate(), tickInterval, adaptiveRelease);
+                event.getParticipantTasks().add(sharedScheduler.schedule(vendor));
+            }
+            for (int i = 0; i < config.getCustomerCount(); i++) {
+                Customer customer = new Customer(pool, "[" + eventId + " Customer-" + (i + 1) + "]", config.getCustomerRetrievalRate(), tickInterval, room);
+                event.getParticipantTasks().add(sharedScheduler.schedule(customer));
+            }
+            event.setRunning(true);
+            if (pool.getLevel() == PoolLevel.SOLD_OUT) { // Recovered from a journal with nothing left to sell
+                stopSoon(event);
+            }
+        }
+        LoggingUtility.getLogger().log(Level.INFO, "Event {0} started with {1} vendors and {2} customers.",
+                new Object[]{eventId, event.getConfig().getVendorCount(), event.getConfig().getCustomerCount()});
+        return "Event " + eventId + " started with " + event.getTicketPool().getCurrentSize() + " tickets.";
+    }
+
+    /**
+     * Stops an event's vendors and customers. The pool is kept so its final status can still be read.
+     *
+     * @param eventId The event ID.
+     * @return A message with the remaining tickets.
+     */
+    public String stopEvent(String eventId) {
+        TicketEvent event = getEvent(eventId);
+        stop(event);
+        TicketPool pool = event.getTicketPool();
+        return "Event " + eventId + " stopped. Total Tickets Remaining: "
+                + (pool != null ? pool.getCurrentSize() : 0) + "/" + event.getConfig().getTotalTickets();
+    }
+
+    /**
+     * Applies a batch of purchase requests to a running event's pool.
+     *
+     * @param eventId The event ID.
+     * @param requests The purchase requests, in priority order.
+     * @return One result per request, in the same order.
+     */
+    public List<PurchaseResult> purchaseBatch(String eventId, List<PurchaseRequest> requests) {
+        return getRunningPool(eventId).purchaseBatch(requests);
+    }
+
+    /**
+     * Returns the pool of a running event, for operations such as holds that act on it directly.
+     *
+     * @param eventId The event ID.
+     * @return The event's ticket pool.
+     * @throws IllegalStateException If the event is not running.
+     */
+    public TicketPool getRunningPool(String eventId) {
+        TicketEvent event = getEvent(eventId);
+        TicketPool pool = event.getTicketPool();
+        if (!event.isRunning() || pool == null) {
+            throw new IllegalStateException("Event " + eventId + " is not running.");
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the waiting room in front of a running event's pool.
+     *
+     * @param eventId The event ID.
+     * @return The waiting room.
+     * @throws NoSuchElementException If there is no such event.
+     * @throws IllegalStateException If the event is not running or has no waiting room.
+     */
+    public WaitingRoom getWaitingRoom(String eventId) {
+        getRunningPool(eventId);
+        WaitingRoom room = getEvent(eventId).getWaitingRoom();
+        if (room == null) {
+            throw new IllegalStateException("Event " + eventId + " has no waiting room. Set admissionsPerSecond and restart it.");
+        }
+        return room;
+    }
+
+    /**
+     * Returns the status publisher of an event's pool. Like the event's pool, it is kept after the event stops.
+     *
+     * @param eventId The event ID.
+     * @return The status publisher.
+     * @throws NoSuchElementException If there is no such event.
+     * @throws IllegalStateException If the event has never been started.
+     */
+    public PoolStatusPublisher getStatusPublisher(String eventId) {
+        PoolStatusPublisher publisher = getEvent(eventId).getStatusPublisher();
+        if (publisher == null) {
+            throw new IllegalStateException("Event " + eventId + " has not been started.");
+        }
+        return publisher;
+    }
+
+    /**
+     * Stops an event if it is running and removes it from the registry.
+     *
+     * @param eventId The event ID.
+     */
+    public void removeEvent(String eventId) {
+        TicketEvent event = getEvent(eventId);
+        stop(event);
+        events.remove(eventId, event);
+        synchronized (event) {
+            metricsService.unbind(event.getPoolMeters());
+            event.setPoolMeters(null);
+        }
+    }
+
+    /**
+     * Returns the status of one event.
+     *
+     * @param eventId The event ID.
+     * @return The event's status.
+     */
+    public EventStatus getEventStatus(String eventId) {
+        return getEvent(eventId).getStatus();
+    }
+
+    /**
+     * Returns the status of every hosted event.
+     *
+     * @return One status per event, in no particular order.
+     */
+    public List<EventStatus> getEventStatuses() {
+        List<EventStatus> statuses = new ArrayList<>(events.size());
+        for (TicketEvent event : events.values()) {
+            statuses.add(event.getStatus());
+        }
+        return statuses;
+    }
+
+    /**
+     * Returns the number of events that are currently running.
+     *
+     * @return The running event count.
+     */
+    public int getRunningEventCount() {
+        int running = 0;
+        for (TicketEvent event : events.values()) {
+            if (event.isRunning()) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Returns the number of hosted events.
+     *
+     * @return The event count.
+     */
+    public int getEventCount() {
+        return events.size();
+    }
+
+    private void stop(TicketEvent event) {
+        synchronized (event) {
+            if (!event.isRunning()) {
+                return;
+            }
+            event.getParticipantTasks().forEach(task -> task.cancel(false));
+            event.getParticipantTasks().clear();
+            event.setRunning(false);
+            PoolJournal journal = event.getTicketPool().getJournal();
+            if (journal != null) {
+                journal.close(5000); // Commits the last batch and snapshots the final state
+            }
+        }
+        LoggingUtility.getLogger().log(Level.INFO, "Event {0} stopped. Total Tickets Remaining: {1}/{2}",
+                new Object[]{event.getEventId(), event.getTicketPool().getCurrentSize(), event.getConfig().getTotalTickets()});
+    }
+
+    /**
+     * Stops an event off the calling thread, which may be a purchase in progress; closing the journal can block.
+     */
+    private void stopSoon(TicketEvent event) {
+        try {
+            lifecycleExecutor.execute(() -> stop(event)); // Not the common pool, which a blocking journal close would starve
+        } catch (RejectedExecutionException e) {
+            // The registry is shutting down and stops every event itself
+        }
+    }
+
+    private synchronized TickScheduler scheduler() {
+        if (scheduler == null) {
+            scheduler = new TickScheduler(0); // One thread per processor, shared by every event
+        }
+        return scheduler;
+    }
+
+    /**
+     * Stops every event and the shared scheduler when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        lifecycleExecutor.shutdown(); // Queued sold-out stops still run; this thread stops everything else below
+        events.values().forEach(this::stop);
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdown(5000);
+                scheduler = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.example.TicketingPlatformBackend.model.PoolLevel;
+import com.example.TicketingPlatformBackend.model.PoolLevelListener;
+import com.example.TicketingPlatformBackend.model.TicketPoolListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * EventStreamService pushes pool activity to WebSocket subscribers instead of making them poll.
+ * <p>
+ * Pool operations are queued once, no matter how many clients are connected, and only while at least
+ * one client is. Every flush interval the queued events are coalesced into a single JSON frame that
+ * carries the batch and the latest pool size, and that same frame is sent to every subscriber.
+ * Each subscriber sits behind a bounded send buffer; a client that cannot keep up is disconnected
+ * rather than allowed to hold memory or a thread.
+ * <p>
+ * Frames also carry the pool's level. When the pool sells out, drops to its low-water mark or fills up,
+ * a frame is sent straight away instead of waiting for the next flush.
+ */
+@Service
+public class EventStreamService implements TicketPoolListener, PoolLevelListener {
+
+    private static final int PENDING_LIMIT = 4096; // Events kept between flushes; the excess is counted, not queued
+    private static final int MAX_EVENTS_PER_FRAME = 256; // Events sent individually per frame; the rest are summarized
+    private static final long FLUSH_INTERVAL_MILLIS = 100; // Coalescing window
+    private static final int SEND_TIME_LIMIT_MILLIS = 2000; // A send blocked this long marks the client as too slow
+    private static final int SEND_BUFFER_LIMIT_BYTES = 256 * 1024; // Per-subscriber outgoing buffer
+
+    private final Map<String, WebSocketSession> subscribers = new ConcurrentHashMap<>(); // Decorated sessions by ID
+    private final ArrayBlockingQueue<StreamEvent> pending = new ArrayBlockingQueue<>(PENDING_LIMIT);
+    private final AtomicLong overflowed = new AtomicLong(); // Events that did not fit into the pending queue
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService flusher;
+
+    private volatile int latestPoolSize = -1; // Coalesced pool size, -1 until the first event
+    private volatile int latestCapacity;
+    private volatile PoolLevel latestLevel; // Level from the latest transition, null until the first one
+    private final AtomicBoolean flushRequested = new AtomicBoolean(); // An immediate flush is already queued
+    private PoolLevel sentLevel; // Level in the last frame (flusher thread only)
+    private int sentPoolSize = -1; // Pool size in the last frame (flusher thread only)
+
+    public EventStreamService() {
+        this(FLUSH_INTERVAL_MILLIS);
+    }
+
+    EventStreamService(long flushIntervalMillis) {
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onPoolEvent(PoolEventType type, String actor, int count, int poolSize, int capacity) {
+        if (subscribers.isEmpty()) {
+            return; // Nobody is listening, so the purchase path pays nothing
+        }
+        latestPoolSize = poolSize;
+        latestCapacity = capacity;
+        if (!pending.offer(new StreamEvent(type, actor, count, poolSize, System.currentTimeMillis()))) {
+            overflowed.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onLevelChanged(PoolLevel previous, PoolLevel current, int poolSize, int capacity) {
+        latestLevel = current;
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        latestPoolSize = poolSize;
+        latestCapacity = capacity;
+        if (flushRequested.compareAndSet(false, true)) { // One queued flush covers any number of transitions
+            try {
+                flusher.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false); // Shutting down
+            }
+        }
+    }
+
+    /**
+     * Registers a newly connected client.
+     *
+     * @param session The client's WebSocket session.
+     */
+    public void subscribe(WebSocketSession session) {
+        subscribers.put(session.getId(),
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_LIMIT_BYTES,
+                        ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE));
+        LoggingUtility.getLogger().log(Level.INFO, "Event stream subscriber {0} connected.", session.getId());
+    }
+
+    /**
+     * Removes a client that disconnected.
+     *
+     * @param session The client's WebSocket session.
+     */
+    public void unsubscribe(WebSocketSession session) {
+        subscribers.remove(session.getId());
+    }
+
+    /**
+     * Returns the number of connected clients.
+     *
+     * @return The subscriber count.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Sends everything that happened since the last flush as one frame to every subscriber.
+     */
+    synchronized void flush() {
+        if (subscribers.isEmpty()) {
+            pending.clear();
+            return;
+        }
+        List<StreamEvent> batch = new ArrayList<>(Math.min(pending.size(), MAX_EVENTS_PER_FRAME));
+        pending.drainTo(batch, MAX_EVENTS_PER_FRAME);
+        long summarized = overflowed.getAndSet(0) + pending.size();
+        pending.clear(); // Anything beyond one frame is only counted, so a burst cannot grow the backlog
+        int poolSize = latestPoolSize;
+        PoolLevel level = latestLevel;
+        if (batch.isEmpty() && summarized == 0 && poolSize == sentPoolSize && level == sentLevel) {
+            return; // Nothing changed since the last frame
+        }
+        sentPoolSize = poolSize;
+        sentLevel = level;
+
+        TextMessage frame;
+        try {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("poolSize", poolSize);
+            payload.put("capacity", latestCapacity);
+            payload.put("events", batch);
+            payload.put("skippedEvents", summarized);
+            if (level != null) {
+                payload.put("level", level);
+            }
+            frame = new TextMessage(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            LoggingUtility.getLogger().log(Level.WARNING, "Failed to encode event frame: {0}", e.getMessage());
+            return;
+        }
+
+        for (WebSocketSession subscriber : subscribers.values()) {
+            send(subscriber, frame);
+        }
+    }
+
+    private void send(WebSocketSession subscriber, TextMessage frame) {
+        try {
+            subscriber.sendMessage(frame);
+        } catch (IOException | RuntimeException e) { // Includes SessionLimitExceededException for slow consumers
+            subscribers.remove(subscriber.getId());
+            LoggingUtility.getLogger().log(Level.WARNING, "Dropped event stream subscriber {0}: {1}",
+                    new Object[]{subscriber.getId(), e.getMessage()});
+            try {
+                subscriber.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException ignored) {
+                // The connection is already gone
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+    }
+
+    /**
+     * One pool operation as sent to clients.
+     */
+    public static class StreamEvent {
+        private final PoolEventType type;
+        private final String actor;
+        private final int count;
+        private final int poolSize;
+        private final long timestamp;
+
+        StreamEvent(PoolEventType type, String actor, int count, int poolSize, long timestamp) {
+            this.type = type;
+            this.actor = actor;
+            this.count = count;
+            this.poolSize = poolSize;
+            this.timestamp = timestamp;
+        }
+
+        public PoolEventType getType() {
+            return type;
+        }
+
+        public String getActor() {
+            return actor;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.HoldRequest;
+import com.example.TicketingPlatformBackend.model.HoldStatus;
+import com.example.TicketingPlatformBackend.model.PurchaseResult;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HoldService manages checkout holds: tickets reserved for a customer for a limited time, then either
+ * confirmed as a purchase or returned to their pool. Holds from every pool and event share one
+ * {@link TimingWheel}, so expiring millions of holds costs one thread and constant work per hold.
+ */
+@Service
+public class HoldService {
+
+    static final int DEFAULT_HOLD_SECONDS = 300; // Used when a request does not say how long to hold
+    static final int MAX_HOLD_SECONDS = 3600; // Longest hold a request may ask for
+    private static final long TICK_MILLIS = 10; // Holds expire at most this late
+
+    private final TimingWheel expiryWheel;
+    private final ConcurrentHashMap<Long, Hold> holds = new ConcurrentHashMap<>(); // Holds that are still held
+    private final AtomicLong nextHoldId = new AtomicLong();
+
+    public HoldService() {
+        this(TICK_MILLIS);
+    }
+
+    HoldService(long tickMillis) {
+        // 512 slots over three levels reach 512^3 ticks (over 15 days at 10 ms), far beyond MAX_HOLD_SECONDS
+        this.expiryWheel = new TimingWheel(tickMillis, 512, 3, "hold-expiry");
+    }
+
+    /**
+     * Reserves tickets from a pool for a limited time.
+     *
+     * @param pool The pool to reserve from.
+     * @param request Who is holding, how many tickets and for how long.
+     * @return The new hold, or a REJECTED status if there were not enough tickets.
+     */
+    public HoldStatus hold(TicketPool pool, HoldRequest request) {
+        int quantity = request.getQuantity();
+        if (quantity <= 0) {
+            return new HoldStatus(0, request.getCustomerName(), quantity, new int[0], 0, HoldStatus.REJECTED, PurchaseResult.INVALID_QUANTITY);
+        }
+        int holdSeconds = request.getHoldSeconds() > 0 ? Math.min(request.getHoldSeconds(), MAX_HOLD_SECONDS) : DEFAULT_HOLD_SECONDS;
+
+        if (quantity > pool.getTicketCapacity()) { // Bounds the ID array by the pool, not by the request
+            return new HoldStatus(0, request.getCustomerName(), quantity, new int[0], 0, HoldStatus.REJECTED, PurchaseResult.INSUFFICIENT_TICKETS);
+        }
+        int[] ticketIds = new int[quantity];
+        String reason = pool.hold(quantity, request.getCustomerName(), ticketIds, 0);
+        if (reason != null) {
+            return new HoldStatus(0, request.getCustomerName(), quantity, new int[0], 0, HoldStatus.REJECTED, reason);
+        }
+
+        long holdMillis = TimeUnit.SECONDS.toMillis(holdSeconds);
+        Hold hold = new Hold(nextHoldId.incrementAndGet(), pool, request.getCustomerName(), ticketIds,
+                System.currentTimeMillis() + holdMillis);
+        holds.put(hold.holdId, hold);
+        expiryWheel.add(hold, holdMillis);
+        return hold.status(HoldStatus.HELD);
+    }
+
+    /**
+     * Purchases the tickets of a hold that has not expired.
+     *
+     * @param holdId The hold ID.
+     * @return The confirmed hold.
+     */
+    public HoldStatus confirm(long holdId) {
+        Hold hold = end(holdId);
+        hold.pool.confirmHold(hold.ticketIds, 0, hold.ticketIds.length, hold.customerName);
+        return hold.status(HoldStatus.CONFIRMED);
+    }
+
+    /**
+     * Returns the tickets of a hold to its pool before the hold expires.
+     *
+     * @param holdId The hold ID.
+     * @return The released hold.
+     */
+    public HoldStatus release(long holdId) {
+        Hold hold = end(holdId);
+        hold.pool.releaseHold(hold.ticketIds, 0, hold.ticketIds.length, hold.customerName, false);
+        return hold.status(HoldStatus.RELEASED);
+    }
+
+    /**
+     * Looks up a hold that is still held.
+     *
+     * @param holdId The hold ID.
+     * @return The hold's status.
+     */
+    public HoldStatus getHold(long holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new NoSuchElementException("Unknown or expired hold: " + holdId);
+        }
+        return hold.status(HoldStatus.HELD);
+    }
+
+    /**
+     * Returns the number of holds waiting to be confirmed, released or expired.
+     *
+     * @return The active hold count.
+     */
+    public int getActiveHoldCount() {
+        return holds.size();
+    }
+
+    /**
+     * Takes a hold out of play so exactly one of confirm, release and expiry acts on it.
+     */
+    private Hold end(long holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new NoSuchElementException("Unknown or expired hold: " + holdId);
+        }
+        if (!hold.cancel()) {
+            throw new IllegalStateException("Hold " + holdId + " has already ended.");
+        }
+        holds.remove(holdId, hold);
+        return hold;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.shutdown();
+    }
+
+    /**
+     * One outstanding hold. Expiry runs on the wheel thread and returns the tickets to the pool.
+     */
+    private final class Hold extends TimingWheel.Timeout {
+        private final long holdId;
+        private final TicketPool pool;
+        private final String customerName;
+        private final int[] ticketIds;
+        private final long expiresAtMillis;
+
+        private Hold(long holdId, TicketPool pool, String customerName, int[] ticketIds, long expiresAtMillis) {
+            this.holdId = holdId;
+            this.pool = pool;
+            this.customerName = customerName;
+            this.ticketIds = ticketIds;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        @Override
+        protected void expire() {
+            holds.remove(holdId, this);
+            pool.releaseHold(ticketIds, 0, ticketIds.length, customerName, true);
+        }
+
+        private HoldStatus status(String state) {
+            return new HoldStatus(holdId, customerName, ticketIds.length, ticketIds, expiresAtMillis, state, null);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LedgerEntry;
+import com.example.TicketingPlatformBackend.model.LedgerEntryType;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.example.TicketingPlatformBackend.model.TicketPoolListener;
+import jakarta.annotation.PreDestroy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * LedgerService keeps a durable record of every release, purchase and cancellation in the embedded database.
+ * <p>
+ * Pools report to it as listeners on the purchase path, where an entry is only copied into a bounded
+ * queue. A single writer thread drains the queue and inserts up to {@value #BATCH_SIZE} entries at a
+ * time as one JDBC batch in one transaction. When the database falls a full queue behind, the purchase
+ * path waits at most {@value #OFFER_TIMEOUT_MILLIS} ms for room and then drops the entry and counts it, so a
+ * stalled database cannot stall purchases. Entries recorded after shutdown are refused the same way. Histories are read newest first through an index on the
+ * actor and the entry ID, with the last ID of a page as the cursor for the next, so a page costs the
+ * same however many rows the ledger holds.
+ */
+@Service
+public class LedgerService {
+
+    public static final int MAX_PAGE_SIZE = 1000; // Entries returned by one history query at most
+
+    static final int BATCH_SIZE = 1000; // Entries inserted per JDBC batch
+    private static final int QUEUE_CAPACITY = 65_536; // Entries waiting for the writer before the purchase path waits
+    static final long OFFER_TIMEOUT_MILLIS = 50; // Longest a purchase waits for room in a full queue
+    private static final long POLL_MILLIS = 100;
+    private static final String INSERT = "INSERT INTO ticket_ledger (event_id, entry_type, actor, quantity, ticket_ids, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String HISTORY = "SELECT id, event_id, entry_type, actor, quantity, ticket_ids, created_at FROM ticket_ledger "
+            + "WHERE actor = ? AND id < ? AND entry_type IN (%s) ORDER BY id DESC LIMIT ?";
+    private static final RowMapper<LedgerEntry> ROW = (rs, row) -> new LedgerEntry(rs.getLong("id"), rs.getString("event_id"),
+            LedgerEntryType.valueOf(rs.getString("entry_type")), rs.getString("actor"), rs.getInt("quantity"),
+            rs.getString("ticket_ids"), rs.getLong("created_at"));
+
+    private final JdbcTemplate jdbc;
+    private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final LongAdder accepted = new LongAdder(); // Entries queued so far
+    private final AtomicLong processed = new AtomicLong(); // Entries written or given up on so far
+    private final LongAdder failed = new LongAdder(); // Entries lost to database errors
+    private final LongAdder dropped = new LongAdder(); // Entries refused because the queue stayed full or the ledger was shut down
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public LedgerService(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+        createSchema();
+        this.writer = new Thread(this::writeLoop, "ledger-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Returns a listener that records one event's releases, purchases and cancellations.
+     *
+     * @param eventId The event the pool belongs to.
+     * @return The listener, to be added to the event's pool.
+     */
+    public TicketPoolListener listenerFor(String eventId) {
+        return new TicketPoolListener() {
+            @Override
+            public void onPoolEvent(PoolEventType type, String actor, int count, int poolSize, int capacity) {
+                // Only called by pools that do not pass ticket IDs; every TicketPool does
+            }
+
+            @Override
+            public void onPoolEvent(PoolEventType type, String actor, int count, int poolSize, int capacity,
+                                    int[] ticketIds, int offset, int length) {
+                record(eventId, type, actor, count, ticketIds, offset, length);
+            }
+        };
+    }
+
+    /**
+     * Returns a customer's purchases and cancellations, newest first.
+     *
+     * @param customerName The customer.
+     * @param beforeId Only entries with a smaller ID, or 0 for the newest; pass the last ID of a page for the next.
+     * @param limit Entries to return at most.
+     * @return The entries.
+     */
+    public List<LedgerEntry> customerHistory(String customerName, long beforeId, int limit) {
+        return history(customerName, beforeId, limit, LedgerEntryType.PURCHASE, LedgerEntryType.CANCELLATION);
+    }
+
+    /**
+     * Returns a vendor's releases, newest first.
+     *
+     * @param vendorName The vendor.
+     * @param beforeId Only entries with a smaller ID, or 0 for the newest; pass the last ID of a page for the next.
+     * @param limit Entries to return at most.
+     * @return The entries.
+     */
+    public List<LedgerEntry> vendorHistory(String vendorName, long beforeId, int limit) {
+        return history(vendorName, beforeId, limit, LedgerEntryType.RELEASE);
+    }
+
+    /**
+     * Waits until every entry recorded before the call has been written.
+     *
+     * @param timeoutMillis How long to wait at most.
+     * @return true if everything was written in time.
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = accepted.sum();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (processed.get() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns how many entries could not be written because of database errors.
+     *
+     * @return The number of lost entries.
+     */
+    public long getFailedEntries() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns how many entries were never queued, because the queue stayed full or the ledger was shut down.
+     *
+     * @return The number of dropped entries.
+     */
+    public long getDroppedEntries() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false; // New entries are refused; the writer drains what is queued before it exits
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(String eventId, PoolEventType type, String actor, int count, int[] ticketIds, int offset, int length) {
+        LedgerEntryType entryType = switch (type) {
+            case TICKETS_ADDED -> LedgerEntryType.RELEASE;
+            case TICKETS_PURCHASED, HOLD_CONFIRMED -> LedgerEntryType.PURCHASE;
+            case TICKETS_RETURNED -> LedgerEntryType.CANCELLATION;
+            default -> null; // Rejections, holds and messages move no tickets for good
+        };
+        if (entryType == null) {
+            return;
+        }
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        int[] ids;
+        if (entryType == LedgerEntryType.RELEASE) {
+            ids = new int[]{ticketIds[offset], count}; // Releases are one run of consecutive IDs
+        } else {
+            ids = Arrays.copyOfRange(ticketIds, offset, offset + length);
+        }
+        Pending entry = new Pending(eventId, entryType, actor, count, ids, System.currentTimeMillis());
+        try {
+            if (queue.offer(entry, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                accepted.increment();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+        LoggingUtility.getLogger().log(Level.WARNING, "Ledger queue is full; dropped the {0} entry for event {1}.",
+                new Object[]{entryType, eventId});
+    }
+
+    private List<LedgerEntry> history(String actor, long beforeId, int limit, LedgerEntryType... types) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        Object[] args = new Object[types.length + 3];
+        args[0] = actor;
+        args[1] = beforeId > 0 ? beforeId : Long.MAX_VALUE;
+        for (int i = 0; i < types.length; i++) {
+            args[i + 2] = types[i].name();
+        }
+        args[types.length + 2] = limit;
+        String placeholders = String.join(", ", Collections.nCopies(types.length, "?"));
+        return jdbc.query(String.format(HISTORY, placeholders), ROW, args);
+    }
+
+    private void createSchema() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS ticket_ledger ("
+                + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "event_id VARCHAR(64) NOT NULL, "
+                + "entry_type VARCHAR(16) NOT NULL, "
+                + "actor VARCHAR(1000000), "
+                + "quantity INT NOT NULL, "
+                + "ticket_ids VARCHAR(1000000) NOT NULL, "
+                + "created_at BIGINT NOT NULL)");
+        // Names are not length-checked anywhere else, so ledgers created with a narrower column are widened
+        jdbc.execute("ALTER TABLE ticket_ledger ALTER COLUMN actor SET DATA TYPE VARCHAR(1000000)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_ticket_ledger_actor ON ticket_ledger (actor, id)"); // Serves both histories
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                processed.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Inserts a batch in one transaction. If the batch fails it is rolled back and written again one row at a
+     * time, so a bad entry costs only itself. Rows that still fail are logged and counted, not retried, so one
+     * bad entry cannot stall the ledger.
+     */
+    private void write(List<Pending> batch) {
+        try {
+            jdbc.execute((ConnectionCallback<Void>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                    for (Pending entry : batch) {
+                        bind(insert, entry);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                    connection.commit();
+                } catch (SQLException e) {
+                    rollback(connection);
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            LoggingUtility.getLogger().log(Level.WARNING, "Ledger batch of {0} entries failed, writing them one at a time: {1}",
+                    new Object[]{batch.size(), e.getMessage()});
+            for (Pending entry : batch) {
+                writeOne(entry);
+            }
+        }
+    }
+
+    private void writeOne(Pending entry) {
+        try {
+            jdbc.update(connection -> {
+                PreparedStatement insert = connection.prepareStatement(INSERT);
+                bind(insert, entry);
+                return insert;
+            });
+        } catch (DataAccessException e) {
+            failed.increment();
+            LoggingUtility.getLogger().log(Level.WARNING, "Could not write a {0} ledger entry for event {1}: {2}",
+                    new Object[]{entry.type, entry.eventId, e.getMessage()});
+        }
+    }
+
+    private static void bind(PreparedStatement insert, Pending entry) throws SQLException {
+        insert.setString(1, entry.eventId);
+        insert.setString(2, entry.type.name());
+        insert.setString(3, entry.actor);
+        insert.setInt(4, entry.quantity);
+        insert.setString(5, entry.ticketIdRanges());
+        insert.setLong(6, entry.createdAtMillis);
+    }
+
+    private static void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException ignored) {
+            // The original failure is the one worth reporting
+        }
+    }
+
+    /**
+     * Writes ticket IDs as sorted ranges, so a release of thousands of consecutive tickets is one short string.
+     */
+    static String toRanges(int[] ids) {
+        int[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        StringBuilder out = new StringBuilder();
+        int i = 0;
+        while (i < sorted.length) {
+            int start = sorted[i];
+            int end = start;
+            while (i + 1 < sorted.length && sorted[i + 1] == end + 1) {
+                end = sorted[++i];
+            }
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(start);
+            if (end != start) {
+                out.append('-').append(end);
+            }
+            i++;
+        }
+        return out.toString();
+    }
+
+    /**
+     * An entry waiting for the writer. Holds the raw IDs so the purchase path does no formatting.
+     */
+    private static final class Pending {
+        private final String eventId;
+        private final LedgerEntryType type;
+        private final String actor;
+        private final int quantity;
+        private final int[] ids; // Ticket IDs, or for releases the first ID and the count
+        private final long createdAtMillis;
+
+        private Pending(String eventId, LedgerEntryType type, String actor, int quantity, int[] ids, long createdAtMillis) {
+            this.eventId = eventId;
+            this.type = type;
+            this.actor = actor;
+            this.quantity = quantity;
+            this.ids = ids;
+            this.createdAtMillis = createdAtMillis;
+        }
+
+        private String ticketIdRanges() {
+            if (type == LedgerEntryType.RELEASE) {
+                return ids[1] == 1 ? Integer.toString(ids[0]) : ids[0] + "-" + (ids[0] + ids[1] - 1);
+            }
+            return toRanges(ids);
+        }
+    }
+}
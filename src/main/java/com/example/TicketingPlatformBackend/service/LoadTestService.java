@@ -0,0 +1,358 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.LatencyHistogram;
+import com.example.TicketingPlatformBackend.model.LatencySummary;
+import com.example.TicketingPlatformBackend.model.LoadTestReport;
+import com.example.TicketingPlatformBackend.model.LoadTestSettings;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * LoadTestService drives a private TicketPool as hard as the settings allow and reports what it achieved.
+ * <p>
+ * Unlike the simulation, workers never sleep for a tick. Each one loops over add, purchase or return
+ * operations, paced only by the optional target rate. Every worker has its own random generator, split in
+ * a fixed order from the configured seed and draws the same values on every operation whatever happened
+ * before, so each worker's n-th operation asks for the same quantity in every run with the same settings.
+ * Thread interleaving, and with it which purchases succeed, still varies from run to run. Latencies go into per-worker histograms that are
+ * merged at the end. When a target rate is set, latency is measured from when an operation was due rather
+ * than when it started, so a pool that falls behind shows it in the percentiles.
+ * <p>
+ * The load test pool uses the configured inventory settings but is never journaled. It does not write
+ * every operation to the log, and it is separate from the simulation's pool. Its metrics are published
+ * with the event tag "load-test" while it runs.
+ */
+@Service
+public class LoadTestService {
+
+    public static final String METRICS_EVENT = "load-test"; // Event tag of the load test pool's metrics
+
+    private static final int MAX_WORKERS = 1024;
+    private static final long MAX_DURATION_MILLIS = 3_600_000;
+
+    private final ConfigService configService;
+    private final MetricsService metricsService;
+
+    private volatile LoadTestReport report; // The running or most recently finished run, null before the first
+    private volatile Run current; // The run in progress, or null
+
+    public LoadTestService(ConfigService configService, MetricsService metricsService) {
+        this.configService = configService;
+        this.metricsService = metricsService;
+    }
+
+    /**
+     * Starts a load test in the background.
+     *
+     * @param overrides Settings that override the configured loadTest section, or null to use it as is.
+     * @return A report with only the settings filled in, marked as running.
+     * @throws IllegalStateException If a load test is already running.
+     * @throws IllegalArgumentException If the settings are out of range.
+     */
+    public synchronized LoadTestReport start(LoadTestSettings overrides) {
+        if (current != null) {
+            throw new IllegalStateException("A load test is already running.");
+        }
+        TicketConfig ticketConfig = configService.get(); // One snapshot for the whole run
+        LoadTestSettings settings = ticketConfig.getLoadTest().merge(overrides);
+        int workers = settings.getVendorCount() + settings.getCustomerCount();
+        if (settings.getVendorCount() < 0 || settings.getCustomerCount() < 0 || workers < 1 || workers > MAX_WORKERS) {
+            throw new IllegalArgumentException("A load test needs between 1 and " + MAX_WORKERS + " vendors and customers.");
+        }
+        if (settings.getDurationMillis() < 1 || settings.getDurationMillis() > MAX_DURATION_MILLIS) {
+            throw new IllegalArgumentException("Load test duration must be between 1 ms and one hour.");
+        }
+        if (settings.getTargetOpsPerSecond() < 0) {
+            throw new IllegalArgumentException("Target operations per second cannot be negative.");
+        }
+
+        TicketPool pool = new TicketPool(ticketConfig.getTotalTickets(), ticketConfig.getMaxTicketCapacity(),
+                ticketConfig.getInventoryMode(), ticketConfig.getInventoryStripes());
+        pool.setEventLogging(false); // Measure the pool, not the log
+        Run run = new Run(settings, pool);
+        run.meters = metricsService.bind(METRICS_EVENT, pool, () -> run.activeVendors, () -> run.activeCustomers);
+
+        LoadTestReport started = new LoadTestReport();
+        started.setSettings(settings);
+        started.setRunning(true);
+        started.setStartedAtMillis(System.currentTimeMillis());
+        this.report = started;
+        this.current = run;
+
+        Thread coordinator = new Thread(() -> execute(run, ticketConfig, started.getStartedAtMillis()), "load-test");
+        coordinator.setDaemon(true);
+        coordinator.start();
+        LoggingUtility.getLogger().log(Level.INFO, "Load test started: seed {0}, {1} vendors, {2} customers, {3} ops/s target, {4} ms.",
+                new Object[]{settings.getSeed(), settings.getVendorCount(), settings.getCustomerCount(),
+                        settings.getTargetOpsPerSecond(), settings.getDurationMillis()});
+        return started;
+    }
+
+    /**
+     * Returns the report of the running or most recent load test.
+     *
+     * @return The report, or null if no load test has been started.
+     */
+    public LoadTestReport getReport() {
+        return report;
+    }
+
+    /**
+     * Ends the running load test early. Its report covers the operations done so far.
+     *
+     * @return true if a load test was running.
+     */
+    public boolean stop() {
+        Run run = current;
+        if (run == null) {
+            return false;
+        }
+        run.stopped = true;
+        return true;
+    }
+
+    /**
+     * Waits for the running load test to finish.
+     *
+     * @param timeoutMillis How long to wait at most.
+     * @return The final report, or the running one if the timeout passed first.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    public LoadTestReport awaitCompletion(long timeoutMillis) throws InterruptedException {
+        Run run = current;
+        if (run != null) {
+            run.finished.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return report;
+    }
+
+    /**
+     * Ends a running load test when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    /**
+     * Runs the workers of one load test on the coordinator thread and publishes the final report.
+     */
+    private void execute(Run run, TicketConfig ticketConfig, long startedAtMillis) {
+        LoadTestSettings settings = run.settings;
+        int vendorBatch = Math.max(1, ticketConfig.getTicketReleaseRate());
+        int customerBatch = Math.max(1, ticketConfig.getCustomerRetrievalRate());
+        int workerCount = settings.getVendorCount() + settings.getCustomerCount();
+        long intervalNanos = settings.getTargetOpsPerSecond() > 0 ? Math.max(1, 1_000_000_000L * workerCount / settings.getTargetOpsPerSecond()) : 0;
+
+        SplittableRandom seeds = new SplittableRandom(settings.getSeed());
+        List<Worker> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < settings.getVendorCount(); i++) {
+            workers.add(new Worker(run, "[Load-Vendor-" + (i + 1) + "]", true, vendorBatch, intervalNanos, seeds.split()));
+        }
+        for (int i = 0; i < settings.getCustomerCount(); i++) {
+            workers.add(new Worker(run, "[Load-Customer-" + (i + 1) + "]", false, customerBatch, intervalNanos, seeds.split()));
+        }
+
+        List<Thread> threads = new ArrayList<>(workerCount);
+        for (Worker worker : workers) {
+            Thread thread = new Thread(worker, worker.name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+        run.activeVendors = settings.getVendorCount();
+        run.activeCustomers = settings.getCustomerCount();
+        long startNanos = System.nanoTime();
+        run.deadlineNanos = startNanos + settings.getDurationMillis() * 1_000_000;
+        run.startGate.countDown();
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                run.stopped = true;
+                Thread.currentThread().interrupt();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        run.activeVendors = 0;
+        run.activeCustomers = 0;
+
+        LoadTestReport finished = summarize(run, workers, elapsedNanos);
+        finished.setStartedAtMillis(startedAtMillis);
+        metricsService.unbind(run.meters);
+        synchronized (this) {
+            this.report = finished;
+            this.current = null;
+        }
+        run.finished.countDown();
+        LoggingUtility.getLogger().log(Level.INFO, "Load test finished: {0} operations in {1} ms ({2} ops/s), purchase p99 {3} us, consistent: {4}.",
+                new Object[]{finished.getOperations(), finished.getElapsedMillis(), String.format("%.0f", finished.getAchievedOpsPerSecond()),
+                        finished.getPurchaseLatency().getP99(), finished.isConsistent()});
+    }
+
+    private static LoadTestReport summarize(Run run, List<Worker> workers, long elapsedNanos) {
+        LatencyHistogram purchases = new LatencyHistogram();
+        LatencyHistogram adds = new LatencyHistogram();
+        LatencyHistogram returns = new LatencyHistogram();
+        LoadTestReport report = new LoadTestReport();
+        for (Worker worker : workers) {
+            purchases.add(worker.purchaseLatency);
+            adds.add(worker.addLatency);
+            returns.add(worker.returnLatency);
+            report.setPurchasesSucceeded(report.getPurchasesSucceeded() + worker.purchasesSucceeded);
+            report.setPurchasesFailed(report.getPurchasesFailed() + worker.purchasesFailed);
+            report.setTicketsPurchased(report.getTicketsPurchased() + worker.ticketsPurchased);
+            report.setAddsSucceeded(report.getAddsSucceeded() + worker.addsSucceeded);
+            report.setAddsRejected(report.getAddsRejected() + worker.addsRejected);
+            report.setReturns(report.getReturns() + worker.returns);
+        }
+
+        long operations = purchases.getCount() + adds.getCount() + returns.getCount();
+        report.setSettings(run.settings);
+        report.setElapsedMillis(elapsedNanos / 1_000_000);
+        report.setOperations(operations);
+        report.setAchievedOpsPerSecond(operations / Math.max(1e-9, elapsedNanos / 1e9));
+        report.setPurchaseLatency(new LatencySummary(purchases));
+        report.setAddLatency(new LatencySummary(adds));
+        report.setReturnLatency(new LatencySummary(returns));
+
+        TicketPool pool = run.pool;
+        report.setTotalAdded(pool.getTotalTicketsAddedByVendors());
+        report.setTotalPurchased(pool.getTotalTicketsPurchasedByCustomers());
+        report.setTotalReturned(pool.getTotalTicketsReturned());
+        report.setTicketsOnHold(pool.getTicketsOnHold());
+        report.setCurrentSize(pool.getCurrentSize());
+        report.setConsistent(report.getTotalAdded() - report.getTotalPurchased() + report.getTotalReturned() - report.getTicketsOnHold()
+                == report.getCurrentSize());
+        return report;
+    }
+
+    /**
+     * State shared by the coordinator and the workers of one load test.
+     */
+    private static final class Run {
+        private final LoadTestSettings settings;
+        private final TicketPool pool;
+        private final CountDownLatch startGate = new CountDownLatch(1); // Releases every worker at once
+        private final CountDownLatch finished = new CountDownLatch(1); // Opens when the final report is published
+        private volatile long deadlineNanos; // Set just before the gate opens
+        private volatile boolean stopped; // Set to end the run early
+        private volatile int activeVendors; // For the participant gauges
+        private volatile int activeCustomers;
+        private MetricsService.PoolMeters meters;
+
+        private Run(LoadTestSettings settings, TicketPool pool) {
+            this.settings = settings;
+            this.pool = pool;
+        }
+    }
+
+    /**
+     * One load generator thread. A vendor worker adds tickets; a customer worker buys tickets and,
+     * like a simulated {@link com.example.TicketingPlatformBackend.model.Customer}, cancels half of its
+     * purchases on its next operation. Counters and histograms are confined to the worker's thread
+     * until it has been joined.
+     */
+    private static final class Worker implements Runnable {
+        private final Run run;
+        private final String name;
+        private final boolean vendor;
+        private final int batchLimit; // Largest add or purchase
+        private final long intervalNanos; // Time between operations, 0 for no pacing
+        private final SplittableRandom random;
+        private final int[] ticketIds; // IDs of the last purchase, kept for its cancellation
+
+        private final LatencyHistogram purchaseLatency = new LatencyHistogram();
+        private final LatencyHistogram addLatency = new LatencyHistogram();
+        private final LatencyHistogram returnLatency = new LatencyHistogram();
+        private long purchasesSucceeded;
+        private long purchasesFailed;
+        private long ticketsPurchased;
+        private long addsSucceeded;
+        private long addsRejected;
+        private long returns;
+        private int pendingReturn; // Tickets from the last purchase to cancel on the next operation
+
+        private Worker(Run run, String name, boolean vendor, int batchLimit, long intervalNanos, SplittableRandom random) {
+            this.run = run;
+            this.name = name;
+            this.vendor = vendor;
+            this.batchLimit = batchLimit;
+            this.intervalNanos = intervalNanos;
+            this.random = random;
+            this.ticketIds = new int[this.batchLimit];
+        }
+
+        @Override
+        public void run() {
+            try {
+                run.startGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long deadline = run.deadlineNanos;
+            long due = System.nanoTime() + (intervalNanos > 0 ? random.nextLong(intervalNanos) : 0); // Stagger paced workers
+            while (!run.stopped) {
+                long start;
+                if (intervalNanos > 0) {
+                    start = due;
+                    due += intervalNanos;
+                    long wait;
+                    while ((wait = start - System.nanoTime()) > 0 && !run.stopped) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    start = System.nanoTime();
+                }
+                if (start - deadline >= 0) {
+                    break;
+                }
+                operate(start);
+            }
+        }
+
+        private void operate(long start) {
+            TicketPool pool = run.pool;
+            // Both values are drawn on every operation, so an outcome never shifts the draws of later operations
+            int quantity = random.nextInt(batchLimit) + 1;
+            boolean cancel = random.nextBoolean();
+            if (vendor) {
+                if (pool.addTickets(quantity, name)) {
+                    addsSucceeded++;
+                } else {
+                    addsRejected++;
+                }
+                addLatency.record(System.nanoTime() - start);
+            } else if (pendingReturn > 0) {
+                if (pool.adminRemoveTicket(ticketIds, 0, pendingReturn, name)) {
+                    returns++;
+                }
+                pendingReturn = 0;
+                returnLatency.record(System.nanoTime() - start);
+            } else {
+                boolean purchased = pool.removeTicket(quantity, name, ticketIds, 0);
+                purchaseLatency.record(System.nanoTime() - start);
+                if (purchased) {
+                    purchasesSucceeded++;
+                    ticketsPurchased += quantity;
+                    pendingReturn = cancel ? quantity : 0;
+                } else {
+                    purchasesFailed++;
+                }
+            }
+        }
+    }
+}
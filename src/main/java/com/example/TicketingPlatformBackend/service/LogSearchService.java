@@ -0,0 +1,265 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.EventLogEncoder;
+import com.example.TicketingPlatformBackend.model.EventLogEntry;
+import com.example.TicketingPlatformBackend.model.EventLogPage;
+import com.example.TicketingPlatformBackend.model.EventLogSegments;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LogSearchService filters the structured event log by actor, event type and time range.
+ * Segments are streamed through a fixed-size buffer one at a time, so memory use does not depend on
+ * the size of the log. Filters are checked against the raw bytes of each line; only matching lines
+ * are decoded. Segments last written before the start of the range are skipped without being read.
+ */
+@Service
+public class LogSearchService {
+
+    public static final int MAX_PAGE_SIZE = 1000; // Entries returned by one search at most
+    private static final int OFFSET_BITS = 40; // Low cursor bits hold the byte offset, the rest the segment number
+    private static final int READ_CHUNK = 64 * 1024; // Bytes read per positional read
+    private static final long ORDER_SLACK_MILLIS = 1000; // Producers can publish slightly out of timestamp order
+    private static final byte[] TS_PREFIX = {'{', '"', 't', 's', '"', ':'};
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LogSearchService() {
+        this(LoggingUtility.EVENT_LOG_DIRECTORY);
+    }
+
+    LogSearchService(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Returns the next page of records matching every given filter, oldest first.
+     *
+     * @param actor Only records for this vendor or customer, or null for all.
+     * @param type Only records of this type, or null for all.
+     * @param fromMillis Only records at or after this time (epoch milliseconds).
+     * @param toMillis Only records at or before this time (epoch milliseconds).
+     * @param cursor Where to continue: 0 for the start of the log, otherwise the previous page's next cursor.
+     * @param limit Maximum number of records to return.
+     * @return The matching records and the cursor for the next page.
+     */
+    public EventLogPage search(String actor, PoolEventType type, long fromMillis, long toMillis, long cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        if (fromMillis > toMillis || cursor < 0) {
+            throw new IllegalArgumentException("from must not be after to, and the cursor must not be negative.");
+        }
+        Query query = new Query(needle("\"actor\":", actor), type == null ? null : needle("\"type\":", type.name()),
+                fromMillis, toMillis, limit);
+        try {
+            return scan(query, cursor);
+        } catch (IOException e) {
+            System.err.println("Error searching the event log: " + e.getMessage());
+            return new EventLogPage(new ArrayList<>(), cursor, false);
+        }
+    }
+
+    private EventLogPage scan(Query query, long cursor) throws IOException {
+        long cursorSegment = cursor >>> OFFSET_BITS;
+        long cursorOffset = cursor & ((1L << OFFSET_BITS) - 1);
+        List<Path> segments = EventLogSegments.list(directory);
+        boolean reset = cursor != 0 && (segments.isEmpty() || EventLogSegments.sequenceOf(segments.get(0)) > cursorSegment);
+        long next = cursor;
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK);
+
+        for (Path segment : segments) {
+            long sequence = EventLogSegments.sequenceOf(segment);
+            if (sequence < cursorSegment) {
+                continue;
+            }
+            long start = sequence == cursorSegment ? cursorOffset : 0;
+            next = (sequence << OFFSET_BITS) | start;
+            try {
+                if (Files.getLastModifiedTime(segment).toMillis() < query.fromMillis) {
+                    next = (sequence << OFFSET_BITS) | Files.size(segment); // Everything in it is older than the range
+                    continue;
+                }
+                long end = scanSegment(segment, start, query, buffer);
+                next = (sequence << OFFSET_BITS) | end;
+            } catch (NoSuchFileException e) {
+                continue; // Deleted by rotation while we were searching
+            }
+            if (query.done) {
+                break;
+            }
+        }
+        return new EventLogPage(query.results, next, reset);
+    }
+
+    /**
+     * Scans complete lines from a position in one segment and returns the position after the last line examined.
+     */
+    private long scanSegment(Path segment, long start, Query query, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long position = start; // File position of the first byte in the buffer
+            buffer.clear();
+            while (true) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read <= 0 && buffer.position() == 0) {
+                    return position;
+                }
+                byte[] data = buffer.array();
+                int filled = buffer.position();
+                int lineStart = 0;
+                for (int i = 0; i < filled; i++) {
+                    if (data[i] != '\n') {
+                        continue;
+                    }
+                    examine(data, lineStart, i, query);
+                    lineStart = i + 1;
+                    if (query.done) {
+                        return position + lineStart;
+                    }
+                }
+                if (read <= 0) {
+                    return position + lineStart; // A partial last line is still being written; leave it for the next search
+                }
+                if (lineStart == 0 && filled == buffer.capacity()) {
+                    buffer = grow(buffer); // One line longer than the buffer
+                    continue;
+                }
+                // Keep the partial line at the front of the buffer and read on behind it
+                System.arraycopy(data, lineStart, data, 0, filled - lineStart);
+                buffer.position(filled - lineStart);
+                position += lineStart;
+            }
+        }
+    }
+
+    private void examine(byte[] data, int start, int end, Query query) throws IOException {
+        long timestamp = timestamp(data, start, end);
+        if (timestamp < 0) {
+            return; // Not a structured record
+        }
+        if (timestamp > query.toMillis && timestamp - ORDER_SLACK_MILLIS > query.toMillis) {
+            query.done = true; // Past the range; later lines are newer still
+            return;
+        }
+        if (timestamp < query.fromMillis || timestamp > query.toMillis
+                || !contains(data, start, end, query.type) || !contains(data, start, end, query.actor)) {
+            return;
+        }
+        query.results.add(decode(objectMapper.readTree(data, start, end - start)));
+        if (query.results.size() == query.limit) {
+            query.done = true;
+        }
+    }
+
+    private EventLogEntry decode(JsonNode node) {
+        JsonNode tickets = node.path("tickets");
+        int[] ticketIds = new int[tickets.size()];
+        for (int i = 0; i < ticketIds.length; i++) {
+            ticketIds[i] = tickets.get(i).asInt();
+        }
+        return new EventLogEntry(node.path("ts").asLong(), node.path("level").asText(),
+                PoolEventType.valueOf(node.path("type").asText()), textOrNull(node.path("actor")),
+                node.path("count").asInt(), node.path("poolSize").asInt(), node.path("capacity").asInt(), ticketIds,
+                textOrNull(node.path("message")));
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isTextual() ? node.asText() : null;
+    }
+
+    /**
+     * Reads the leading "ts" field without decoding the line, or returns -1 if the line does not start with one.
+     */
+    private static long timestamp(byte[] data, int start, int end) {
+        if (end - start <= TS_PREFIX.length) {
+            return -1;
+        }
+        for (int i = 0; i < TS_PREFIX.length; i++) {
+            if (data[start + i] != TS_PREFIX[i]) {
+                return -1;
+            }
+        }
+        long value = 0;
+        int i = start + TS_PREFIX.length;
+        for (; i < end && data[i] >= '0' && data[i] <= '9'; i++) {
+            value = value * 10 + (data[i] - '0');
+        }
+        return i == start + TS_PREFIX.length ? -1 : value;
+    }
+
+    /**
+     * Byte search for a filter. Quotes inside string values are escaped, so a needle starting
+     * with a field name can only match that field.
+     */
+    private static boolean contains(byte[] data, int start, int end, byte[] needle) {
+        if (needle == null) {
+            return true;
+        }
+        outer:
+        for (int i = start; i <= end - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (data[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Encodes a field filter exactly as the writer encodes the field.
+     */
+    private static byte[] needle(String field, String value) {
+        if (value == null) {
+            return null;
+        }
+        EventLogEncoder encoder = new EventLogEncoder(field.length() + value.length() * 3 + 8);
+        encoder.ascii(field);
+        encoder.string(value);
+        return encoder.toByteArray();
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    /**
+     * Filters and results of one search.
+     */
+    private static final class Query {
+        private final byte[] actor; // Encoded actor field, or null for any
+        private final byte[] type; // Encoded type field, or null for any
+        private final long fromMillis;
+        private final long toMillis;
+        private final int limit;
+        private final List<EventLogEntry> results = new ArrayList<>();
+        private boolean done; // The page is full or the range has been passed
+
+        private Query(byte[] actor, byte[] type, long fromMillis, long toMillis, int limit) {
+            this.actor = actor;
+            this.type = type;
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+            this.limit = limit;
+        }
+    }
+}
@@ -1,37 +1,78 @@
 package com.example.TicketingPlatformBackend.service;
 
+import com.example.TicketingPlatformBackend.model.LogPage;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * LoggingService handles all logging functionalities within the application. It provides methods to clear logs and retrieve log entries.
+ * Reads are served from an index of line start offsets that is extended incrementally, so a poll only
+ * scans bytes appended since the previous poll and then reads exactly the requested lines with positional NIO reads.
+ * Tail cursors carry the generation of the index they were issued by, so a cursor from before a clear,
+ * rotation or restart is recognised as stale even once the new log has grown past its line number.
  */
 
 @Service
 public class LoggingService {
 
-    private static final String LOG_FILE_PATH = "logs/application.log";  // Path where log files are stored
+    private static final int SCAN_CHUNK = 64 * 1024;  // Bytes scanned per read while extending the index
+    private static final int LINE_BITS = 40;  // Low cursor bits hold the line number, the rest the generation
+    private static final long LINE_MASK = (1L << LINE_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (63 - LINE_BITS)) - 1;
+
+    private final Path logFile;
+    private final ByteBuffer scanBuffer = ByteBuffer.allocateDirect(SCAN_CHUNK);  // Reused for index scans
+    private long[] lineStarts = new long[1024];  // Byte offset where each complete line starts
+    private int lineCount;  // Number of complete lines indexed
+    private long indexedBytes;  // File position up to which the index is built (just past the last newline)
+    private Object indexedFileKey;  // Identity of the indexed file, to detect rotation
+    private int generation = ThreadLocalRandom.current().nextInt(1, GENERATION_MASK);  // Changes whenever the index is rebuilt; random so restarts differ too
+
+    public LoggingService() {
+        this(LoggingUtility.LOG_FILE_PATH);
+    }
+
+    LoggingService(String logFilePath) {
+        this.logFile = Paths.get(logFilePath);
+    }
 
     /**
-     * Clears existing log entries by deleting and recreating log files. This can be called at startup or on demand.
+     * Clears existing log entries by truncating the log file. This can be called at startup or on demand.
+     * The file is truncated rather than deleted so the background log writer, which keeps it open in
+     * append mode, carries on writing into the same file.
      */
 
     public void clearLogs() {
-        File logFile = new File(LOG_FILE_PATH);
-        if (logFile.exists()) {
-            logFile.delete();  // Delete existing log file if it exists
-            try {
-                logFile.createNewFile();  // Optionally recreate a fresh log file
+        File file = logFile.toFile();
+        if (file.exists()) {
+            try (FileOutputStream truncate = new FileOutputStream(file)) {  // Opening without append truncates to zero length
+                truncate.getChannel().truncate(0);
             } catch (IOException e) {
-                System.err.println("Error creating new log file: " + e.getMessage());
+                System.err.println("Error clearing log file: " + e.getMessage());
             }
         }
+        synchronized (this) {
+            resetIndex();
+        }
     }
 
     /**
@@ -41,15 +82,137 @@ public class LoggingService {
      */
 
     public List<String> getLogs() {
-        List<String> logs = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(LOG_FILE_PATH))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                logs.add(line);  // Add each line read from log file into logs list
-            }
+        return getLogs(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a page of log lines by line number.
+     *
+     * @param offset Index of the first line to return.
+     * @param limit Maximum number of lines to return.
+     * @return The requested lines, oldest first.
+     */
+    public synchronized List<String> getLogs(int offset, int limit) {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            refreshIndex(channel);
+            return readLines(channel, offset, limit);
+        } catch (NoSuchFileException e) {
+            resetIndex();
+            return Collections.emptyList();
+        } catch (IOException e) {
+            System.err.println("Error reading log file: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the lines appended after a cursor. A poll costs only the new lines, never the whole file.
+     *
+     * @param since The cursor returned by the previous poll (0 for the first poll).
+     * @param limit Maximum number of lines to return.
+     * @return The new lines and the cursor to pass next time; reset if the cursor belongs to an earlier log.
+     */
+    public synchronized LogPage tail(long since, int limit) {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            refreshIndex(channel);
+            long line = since & LINE_MASK;
+            boolean reset = since != 0 && ((since >>> LINE_BITS) != generation || line > lineCount);  // Cleared, rotated or restarted under the caller
+            int from = reset ? 0 : (int) line;
+            List<String> lines = readLines(channel, from, limit);
+            return new LogPage(lines, cursorAt(from + lines.size()), reset);
+        } catch (NoSuchFileException e) {
+            resetIndex();
+            return new LogPage(Collections.emptyList(), cursorAt(0), since != 0);
         } catch (IOException e) {
             System.err.println("Error reading log file: " + e.getMessage());
+            return new LogPage(Collections.emptyList(), since, false);
+        }
+    }
+
+    /**
+     * Returns the number of complete lines currently in the log.
+     *
+     * @return The indexed line count.
+     */
+    public synchronized int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the tail cursor for a line number in the current log.
+     */
+    synchronized long cursorAt(int line) {
+        return ((long) generation << LINE_BITS) | line;
+    }
+
+    /**
+     * Extends the line index with bytes appended since the last call, or rebuilds it if the file shrank or was replaced.
+     */
+    private void refreshIndex(FileChannel channel) throws IOException {
+        Object fileKey = Files.readAttributes(logFile, BasicFileAttributes.class).fileKey();
+        long size = channel.size();
+        if (size < indexedBytes || !Objects.equals(fileKey, indexedFileKey)) {
+            resetIndex();
+            indexedFileKey = fileKey;
+        }
+
+        long position = indexedBytes;
+        while (position < size) {
+            scanBuffer.clear();
+            int read = channel.read(scanBuffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scanBuffer.get(i) == '\n') {
+                    addLineStart(position + i + 1);  // The next line starts right after the newline
+                }
+            }
+            position += read;
+        }
+        indexedBytes = lineStarts[lineCount];  // Re-scan any trailing partial line next time
+    }
+
+    private List<String> readLines(FileChannel channel, int offset, int limit) throws IOException {
+        int from = Math.max(0, Math.min(offset, lineCount));
+        int to = (int) Math.min(lineCount, (long) from + Math.max(0, limit));
+        if (from == to) {
+            return Collections.emptyList();
+        }
+
+        long start = lineStarts[from];
+        ByteBuffer bytes = ByteBuffer.allocate((int) (lineStarts[to] - start));
+        while (bytes.hasRemaining() && channel.read(bytes, start + bytes.position()) > 0) {
+            // Positional reads never move a shared file pointer
+        }
+
+        List<String> lines = new ArrayList<>(to - from);
+        byte[] data = bytes.array();
+        for (int line = from; line < to; line++) {
+            int lineStart = (int) (lineStarts[line] - start);
+            int lineEnd = (int) (lineStarts[line + 1] - start) - 1;  // Drop the newline
+            if (lineEnd > lineStart && data[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            lines.add(new String(data, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+        }
+        return lines;
+    }
+
+    private void addLineStart(long offset) {
+        if (lineCount + 2 > lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+        }
+        lineStarts[++lineCount] = offset;
+    }
+
+    private void resetIndex() {
+        if (indexedFileKey != null || lineCount > 0) {
+            generation = generation == GENERATION_MASK ? 1 : generation + 1;  // Outstanding cursors are now stale
         }
-        return logs;  // Return collected logs as a list of strings
+        lineCount = 0;
+        lineStarts[0] = 0;
+        indexedBytes = 0;
+        indexedFileKey = null;
     }
-}
\ No newline at end of file
+}
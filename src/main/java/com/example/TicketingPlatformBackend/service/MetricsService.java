@@ -0,0 +1,246 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.example.TicketingPlatformBackend.model.PoolJournal;
+import com.example.TicketingPlatformBackend.model.PoolLock;
+import com.example.TicketingPlatformBackend.model.PoolMetrics;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * MetricsService publishes TicketPool activity as Micrometer meters, served by Actuator at
+ * /actuator/metrics and /actuator/prometheus.
+ * <p>
+ * Every meter is created when a pool is bound and looked up by array index afterwards, so an operation
+ * costs one timer update. Ticket totals, the fill level and participant counts are read from the pool
+ * and its owner only when the registry is scraped. Timers publish fixed-bucket histograms, so p99
+ * latency can be computed and alerted on across instances.
+ * <p>
+ * A histogram is dozens of series per timer, too many to repeat for thousands of events. Only the default
+ * pool therefore gets timers of its own. Every other pool counts its operations by outcome in
+ * ticket.pool.outcomes and times them in one set of timers shared by all of them, tagged with the event
+ * {@value #OTHER_EVENTS}. Setting ticketing.metrics.event-histograms gives every pool its own timers again.
+ * <p>
+ * Meters are tagged with the event they belong to; the single-pool system uses the event tag "default".
+ * Vendor and customer names are deliberately not tags, so the number of time series stays fixed.
+ */
+@Service
+public class MetricsService {
+
+    public static final String DEFAULT_EVENT = "default"; // Event tag of the pool run by TicketingService
+    public static final String OTHER_EVENTS = "all_other"; // Event tag of the timers shared by pools without their own
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(500); // Histogram range; outliers land in the end buckets
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(5);
+
+    private final MeterRegistry registry;
+    private final boolean eventHistograms; // Whether every pool gets timers of its own, not just the default one
+
+    public MetricsService(MeterRegistry registry) {
+        this(registry, false);
+    }
+
+    @Autowired
+    public MetricsService(MeterRegistry registry, @Value("${ticketing.metrics.event-histograms:false}") boolean eventHistograms) {
+        this.registry = registry;
+        this.eventHistograms = eventHistograms;
+    }
+
+    /**
+     * Publishes a pool's meters and starts timing its operations and locks.
+     *
+     * @param event The event tag.
+     * @param pool The pool to instrument.
+     * @param activeVendors Reads how many vendors are currently running for this pool.
+     * @param activeCustomers Reads how many customers are currently running for this pool.
+     * @return The binding, to be passed to {@link #unbind} when the pool is discarded.
+     */
+    public PoolMeters bind(String event, TicketPool pool, IntSupplier activeVendors, IntSupplier activeCustomers) {
+        PoolMeters meters = new PoolMeters(event, pool, activeVendors, activeCustomers, eventHistograms || DEFAULT_EVENT.equals(event));
+        pool.setMetrics(meters);
+        return meters;
+    }
+
+    /**
+     * Stops timing a pool and removes its meters from the registry.
+     *
+     * @param meters The binding returned by {@link #bind}, or null.
+     */
+    public void unbind(PoolMeters meters) {
+        if (meters == null) {
+            return;
+        }
+        meters.pool.setMetrics(PoolMetrics.NONE);
+        meters.meters.forEach(registry::remove);
+    }
+
+    /**
+     * Publishes a gauge that is not tied to a single pool, such as the number of running events.
+     *
+     * @param name The meter name.
+     * @param description What the gauge measures.
+     * @param value Reads the current value.
+     */
+    public void gauge(String name, String description, IntSupplier value) {
+        Gauge.builder(name, value, IntSupplier::getAsInt).description(description).strongReference(true).register(registry);
+    }
+
+    /**
+     * The meters of one bound pool. Receives the pool's timings on the threads that do the work.
+     */
+    public final class PoolMeters implements PoolMetrics {
+        private final TicketPool pool;
+        private final List<Meter> meters = new ArrayList<>(); // Everything registered for this pool, for unbind
+        private final Timer[] operations = new Timer[PoolEventType.values().length]; // By event type, null if untimed
+        private final Counter[] outcomes; // By event type, null if untimed; null when the pool has timers of its own
+        private final Timer[] lockWaits = new Timer[PoolLock.values().length]; // By lock
+        private final Timer[] lockHolds = new Timer[PoolLock.values().length];
+
+        private PoolMeters(String event, TicketPool pool, IntSupplier activeVendors, IntSupplier activeCustomers, boolean ownTimers) {
+            this.pool = pool;
+            this.outcomes = ownTimers ? null : new Counter[PoolEventType.values().length];
+            Tags tags = Tags.of("event", event);
+            Tags timerTags = Tags.of("event", ownTimers ? event : OTHER_EVENTS);
+
+            for (PoolEventType type : PoolEventType.values()) {
+                String[] operation = operationTags(type);
+                if (operation == null) {
+                    continue;
+                }
+                Tags operationTags = Tags.of("operation", operation[0], "outcome", operation[1]);
+                operations[type.ordinal()] = timer("ticket.pool.operations", "Time taken by pool operations, by outcome",
+                        timerTags.and(operationTags), ownTimers);
+                if (!ownTimers) {
+                    Counter counter = Counter.builder("ticket.pool.outcomes").description("Pool operations, by outcome")
+                            .tags(tags.and(operationTags)).register(registry);
+                    meters.add(counter);
+                    outcomes[type.ordinal()] = counter;
+                }
+            }
+            for (PoolLock lock : PoolLock.values()) {
+                Tags lockTags = timerTags.and("lock", lock.name().toLowerCase());
+                lockWaits[lock.ordinal()] = timer("ticket.pool.lock.wait", "Time spent waiting for a pool lock", lockTags, ownTimers);
+                lockHolds[lock.ordinal()] = timer("ticket.pool.lock.hold", "Time a pool lock was held", lockTags, ownTimers);
+            }
+
+            meters.add(FunctionCounter.builder("ticket.pool.tickets", pool, TicketPool::getTotalTicketsAddedByVendors)
+                    .description("Tickets moved through the pool").tags(tags.and("flow", "added")).register(registry));
+            meters.add(FunctionCounter.builder("ticket.pool.tickets", pool, TicketPool::getTotalTicketsPurchasedByCustomers)
+                    .description("Tickets moved through the pool").tags(tags.and("flow", "purchased")).register(registry));
+            meters.add(FunctionCounter.builder("ticket.pool.tickets", pool, TicketPool::getTotalTicketsReturned)
+                    .description("Tickets moved through the pool").tags(tags.and("flow", "returned")).register(registry));
+
+            meters.add(FunctionCounter.builder("ticket.pool.journal.dropped", pool, MetricsService::droppedJournalRecords)
+                    .description("Journal records lost because the journal had stopped").tags(tags).register(registry));
+            meters.add(Gauge.builder("ticket.pool.journal.failed", pool, MetricsService::journalFailed)
+                    .description("1 while the pool's journal has failed and its changes are not durable").tags(tags).strongReference(true).register(registry));
+
+            meters.add(Gauge.builder("ticket.pool.available", pool, TicketPool::getCurrentSize)
+                    .description("Tickets currently available").tags(tags).strongReference(true).register(registry));
+            meters.add(Gauge.builder("ticket.pool.capacity", pool, TicketPool::getMaxCapacity)
+                    .description("Maximum tickets the pool may hold").tags(tags).strongReference(true).register(registry));
+            meters.add(Gauge.builder("ticket.pool.fill", pool, MetricsService::fillRatio)
+                    .description("Available tickets as a fraction of capacity").tags(tags).strongReference(true).register(registry));
+
+            meters.add(Gauge.builder("ticket.participants.active", activeVendors, IntSupplier::getAsInt)
+                    .description("Vendors and customers currently running").tags(tags.and("role", "vendor")).strongReference(true).register(registry));
+            meters.add(Gauge.builder("ticket.participants.active", activeCustomers, IntSupplier::getAsInt)
+                    .description("Vendors and customers currently running").tags(tags.and("role", "customer")).strongReference(true).register(registry));
+        }
+
+        /**
+         * Registers a timer, or finds the shared one already registered. Only a pool's own timers are removed on unbind.
+         */
+        private Timer timer(String name, String description, Tags tags, boolean own) {
+            Timer timer = Timer.builder(name)
+                    .description(description)
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(registry);
+            if (own) {
+                meters.add(timer);
+            }
+            return timer;
+        }
+
+        @Override
+        public void operationTimed(PoolEventType type, long elapsedNanos) {
+            Timer timer = operations[type.ordinal()];
+            if (timer != null) {
+                timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+                if (outcomes != null) {
+                    outcomes[type.ordinal()].increment();
+                }
+            }
+        }
+
+        @Override
+        public void lockTimed(PoolLock lock, long waitNanos, long holdNanos) {
+            lockWaits[lock.ordinal()].record(waitNanos, TimeUnit.NANOSECONDS);
+            lockHolds[lock.ordinal()].record(holdNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Maps a pool event onto the operation and outcome tags of its timer.
+     *
+     * @return The operation and outcome, or null for events that are not pool operations.
+     */
+    private static String[] operationTags(PoolEventType type) {
+        return switch (type) {
+            case TICKETS_ADDED -> new String[]{"add", "success"};
+            case ADD_REJECTED -> new String[]{"add", "capacity"};
+            case TICKETS_PURCHASED -> new String[]{"purchase", "success"};
+            case PURCHASE_REJECTED_SOLD_OUT -> new String[]{"purchase", "sold_out"};
+            case PURCHASE_REJECTED_INSUFFICIENT -> new String[]{"purchase", "insufficient"};
+            case PURCHASE_REJECTED_RATE_LIMITED -> new String[]{"purchase", "rate_limited"};
+            case PURCHASE_REJECTED_LIMIT_REACHED -> new String[]{"purchase", "limit_reached"};
+            case PURCHASE_REJECTED_TOO_MANY_CUSTOMERS -> new String[]{"purchase", "too_many_customers"};
+            case TICKETS_RETURNED -> new String[]{"return", "success"};
+            case RETURN_REJECTED_CAPACITY -> new String[]{"return", "capacity"};
+            case RETURN_REJECTED_NOT_SOLD -> new String[]{"return", "not_sold"};
+            case TICKETS_HELD -> new String[]{"hold", "success"};
+            case HOLD_REJECTED_SOLD_OUT -> new String[]{"hold", "sold_out"};
+            case HOLD_REJECTED_INSUFFICIENT -> new String[]{"hold", "insufficient"};
+            case HOLD_REJECTED_RATE_LIMITED -> new String[]{"hold", "rate_limited"};
+            case HOLD_REJECTED_LIMIT_REACHED -> new String[]{"hold", "limit_reached"};
+            case HOLD_REJECTED_TOO_MANY_CUSTOMERS -> new String[]{"hold", "too_many_customers"};
+            case HOLD_CONFIRMED -> new String[]{"hold_confirm", "success"};
+            case HOLD_RELEASED -> new String[]{"hold_release", "released"};
+            case HOLD_EXPIRED -> new String[]{"hold_release", "expired"};
+            case MESSAGE -> null;
+        };
+    }
+
+    private static double droppedJournalRecords(TicketPool pool) {
+        PoolJournal journal = pool.getJournal();
+        return journal == null ? 0 : journal.getDroppedRecords();
+    }
+
+    private static double journalFailed(TicketPool pool) {
+        PoolJournal journal = pool.getJournal();
+        return journal != null && journal.isFailed() ? 1 : 0;
+    }
+
+    private static double fillRatio(TicketPool pool) {
+        int capacity = pool.getMaxCapacity();
+        return capacity > 0 ? (double) pool.getCurrentSize() / capacity : 0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.ShutdownProgress;
+import com.example.TicketingPlatformBackend.model.ShutdownState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * ParticipantShutdown stops one run's vendors and customers within a deadline.
+ * <p>
+ * Every participant is told to stop before any is waited for: scheduled ticks are cancelled, all
+ * participant threads are interrupted and the tick scheduler is shut down, so they wind down in
+ * parallel and the whole stop takes about as long as the slowest participant rather than the sum of
+ * all of them. Threads are then joined against the one shared deadline. Any still running when it
+ * passes are logged and left to exit on their own, since they have been interrupted.
+ * Progress can be read from any thread while the stop runs.
+ */
+class ParticipantShutdown {
+
+    private final List<Thread> threads; // Participant threads of the run
+    private final List<ScheduledFuture<?>> tasks; // Participant schedules on the tick scheduler
+    private final TickScheduler scheduler; // The run's tick scheduler, or null
+    private final long deadlineMillis; // Longest the stop waits for participants
+    private final AtomicInteger stopped = new AtomicInteger(); // Participants confirmed stopped
+    private volatile ShutdownState state = ShutdownState.STOPPING;
+    private volatile long startedNanos; // Set when the stop begins
+    private volatile long elapsedNanos = -1; // Total duration once finished
+
+    ParticipantShutdown(List<Thread> threads, List<ScheduledFuture<?>> tasks, TickScheduler scheduler, long deadlineMillis) {
+        this.threads = threads;
+        this.tasks = tasks;
+        this.scheduler = scheduler;
+        this.deadlineMillis = deadlineMillis;
+        this.startedNanos = System.nanoTime();
+    }
+
+    /**
+     * Stops every participant, waiting at most until the deadline.
+     *
+     * @return The final progress.
+     */
+    ShutdownProgress run() {
+        startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        tasks.forEach(task -> task.cancel(false));
+        threads.forEach(Thread::interrupt); // Everyone starts stopping at once
+        if (scheduler != null) {
+            scheduler.shutdown(Math.max(1, remainingMillis(deadlineNanos)));
+        }
+        stopped.addAndGet(tasks.size()); // Cancelled, and the scheduler that ran them has stopped
+
+        List<String> stillRunning = new ArrayList<>();
+        for (Thread thread : threads) {
+            try {
+                long remaining = remainingMillis(deadlineNanos);
+                if (remaining > 0) {
+                    thread.join(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // Stop waiting, but still account for every thread below
+            }
+            if (thread.isAlive()) {
+                stillRunning.add(thread.getName());
+            } else {
+                stopped.incrementAndGet();
+            }
+        }
+
+        elapsedNanos = System.nanoTime() - startedNanos;
+        if (stillRunning.isEmpty()) {
+            state = ShutdownState.STOPPED;
+        } else {
+            state = ShutdownState.TIMED_OUT;
+            LoggingUtility.getLogger().log(Level.WARNING, "{0} participants did not stop within {1} ms: {2}",
+                    new Object[]{stillRunning.size(), deadlineMillis, String.join(", ", stillRunning)});
+        }
+        return getProgress();
+    }
+
+    /**
+     * Returns how far the stop has got.
+     *
+     * @return The progress.
+     */
+    ShutdownProgress getProgress() {
+        long elapsed = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedNanos;
+        return new ShutdownProgress(state, threads.size() + tasks.size(), stopped.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed), deadlineMillis);
+    }
+
+    private static long remainingMillis(long deadlineNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+}
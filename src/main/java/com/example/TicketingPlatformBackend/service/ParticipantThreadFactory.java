@@ -0,0 +1,56 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.ExecutionMode;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+
+/**
+ * ParticipantThreadFactory creates the threads that run vendors and customers for a given {@link ExecutionMode}.
+ * The project is compiled for Java 17, so the virtual thread builder is looked up reflectively and
+ * only used when the application actually runs on Java 21 or newer.
+ */
+public final class ParticipantThreadFactory {
+
+    private static final ThreadFactory VIRTUAL_THREADS = lookupVirtualThreadFactory(); // Null when the runtime has no virtual threads
+
+    private ParticipantThreadFactory() {
+    }
+
+    /**
+     * Returns a thread factory for the requested execution mode.
+     *
+     * @param mode The configured execution mode.
+     * @return A factory producing virtual threads in VIRTUAL mode when supported, platform threads otherwise.
+     */
+    public static ThreadFactory forMode(ExecutionMode mode) {
+        if (mode == ExecutionMode.VIRTUAL) {
+            if (VIRTUAL_THREADS != null) {
+                return VIRTUAL_THREADS;
+            }
+            LoggingUtility.getLogger().log(Level.WARNING, "Virtual threads need Java 21+ (running {0}). Using platform threads.",
+                    Runtime.version());
+        }
+        return Thread::new;
+    }
+
+    /**
+     * Reports which execution mode will really be used for a requested mode.
+     *
+     * @param mode The configured execution mode.
+     * @return The effective execution mode on this runtime.
+     */
+    public static ExecutionMode effectiveMode(ExecutionMode mode) {
+        return mode == ExecutionMode.VIRTUAL && VIRTUAL_THREADS != null ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM;
+    }
+
+    private static ThreadFactory lookupVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null); // Thread.ofVirtual()
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder); // builder.factory()
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.PoolJournal;
+import com.example.TicketingPlatformBackend.model.PoolState;
+import com.example.TicketingPlatformBackend.model.PurchaseLimiter;
+import com.example.TicketingPlatformBackend.model.SeatLayout;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Level;
+
+/**
+ * PoolFactory builds the TicketPool for a run from its configuration, shared by the single-pool
+ * TicketingService and every event in the EventRegistry.
+ */
+final class PoolFactory {
+
+    private PoolFactory() {
+    }
+
+    /**
+     * Builds a pool. With journaling enabled, a pool left behind by an earlier run is recovered
+     * from its latest snapshot and journal instead of starting again from the initial tickets,
+     * and the returned pool keeps writing to a journal in the same directory.
+     *
+     * @param config The configuration for the run.
+     * @param journalDirectory Where this pool's journal lives; ignored unless journaling is enabled.
+     * @return The new or recovered pool.
+     * @throws IOException If the journal cannot be read or opened.
+     */
+    static TicketPool create(TicketConfig config, Path journalDirectory) throws IOException {
+        SeatLayout seatLayout = new SeatLayout(config.getSeatsPerRow(), config.getRowsPerSection());
+        if (!config.isJournalEnabled()) {
+            TicketPool pool = new TicketPool(config.getTotalTickets(), config.getMaxTicketCapacity(),
+                    config.getInventoryMode(), config.getInventoryStripes(), seatLayout);
+            applyLimits(pool, config);
+            return pool;
+        }
+
+        long recoveryStart = System.nanoTime();
+        PoolState state = PoolJournal.recover(journalDirectory);
+        TicketPool pool;
+        if (state.isEmpty()) {
+            pool = new TicketPool(config.getTotalTickets(), config.getMaxTicketCapacity(),
+                    config.getInventoryMode(), config.getInventoryStripes(), seatLayout);
+        } else {
+            pool = new TicketPool(state, config.getMaxTicketCapacity(),
+                    config.getInventoryMode(), config.getInventoryStripes(), seatLayout);
+            LoggingUtility.getLogger().log(Level.INFO, "Recovered pool state from {0} in {1} ms.",
+                    new Object[]{journalDirectory, (System.nanoTime() - recoveryStart) / 1_000_000});
+        }
+        applyLimits(pool, config);
+        pool.setJournal(new PoolJournal(journalDirectory, state, config.getJournalSnapshotIntervalMillis()));
+        return pool;
+    }
+
+    /**
+     * Applies the settings that are not part of the pool's recovered state. Per-customer limits start
+     * afresh with every pool, including a recovered one. The limit table is sized for the pool rather
+     * than for maxTrackedCustomers alone, so a small event does not carry a table for a million buyers.
+     */
+    private static void applyLimits(TicketPool pool, TicketConfig config) {
+        pool.setLowWaterMark(config.getLowWaterMark());
+        if (config.getMaxTicketsPerCustomer() > 0 || config.getPurchaseAttemptsPerSecond() > 0) {
+            int trackedCustomers = Math.min(config.getMaxTrackedCustomers(), pool.getTicketCapacity());
+            pool.setPurchaseLimiter(new PurchaseLimiter(config.getMaxTicketsPerCustomer(),
+                    config.getPurchaseAttemptsPerSecond(), trackedCustomers));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.ParticipantTotals;
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.example.TicketingPlatformBackend.model.PoolSnapshot;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import com.example.TicketingPlatformBackend.model.TicketPoolListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PoolStatusPublisher serves status snapshots of one pool to any number of pollers without locking.
+ * <p>
+ * As a pool listener it keeps per-vendor and per-customer totals in striped counters. Snapshots are
+ * copy-on-write: the current one, already serialized to JSON, sits in a volatile field together with its
+ * version. A reader that finds it older than the refresh interval tries to become the single publisher
+ * with one compare-and-set; the winner reads the counters, builds and serializes the next snapshot and
+ * swaps it in, while every other reader keeps returning the previous one. A poll is therefore a volatile
+ * read, and at most one snapshot is built per refresh interval however many clients poll. When
+ * nobody polls, nothing is built.
+ * <p>
+ * Pool totals are read twice and the read is retried while they change, so a snapshot normally comes
+ * from one quiet moment. Tickets moved by operations still in progress are reported as in flight.
+ */
+public class PoolStatusPublisher implements TicketPoolListener {
+
+    public static final long DEFAULT_REFRESH_MILLIS = 100; // Maximum snapshot age served to pollers
+
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L; // Rates are averaged over at least this long
+    private static final int COLLECT_ATTEMPTS = 4; // Reads of the pool counters before settling for a moving value
+    private static final int MAX_TRACKED_PARTICIPANTS = 10_000; // Further names are counted under OTHER_PARTICIPANTS
+    private static final String OTHER_PARTICIPANTS = "(other)";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final TicketPool pool;
+    private final long refreshNanos;
+    private final ConcurrentHashMap<String, ParticipantCounters> participants = new ConcurrentHashMap<>();
+    private final AtomicBoolean publishing = new AtomicBoolean(); // Held by the one reader building the next snapshot
+    private volatile Published published; // The current snapshot, null until the first poll
+
+    // Publisher state, only touched by the reader holding the publishing flag
+    private long version;
+    private long rateBaseNanos;
+    private long[] rateBase; // Pool totals at the start of the rate window
+    private Map<String, long[]> participantRateBase = new HashMap<>();
+    private double[] rates = new double[3]; // Added, purchased and returned per second over the last window
+    private Map<String, double[]> participantRates = new HashMap<>();
+
+    public PoolStatusPublisher(TicketPool pool) {
+        this(pool, DEFAULT_REFRESH_MILLIS);
+    }
+
+    PoolStatusPublisher(TicketPool pool, long refreshMillis) {
+        this.pool = pool;
+        this.refreshNanos = refreshMillis * 1_000_000;
+    }
+
+    @Override
+    public void onPoolEvent(PoolEventType type, String actor, int count, int poolSize, int capacity) {
+        switch (type) {
+            case TICKETS_ADDED -> counters(actor).added.add(count);
+            case TICKETS_PURCHASED, HOLD_CONFIRMED -> counters(actor).purchased.add(count);
+            case TICKETS_RETURNED -> counters(actor).returned.add(count);
+            case ADD_REJECTED, PURCHASE_REJECTED_SOLD_OUT, PURCHASE_REJECTED_INSUFFICIENT, PURCHASE_REJECTED_RATE_LIMITED,
+                 PURCHASE_REJECTED_LIMIT_REACHED, PURCHASE_REJECTED_TOO_MANY_CUSTOMERS, HOLD_REJECTED_SOLD_OUT,
+                 HOLD_REJECTED_INSUFFICIENT, HOLD_REJECTED_RATE_LIMITED, HOLD_REJECTED_LIMIT_REACHED,
+                 HOLD_REJECTED_TOO_MANY_CUSTOMERS, RETURN_REJECTED_CAPACITY, RETURN_REJECTED_NOT_SOLD -> counters(actor).rejected.increment();
+            default -> {
+                // Holds that are only taken, released or expired do not change anyone's totals
+            }
+        }
+    }
+
+    /**
+     * Returns the latest snapshot, publishing a new one first if it is older than the refresh interval.
+     *
+     * @return The snapshot.
+     */
+    public PoolSnapshot getSnapshot() {
+        return current().snapshot;
+    }
+
+    /**
+     * Returns the latest snapshot together with its JSON form, so polls do not serialize anything and
+     * the body and its version always belong together.
+     *
+     * @return The published snapshot.
+     */
+    public Published getPublished() {
+        return current();
+    }
+
+    private Published current() {
+        Published latest = published;
+        if ((latest == null || System.nanoTime() - latest.publishedNanos >= refreshNanos) && publishing.compareAndSet(false, true)) {
+            try {
+                latest = published;
+                if (latest == null || System.nanoTime() - latest.publishedNanos >= refreshNanos) { // Not refreshed while we raced
+                    latest = publish();
+                    published = latest;
+                }
+            } finally {
+                publishing.set(false);
+            }
+        }
+        while (latest == null) { // The very first snapshot is still being built by another reader
+            Thread.onSpinWait();
+            latest = published;
+        }
+        return latest;
+    }
+
+    private Published publish() {
+        long[] totals = collectTotals();
+        long now = System.nanoTime();
+
+        List<ParticipantTotals> participantTotals = new ArrayList<>(participants.size());
+        Map<String, long[]> participantNow = new HashMap<>(participants.size() * 2);
+        participants.forEach((name, counters) -> participantNow.put(name,
+                new long[]{counters.added.sum(), counters.purchased.sum(), counters.returned.sum(), counters.rejected.sum()}));
+
+        if (rateBase == null) {
+            rateBase = totals;
+            rateBaseNanos = now;
+            participantRateBase = participantNow;
+        } else if (now - rateBaseNanos >= RATE_WINDOW_NANOS) {
+            double seconds = (now - rateBaseNanos) / 1e9;
+            rates = new double[]{(totals[0] - rateBase[0]) / seconds, (totals[1] - rateBase[1]) / seconds, (totals[2] - rateBase[2]) / seconds};
+            Map<String, double[]> updated = new HashMap<>(participantNow.size() * 2);
+            participantNow.forEach((name, values) -> {
+                long[] base = participantRateBase.getOrDefault(name, new long[4]);
+                updated.put(name, new double[]{(values[0] - base[0]) / seconds, (values[1] - base[1]) / seconds});
+            });
+            participantRates = updated;
+            rateBase = totals;
+            rateBaseNanos = now;
+            participantRateBase = participantNow;
+        }
+
+        double[] noRate = new double[2];
+        participantNow.forEach((name, values) -> {
+            double[] rate = participantRates.getOrDefault(name, noRate);
+            participantTotals.add(new ParticipantTotals(name, values[0], values[1], values[2], values[3], rate[0], rate[1]));
+        });
+        participantTotals.sort(Comparator.comparing(ParticipantTotals::getName));
+
+        PoolSnapshot snapshot = new PoolSnapshot(++version, System.currentTimeMillis(), (int) totals[4], pool.getMaxCapacity(),
+                totals[0], totals[1], totals[2], totals[3], rates[0], rates[1], rates[2], participantTotals);
+        try {
+            return new Published(snapshot, OBJECT_MAPPER.writeValueAsBytes(snapshot), now);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Could not serialize the pool snapshot.", e);
+        }
+    }
+
+    /**
+     * Reads the pool totals, the hold count and the current size, retrying while the totals move underneath.
+     *
+     * @return Added, purchased, returned, on hold and current size.
+     */
+    private long[] collectTotals() {
+        long[] totals = readTotals();
+        for (int attempt = 1; attempt < COLLECT_ATTEMPTS; attempt++) {
+            long[] again = readTotals();
+            if (Arrays.equals(totals, again)) {
+                break;
+            }
+            totals = again;
+        }
+        return totals;
+    }
+
+    private long[] readTotals() {
+        return new long[]{pool.getTotalTicketsAddedByVendors(), pool.getTotalTicketsPurchasedByCustomers(),
+                pool.getTotalTicketsReturned(), pool.getTicketsOnHold(), pool.getCurrentSize()};
+    }
+
+    private ParticipantCounters counters(String actor) {
+        String name = actor != null ? actor : OTHER_PARTICIPANTS;
+        ParticipantCounters counters = participants.get(name);
+        if (counters != null) {
+            return counters;
+        }
+        if (participants.size() >= MAX_TRACKED_PARTICIPANTS) {
+            name = OTHER_PARTICIPANTS; // Arbitrary API buyer names must not grow the map without bound
+        }
+        return participants.computeIfAbsent(name, key -> new ParticipantCounters());
+    }
+
+    /**
+     * Running totals of one vendor or customer, updated concurrently from the purchase path.
+     */
+    private static final class ParticipantCounters {
+        private final LongAdder added = new LongAdder();
+        private final LongAdder purchased = new LongAdder();
+        private final LongAdder returned = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+
+    /**
+     * A published snapshot with its JSON form and the time it was built.
+     */
+    public static final class Published {
+        private final PoolSnapshot snapshot;
+        private final byte[] json;
+        private final long publishedNanos;
+
+        private Published(PoolSnapshot snapshot, byte[] json, long publishedNanos) {
+            this.snapshot = snapshot;
+            this.json = json;
+            this.publishedNanos = publishedNanos;
+        }
+
+        public PoolSnapshot getSnapshot() {
+            return snapshot;
+        }
+
+        /**
+         * @return The snapshot serialized to JSON. Shared by every reader, so it must not be modified.
+         */
+        public byte[] getJson() {
+            return json;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.Participant;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * TickScheduler drives any number of participants from a small fixed pool of threads.
+ * Each participant is scheduled at its own tick interval, so the thread count stays constant
+ * no matter how many vendors and customers are running and sub-second intervals are honored.
+ */
+public class TickScheduler {
+
+    private final ScheduledThreadPoolExecutor executor; // Fixed pool that runs every tick
+
+    /**
+     * Creates a scheduler with the given number of threads.
+     *
+     * @param threads The pool size, or 0 for one thread per available processor.
+     */
+    public TickScheduler(int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "tick-scheduler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true); // Canceled participants leave the queue immediately
+    }
+
+    /**
+     * Starts ticking a participant at its own interval. The first tick is jittered across one
+     * interval so thousands of participants do not all fire on the same millisecond.
+     *
+     * @param participant The participant to drive.
+     * @return A handle that cancels the participant's ticks.
+     */
+    public ScheduledFuture<?> schedule(Participant participant) {
+        long interval = Math.max(1, participant.getTickIntervalMillis());
+        long initialDelay = ThreadLocalRandom.current().nextLong(interval);
+        return schedule(() -> tickSafely(participant), initialDelay, interval);
+    }
+
+    /**
+     * Runs an arbitrary task at a fixed rate on the scheduler.
+     *
+     * @param task The task to run.
+     * @param initialDelayMillis Delay before the first run.
+     * @param periodMillis Time between runs.
+     * @return A handle that cancels the task.
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long initialDelayMillis, long periodMillis) {
+        return executor.scheduleAtFixedRate(task, initialDelayMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops all scheduled work and waits briefly for ticks that are already running.
+     *
+     * @param timeoutMillis How long to wait for running ticks to finish.
+     */
+    public void shutdown(long timeoutMillis) {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                LoggingUtility.getLogger().log(Level.WARNING, "Tick scheduler did not stop within {0} ms.", timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of threads in the scheduler pool.
+     *
+     * @return The pool size.
+     */
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    private static void tickSafely(Participant participant) {
+        try {
+            participant.tick();
+        } catch (RuntimeException e) { // An escaping exception would silently cancel the participant's schedule
+            LoggingUtility.getLogger().log(Level.WARNING, "{0} tick failed: {1}", new Object[]{participant.getName(), e.getMessage()});
+        }
+    }
+}
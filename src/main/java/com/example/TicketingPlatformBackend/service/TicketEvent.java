@@ -0,0 +1,98 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.EventStatus;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import com.example.TicketingPlatformBackend.model.WaitingRoom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * TicketEvent is one event hosted by the {@link EventRegistry}: its own configuration and, once started,
+ * its own pool and participant schedules. An event that has never been started holds only its
+ * configuration, so a large catalog of idle events costs little memory.
+ * <p>
+ * Lifecycle changes are made by the registry while holding the event's monitor; status reads do not lock.
+ */
+public class TicketEvent {
+    private final String eventId; // Registry key, also used in participant names and the journal path
+    private final TicketConfig config = new TicketConfig(); // This event's own settings
+    private volatile TicketPool ticketPool; // Created on first start, kept after stop for its final status
+    private final List<ScheduledFuture<?>> participantTasks = new ArrayList<>(); // Vendor and customer ticks on the shared scheduler
+    private volatile WaitingRoom waitingRoom; // Queue in front of the pool, or null when admission is not rate limited
+    private volatile PoolStatusPublisher statusPublisher; // Serves status snapshots of the pool, null until first started
+    private volatile boolean running; // True between start and stop
+    private MetricsService.PoolMeters poolMeters; // Meters of the current pool, removed when it is replaced
+
+    TicketEvent(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public TicketConfig getConfig() {
+        return config;
+    }
+
+    public TicketPool getTicketPool() {
+        return ticketPool;
+    }
+
+    void setTicketPool(TicketPool ticketPool) {
+        this.ticketPool = ticketPool;
+    }
+
+    public WaitingRoom getWaitingRoom() {
+        return waitingRoom;
+    }
+
+    void setWaitingRoom(WaitingRoom waitingRoom) {
+        this.waitingRoom = waitingRoom;
+    }
+
+    public PoolStatusPublisher getStatusPublisher() {
+        return statusPublisher;
+    }
+
+    void setStatusPublisher(PoolStatusPublisher statusPublisher) {
+        this.statusPublisher = statusPublisher;
+    }
+
+    List<ScheduledFuture<?>> getParticipantTasks() {
+        return participantTasks;
+    }
+
+    MetricsService.PoolMeters getPoolMeters() {
+        return poolMeters;
+    }
+
+    void setPoolMeters(MetricsService.PoolMeters poolMeters) {
+        this.poolMeters = poolMeters;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    /**
+     * Summarizes the event without locking it.
+     *
+     * @return The event's current status.
+     */
+    public EventStatus getStatus() {
+        TicketPool pool = ticketPool;
+        if (pool == null) {
+            return new EventStatus(eventId, running, 0, config.getMaxTicketCapacity(), 0, 0, 0);
+        }
+        return new EventStatus(eventId, running, pool.getCurrentSize(), pool.getMaxCapacity(),
+                pool.getTotalTicketsAddedByVendors(), pool.getTotalTicketsPurchasedByCustomers(), pool.getTotalTicketsReturned());
+    }
+}
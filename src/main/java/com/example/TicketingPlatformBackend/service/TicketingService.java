@@ -1,135 +1,294 @@
 package com.example.TicketingPlatformBackend.service;
 
+import com.example.TicketingPlatformBackend.config.ExecutionMode;
 import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.AdaptiveRelease;
 import com.example.TicketingPlatformBackend.model.Customer;
 import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.Participant;
+import com.example.TicketingPlatformBackend.model.PoolJournal;
+import com.example.TicketingPlatformBackend.model.PoolLevel;
+import com.example.TicketingPlatformBackend.model.PurchaseRequest;
+import com.example.TicketingPlatformBackend.model.PurchaseResult;
+import com.example.TicketingPlatformBackend.model.ReleaseMode;
+import com.example.TicketingPlatformBackend.model.ShutdownProgress;
+import com.example.TicketingPlatformBackend.model.ShutdownState;
 import com.example.TicketingPlatformBackend.model.TicketPool;
 import com.example.TicketingPlatformBackend.model.Vendor;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.TicketingPlatformBackend.model.WaitingRoom;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 @Service
 public class TicketingService {
 
-    private static final String CONFIG_FILE_PATH = "src/main/resources/config.json";
+    private static final long SHUTDOWN_DEADLINE_MILLIS = 5000; // Longest a stop waits for participants
+    private static final long JOURNAL_CLOSE_MILLIS = 5000; // Longest a stop waits for the journal's last commit
 
-    private TicketPool ticketPool; // The current ticket pool
+    private volatile TicketPool ticketPool; // The current ticket pool
     private List<Thread> vendorThreads = new ArrayList<>(); // List to hold vendor threads
     private List<Thread> customerThreads = new ArrayList<>(); // List to hold customer threads
+    private final List<Vendor> configuredVendors = new ArrayList<>(); // Vendors started from the configuration, for live rate changes
+    private final List<Customer> configuredCustomers = new ArrayList<>(); // Customers started from the configuration
+    private List<ScheduledFuture<?>> participantTasks = new ArrayList<>(); // Tick schedules in SCHEDULED mode
+    private ThreadFactory participantThreads = Thread::new; // Creates platform or virtual threads for participants
+    private TickScheduler tickScheduler; // Drives scheduled participants and waiting room admissions
+    private volatile boolean running; // True from start until a stop takes the run over
+    private TicketConfig runConfig; // Configuration snapshot the current run was started with
+    private ScheduledFuture<?> admitTask; // Waiting room admissions, or null
+    private long startedAtNanos; // When the current simulation started, for the end-of-run summary
+    private PoolJournal journal; // Durable record of the pool, or null when journaling is off
+    private final AtomicInteger activeVendors = new AtomicInteger(); // Vendors running in the current run, for metrics
+    private final AtomicInteger activeCustomers = new AtomicInteger(); // Customers running in the current run, for metrics
+    private MetricsService.PoolMeters poolMeters; // Meters of the current pool, removed when it is replaced
+    private volatile WaitingRoom waitingRoom; // Queue in front of the pool, or null when admission is not rate limited
+    private volatile PoolStatusPublisher statusPublisher; // Serves status snapshots of the current pool
+    private final ExecutorService lifecycleExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ticket-lifecycle"); // Runs stops and resets off request threads, one at a time
+        thread.setDaemon(true);
+        return thread;
+    });
+    private CompletableFuture<String> pendingStop; // The stop or reset in progress, shared by concurrent callers
+    private volatile ParticipantShutdown lastShutdown; // Progress of the latest stop
 
     @Autowired
-    private TicketConfig ticketConfig; // Injected configuration object
+    private ConfigService configService; // Holds and persists the active configuration
 
     @Autowired
     private LoggingService loggingService; // Inject LoggingService
 
-    private final ObjectMapper objectMapper = new ObjectMapper(); // ObjectMapper for JSON operations
-
-    public void loadConfig() {
-        try {
-            TicketConfig config = objectMapper.readValue(new File(CONFIG_FILE_PATH), TicketConfig.class);
-            this.ticketConfig.setTotalTickets(config.getTotalTickets());
-            this.ticketConfig.setTicketReleaseRate(config.getTicketReleaseRate());
-            this.ticketConfig.setCustomerRetrievalRate(config.getCustomerRetrievalRate());
-            this.ticketConfig.setMaxTicketCapacity(config.getMaxTicketCapacity());
-        } catch (IOException e) {
-            System.err.println("Error loading configuration: " + e.getMessage());
-        }
-    }
+    @Autowired
+    private EventStreamService eventStreamService; // Streams pool events to WebSocket clients
 
-    public void saveConfig() {
-        try {
-            objectMapper.writeValue(new File(CONFIG_FILE_PATH), ticketConfig);
-        } catch (IOException e) {
-            System.err.println("Error saving configuration: " + e.getMessage());
-        }
-    }
+    @Autowired
+    private MetricsService metricsService; // Publishes pool metrics through Actuator
 
-    public String startSystem() {
-        loggingService.clearLogs(); // Clear logs on startup
+    @Autowired
+    private LedgerService ledgerService; // Records releases, purchases and cancellations in the database
 
-        // Ensure ticket configuration is loaded
-        if (ticketConfig == null) {
-            return "Ticket configuration is not set.";
+    public synchronized String startSystem() {
+        if (pendingStop != null && !pendingStop.isDone()) {
+            return "Ticket system is still stopping. Please try again shortly.";
         }
+        if (running) {
+            return "Ticket system is already running."; // Replacing the pool would orphan its participants and journal
+        }
+        loggingService.clearLogs(); // Clear logs on startup
+        TicketConfig ticketConfig = configService.get(); // The run keeps this snapshot; later updates are applied live
+        LoggingUtility.setOverflowPolicy(ticketConfig.getLogOverflowPolicy());
 
         int initialTicketCount = ticketConfig.getTotalTickets();
         if (initialTicketCount <= 0) {
             return "Initial ticket count must be greater than zero.";
         }
 
-        // Initialize the ticket pool with the initial tickets and maximum capacity
-        this.ticketPool = new TicketPool(initialTicketCount, ticketConfig.getMaxTicketCapacity());
+        // Initialize the ticket pool with the initial tickets and maximum capacity, or restore it from the journal
+        try {
+            this.ticketPool = PoolFactory.create(ticketConfig, Path.of(ticketConfig.getJournalDirectory()));
+            this.journal = ticketPool.getJournal();
+        } catch (IOException e) {
+            LoggingUtility.getLogger().log(Level.SEVERE, "Could not open the pool journal: " + e.getMessage());
+            return "Could not open the pool journal: " + e.getMessage();
+        }
+        this.ticketPool.addListener(eventStreamService);
+        this.ticketPool.addListener(ledgerService.listenerFor(MetricsService.DEFAULT_EVENT));
+        this.ticketPool.addLevelListener(eventStreamService);
+        eventStreamService.onLevelChanged(null, ticketPool.getLevel(), ticketPool.getCurrentSize(), ticketPool.getMaxCapacity()); // Clients see the new pool's level
+        TicketPool pool = ticketPool;
+        this.ticketPool.addLevelListener((previous, current, poolSize, capacity) -> onLevelChanged(pool, current));
+        this.statusPublisher = new PoolStatusPublisher(ticketPool);
+        this.ticketPool.addListener(statusPublisher);
+        metricsService.unbind(poolMeters); // The previous run's pool stops reporting
+        this.poolMeters = metricsService.bind(MetricsService.DEFAULT_EVENT, ticketPool, activeVendors::get, activeCustomers::get);
+
+        // Participants run on platform threads, virtual threads or the shared tick scheduler
+        ExecutionMode mode = ticketConfig.getExecutionMode();
+        this.runConfig = ticketConfig;
+        this.participantThreads = ParticipantThreadFactory.forMode(mode);
+        this.tickScheduler = new TickScheduler(mode == ExecutionMode.SCHEDULED ? ticketConfig.getSchedulerThreads() : 1);
+        this.startedAtNanos = System.nanoTime();
+        long tickInterval = ticketConfig.getTickIntervalMillis();
+
+        // Put a waiting room in front of the pool when an admission rate is configured
+        this.waitingRoom = ticketConfig.getAdmissionsPerSecond() > 0 ? new WaitingRoom(ticketPool, ticketConfig.getAdmissionsPerSecond()) : null;
+        if (waitingRoom != null) {
+            this.admitTask = tickScheduler.schedule(waitingRoom::admit, WaitingRoom.ADMIT_INTERVAL_MILLIS, WaitingRoom.ADMIT_INTERVAL_MILLIS);
+        }
 
-        // Start vendor threads based on configured release rate
-        for (int i = 0; i < 2; i++) { // Example: 2 vendors
-            Vendor vendor = new Vendor(ticketPool, "[Vendor-" + (i + 1) + "]", ticketConfig.getTicketReleaseRate());
-            Thread vendorThread = new Thread(vendor);
-            vendorThreads.add(vendorThread);
-            vendorThread.start();
+        // Start vendors based on configured release rate; adaptive vendors share one demand estimate
+        AdaptiveRelease adaptiveRelease = ticketConfig.getReleaseMode() == ReleaseMode.ADAPTIVE
+                ? new AdaptiveRelease(ticketPool, ticketConfig.getTargetFillPercent()) : null;
+        for (int i = 0; i < ticketConfig.getVendorCount(); i++) {
+            Vendor vendor = new Vendor(ticketPool, "[Vendor-" + (i + 1) + "]", ticketConfig.getTicketReleaseRate(), tickInterval, adaptiveRelease);
+            configuredVendors.add(vendor);
+            startParticipant(vendor, vendorThreads, activeVendors);
             LoggingUtility.getLogger().log(Level.INFO, "{0} started.", vendor.getName());
         }
 
-        // Start customer threads based on configured retrieval rate
-        for (int i = 0; i < 5; i++) { // Example: 5 customers
-            Customer customer = new Customer(ticketPool, "[Customer-" + (i + 1) + "]", ticketConfig.getCustomerRetrievalRate());
-            Thread customerThread = new Thread(customer);
-            customerThreads.add(customerThread);
-            customerThread.start();
+        // Start customers based on configured retrieval rate
+        for (int i = 0; i < ticketConfig.getCustomerCount(); i++) {
+            Customer customer = new Customer(ticketPool, "[Customer-" + (i + 1) + "]", ticketConfig.getCustomerRetrievalRate(), tickInterval, waitingRoom);
+            configuredCustomers.add(customer);
+            startParticipant(customer, customerThreads, activeCustomers);
             LoggingUtility.getLogger().log(Level.INFO, "{0} started.", customer.getName());
         }
+        LoggingUtility.getLogger().log(Level.INFO, "Started {0} vendors and {1} customers in {2} mode.",
+                new Object[]{ticketConfig.getVendorCount(), ticketConfig.getCustomerCount(), effectiveMode(ticketConfig)});
 
-        // Monitor the ticket pool until it is empty or stop command is issued
-        new Thread(() -> {
-            try {
-                while (ticketPool.getCurrentSize() > 0) { // Continue until all tickets are sold.
-                    Thread.sleep(1000); // Check every second.
-                }
-                stopSystem(); // Automatically stop when tickets are sold out
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LoggingUtility.getLogger().log(Level.WARNING, "Monitoring thread interrupted.");
-            }
-        }).start();
+        this.running = true;
+        if (ticketPool.getLevel() == PoolLevel.SOLD_OUT) { // Recovered from a journal with nothing left to sell
+            stopSystemAsync();
+        }
 
         return "Ticket system started with " + initialTicketCount + " initial tickets.";
     }
 
+    /**
+     * Stops the simulation and waits for the stop to finish. Request handlers should prefer
+     * {@link #stopSystemAsync()}, which does not hold the calling thread.
+     *
+     * @return The end-of-simulation message.
+     */
     public String stopSystem() {
-        stopThreads(vendorThreads);
-        stopThreads(customerThreads);
+        return stopSystemAsync().join();
+    }
+
+    /**
+     * Starts stopping the simulation on the lifecycle thread. Every participant is told to stop at once and
+     * waited for until a shared deadline; see {@link #getShutdownProgress()} for how far it has got.
+     * Calls made while a stop is already running share that stop instead of starting another.
+     *
+     * @return Completes with the end-of-simulation message.
+     */
+    public synchronized CompletableFuture<String> stopSystemAsync() {
+        if (pendingStop == null || pendingStop.isDone()) {
+            pendingStop = CompletableFuture.supplyAsync(this::stopRun, lifecycleExecutor);
+        }
+        return pendingStop;
+    }
+
+    /**
+     * Resets the system and waits for the reset to finish.
+     *
+     * @return A message confirming the reset.
+     */
+    public String resetSystem() {
+        return resetSystemAsync().join();
+    }
+
+    /**
+     * Stops the simulation, then discards the pool, its journal and its meters, all on the lifecycle thread.
+     * The system cannot be started again until the reset has finished.
+     *
+     * @return Completes with a message confirming the reset.
+     */
+    public synchronized CompletableFuture<String> resetSystemAsync() {
+        pendingStop = stopSystemAsync().thenApplyAsync(message -> clearRun(), lifecycleExecutor);
+        return pendingStop;
+    }
+
+    /**
+     * Returns how far the latest stop has got.
+     *
+     * @return The progress, in state IDLE if the system has not been stopped yet.
+     */
+    public ShutdownProgress getShutdownProgress() {
+        ParticipantShutdown shutdown = lastShutdown;
+        return shutdown != null ? shutdown.getProgress()
+                : new ShutdownProgress(ShutdownState.IDLE, 0, 0, 0, SHUTDOWN_DEADLINE_MILLIS);
+    }
+
+    /**
+     * Stops the current run. Runs on the lifecycle thread; the run's state is taken over under the
+     * service's lock so a concurrent start or added participant cannot slip past it.
+     */
+    private String stopRun() {
+        ParticipantShutdown shutdown;
+        PoolJournal runJournal;
+        TicketPool pool;
+        long runStartedNanos;
+        TicketConfig config;
+        synchronized (this) {
+            List<Thread> threads = new ArrayList<>(vendorThreads);
+            threads.addAll(customerThreads);
+            vendorThreads.clear();
+            customerThreads.clear();
+            configuredVendors.clear();
+            configuredCustomers.clear();
+            shutdown = new ParticipantShutdown(threads, new ArrayList<>(participantTasks), tickScheduler, SHUTDOWN_DEADLINE_MILLIS);
+            participantTasks.clear();
+            if (admitTask != null) {
+                admitTask.cancel(false);
+                admitTask = null;
+            }
+            tickScheduler = null;
+            running = false;
+            runJournal = journal;
+            journal = null;
+            pool = ticketPool;
+            runStartedNanos = startedAtNanos;
+            config = runConfig;
+            startedAtNanos = 0;
+            lastShutdown = shutdown;
+        }
+
+        ShutdownProgress progress = shutdown.run();
+        activeVendors.set(0);
+        activeCustomers.set(0);
+
+        if (runJournal != null) {
+            runJournal.close(JOURNAL_CLOSE_MILLIS); // Commits the last batch and snapshots the final state
+        }
 
         // Get the final ticket pool size
-        int remainingTickets = ticketPool != null ? ticketPool.getCurrentSize() : 0;
-        int totalTickets = ticketConfig != null ? ticketConfig.getTotalTickets() : 0;
+        int remainingTickets = pool != null ? pool.getCurrentSize() : 0;
+        int totalTickets = config != null ? config.getTotalTickets() : 0;
 
         // Log or print the simulation end message and final ticket pool status
         String eventEndMessage = "***********************************************\n" +
                 "                 Simulation ended.               \n" +
                 "***********************************************\n" +
-                "Total Tickets Remaining: " + remainingTickets + "/" + totalTickets + "\n";
+                "Total Tickets Remaining: " + remainingTickets + "/" + totalTickets + "\n" +
+                "Participants Stopped: " + progress.getParticipantsStopped() + "/" + progress.getParticipants()
+                + " in " + progress.getElapsedMillis() + " ms\n";
 
         // Log the event end message
         LoggingUtility.getLogger().log(Level.INFO, eventEndMessage);
-
-        saveConfig();
+        logRunSummary(pool, config, runStartedNanos);
 
         return eventEndMessage; // Return the message when stopping the system.
     }
 
-
-    public String resetSystem() {
-        stopSystem();
+    /**
+     * Discards the stopped run. Runs on the lifecycle thread after the stop has finished.
+     */
+    private synchronized String clearRun() {
+        TicketConfig ticketConfig = runConfig != null ? runConfig : configService.get();
+        if (ticketConfig.isJournalEnabled()) {
+            try {
+                PoolJournal.delete(Path.of(ticketConfig.getJournalDirectory())); // A reset pool starts from the configured tickets again
+            } catch (IOException e) {
+                LoggingUtility.getLogger().log(Level.WARNING, "Could not delete the pool journal: " + e.getMessage());
+            }
+        }
+        metricsService.unbind(poolMeters);
+        this.poolMeters = null;
         this.ticketPool = null; // Clear the ticket pool
-        vendorThreads.clear(); // Clear vendor threads list
-        customerThreads.clear(); // Clear customer threads list
+        this.waitingRoom = null;
+        this.statusPublisher = null;
+        this.runConfig = null;
         return "Ticket system reset.";
     }
 
@@ -141,42 +300,201 @@ public class TicketingService {
         }
     }
 
-    public void addVendor(String name, int releaseRate) {
-        if (ticketPool == null) {
+    /**
+     * Applies a batch of purchase requests to the running pool.
+     *
+     * @param requests The purchase requests, in priority order.
+     * @return One result per request, in the same order.
+     */
+    public List<PurchaseResult> purchaseBatch(List<PurchaseRequest> requests) {
+        return getRunningPool().purchaseBatch(requests);
+    }
+
+    /**
+     * Returns the pool of the current run, for operations such as holds that act on it directly.
+     * After a stop the pool is kept for status reads until a reset, but it no longer takes purchases or holds.
+     *
+     * @return The ticket pool.
+     * @throws IllegalStateException If the system is not running.
+     */
+    public TicketPool getRunningPool() {
+        TicketPool pool = ticketPool;
+        if (pool == null) {
             throw new IllegalStateException("Ticket system is not started. Please start the system first.");
         }
-
-        Vendor vendor = new Vendor(ticketPool, name, releaseRate);
-        Thread vendorThread = new Thread(vendor);
-        vendorThreads.add(vendorThread); // Add thread to the list
-        vendorThread.start(); // Start the vendor thread
+        if (!running) {
+            throw new IllegalStateException("Ticket system is stopped. Start it again to accept purchases.");
+        }
+        return pool;
     }
 
-    public void addCustomer(String name, int retrievalRate) {
-        if (ticketPool == null) {
+    /**
+     * Returns the status publisher of the current pool. Like {@link #getSystemStatus()} it keeps serving
+     * the last pool after the system is stopped, until it is reset.
+     *
+     * @return The status publisher.
+     * @throws IllegalStateException If the system has not been started.
+     */
+    public PoolStatusPublisher getStatusPublisher() {
+        PoolStatusPublisher publisher = statusPublisher;
+        if (publisher == null) {
             throw new IllegalStateException("Ticket system is not started. Please start the system first.");
         }
+        return publisher;
+    }
+
+    /**
+     * Returns the waiting room in front of the pool of the current run.
+     *
+     * @return The waiting room.
+     * @throws IllegalStateException If the system has not been started or has no waiting room.
+     */
+    public WaitingRoom getWaitingRoom() {
+        getRunningPool();
+        WaitingRoom room = waitingRoom;
+        if (room == null) {
+            throw new IllegalStateException("The waiting room is not enabled. Set admissionsPerSecond and restart the system.");
+        }
+        return room;
+    }
+
+    public synchronized void addVendor(String name, int releaseRate) {
+        TicketPool pool = getRunningPool(); // A stopped run has no scheduler left to join
+
+        Vendor vendor = new Vendor(pool, name, releaseRate, runConfig.getTickIntervalMillis());
+        startParticipant(vendor, vendorThreads, activeVendors); // Start the vendor and track it
+    }
+
+    public synchronized void addCustomer(String name, int retrievalRate) {
+        TicketPool pool = getRunningPool(); // A stopped run has no scheduler left to join
+
+        Customer customer = new Customer(pool, name, retrievalRate, runConfig.getTickIntervalMillis(), waitingRoom);
+        startParticipant(customer, customerThreads, activeCustomers); // Start the customer and track it
+    }
+
+    /**
+     * Starts a participant in the configured execution mode: on the tick scheduler in SCHEDULED mode,
+     * otherwise on its own platform or virtual thread that is added to the given list.
+     */
+    private void startParticipant(Participant participant, List<Thread> threads, AtomicInteger active) {
+        active.incrementAndGet();
+        if (runConfig.getExecutionMode() == ExecutionMode.SCHEDULED) {
+            participantTasks.add(tickScheduler.schedule(participant));
+            return;
+        }
+        Thread thread = participantThreads.newThread(participant);
+        thread.setName(participant.getName()); // Name the thread after the participant so stop logs are readable
+        thread.start();
+        threads.add(thread);
+    }
+
+    /**
+     * Stops the run as soon as its pool sells out. Called on the thread of the purchase that emptied the
+     * pool, so the stop is handed to the lifecycle thread; a stop already under way is shared.
+     */
+    private void onLevelChanged(TicketPool pool, PoolLevel current) {
+        if (current == PoolLevel.SOLD_OUT && running && pool == ticketPool) {
+            LoggingUtility.getLogger().log(Level.INFO, "All tickets are sold. Stopping the simulation.");
+            stopSystemAsync(); // Automatically stop when tickets are sold out
+        }
+    }
+
+    private ExecutionMode effectiveMode(TicketConfig config) {
+        ExecutionMode mode = config.getExecutionMode();
+        return mode == ExecutionMode.SCHEDULED ? mode : ParticipantThreadFactory.effectiveMode(mode);
+    }
+
+    /**
+     * Logs throughput and heap usage for the run that just stopped, so platform and virtual
+     * thread modes can be compared with the same workload.
+     */
+    private void logRunSummary(TicketPool pool, TicketConfig config, long runStartedNanos) {
+        if (pool == null || config == null || runStartedNanos == 0) {
+            return;
+        }
+        double seconds = Math.max(1e-3, (System.nanoTime() - runStartedNanos) / 1e9);
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeapMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        LoggingUtility.getLogger().log(Level.INFO,
+                "Run summary: {0} mode, {1} participants, {2} tickets purchased in {3}s ({4}/s), heap used {5} MB.",
+                new Object[]{effectiveMode(config), config.getVendorCount() + config.getCustomerCount(),
+                        pool.getTotalTicketsPurchasedByCustomers(),
+                        String.format("%.1f", seconds), String.format("%.1f", pool.getTotalTicketsPurchasedByCustomers() / seconds),
+                        usedHeapMb});
+    }
 
-        Customer customer = new Customer(ticketPool, name, retrievalRate);
-        Thread customerThread = new Thread(customer);
-        customerThreads.add(customerThread); // Add thread to the list
-        customerThread.start(); // Start the customer thread
+    /**
+     * Returns the active configuration. The snapshot is shared and must not be modified; use
+     * {@link #updateConfig(TicketConfig)} to change it.
+     *
+     * @return The active configuration.
+     */
+    public TicketConfig getTicketConfig() {
+        return configService.get(); // Return the current ticket configuration
     }
 
-    private void stopThreads(List<Thread> threads) {
-        for (Thread thread : threads) {
-            thread.interrupt(); // Interrupt each thread
+    /**
+     * Makes the given settings the active configuration and saves them in the background. While the system
+     * is running, new release and retrieval rates, maximum capacity, low-water mark and log overflow policy
+     * are applied to the running pool and its configured vendors and customers straight away; every other
+     * setting takes effect on the next start.
+     *
+     * @param requested The new settings.
+     * @return A confirmation message naming the settings applied to the running system.
+     */
+    public synchronized String updateConfig(TicketConfig requested) {
+        TicketConfig config = configService.update(requested);
+        String message = "Configuration received: " + config.getTotalTickets() + " tickets.";
+        TicketPool pool = ticketPool;
+        if (!running || pool == null) {
+            return message;
+        }
+
+        List<String> applied = new ArrayList<>();
+        if (config.getMaxTicketCapacity() != pool.getMaxCapacity()) {
             try {
-                thread.join(); // Wait for each thread to finish
-                LoggingUtility.getLogger().log(Level.INFO, "{0} has completed.", thread.getName());
-            } catch (InterruptedException e) {
-                LoggingUtility.getLogger().log(Level.WARNING, "{0} was interrupted while stopping.", thread.getName());
-                Thread.currentThread().interrupt(); // Restore interrupted status
+                pool.setMaxCapacity(config.getMaxTicketCapacity());
+                applied.add("maximum capacity " + config.getMaxTicketCapacity());
+            } catch (IllegalArgumentException e) {
+                message += " " + e.getMessage();
             }
         }
+        if (config.getTicketReleaseRate() != runConfig.getTicketReleaseRate()) {
+            configuredVendors.forEach(vendor -> vendor.setReleaseRate(config.getTicketReleaseRate()));
+            applied.add("release rate " + config.getTicketReleaseRate());
+        }
+        if (config.getCustomerRetrievalRate() != runConfig.getCustomerRetrievalRate()) {
+            configuredCustomers.forEach(customer -> customer.setRetrievalRate(config.getCustomerRetrievalRate()));
+            applied.add("retrieval rate " + config.getCustomerRetrievalRate());
+        }
+        if (config.getLowWaterMark() != runConfig.getLowWaterMark()) {
+            pool.setLowWaterMark(config.getLowWaterMark());
+            applied.add("low-water mark " + config.getLowWaterMark());
+        }
+        if (config.getLogOverflowPolicy() != runConfig.getLogOverflowPolicy()) {
+            LoggingUtility.setOverflowPolicy(config.getLogOverflowPolicy());
+            applied.add("log overflow policy " + config.getLogOverflowPolicy());
+        }
+        this.runConfig = withLiveSettings(runConfig, config);
+
+        if (!applied.isEmpty()) {
+            LoggingUtility.getLogger().log(Level.INFO, "Applied to the running system: {0}.", String.join(", ", applied));
+            message += " Applied to the running system: " + String.join(", ", applied) + ".";
+        }
+        return message;
     }
 
-    public TicketConfig getTicketConfig() {
-        return ticketConfig; // Return the current ticket configuration
+    /**
+     * Returns a copy of the run's configuration carrying the settings that were just applied live, so the
+     * next update compares against what the run is actually using.
+     */
+    private static TicketConfig withLiveSettings(TicketConfig run, TicketConfig applied) {
+        TicketConfig updated = new TicketConfig();
+        updated.update(run);
+        updated.setTicketReleaseRate(applied.getTicketReleaseRate());
+        updated.setCustomerRetrievalRate(applied.getCustomerRetrievalRate());
+        updated.setLowWaterMark(applied.getLowWaterMark());
+        updated.setLogOverflowPolicy(applied.getLogOverflowPolicy());
+        return updated;
     }
 }
@@ -0,0 +1,243 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * TimingWheel expires any number of timeouts from one thread, doing a constant amount of work per
+ * timeout however many are outstanding.
+ * <p>
+ * Deadlines are hashed into a hierarchy of wheels. Level 0 has one slot per tick; each slot of a higher
+ * level is as wide as a full turn of the level below. Whenever a lower wheel completes a turn, the next
+ * slot of the level above is cascaded down, so a timeout is moved at most once per level before it fires.
+ * Adding and cancelling never touch the wheels from the caller's thread: new and cancelled timeouts pass
+ * through lock-free queues that the wheel thread drains every tick. A cancelled timeout is unlinked from
+ * its slot on the next tick, so it is not kept reachable until its deadline.
+ */
+public class TimingWheel {
+
+    /**
+     * An entry that fires once when its deadline passes, unless it is cancelled first.
+     * Exactly one of {@link #cancel()} and {@link #expire()} wins.
+     */
+    public abstract static class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private volatile TimingWheel wheel; // Wheel the timeout was added to
+        private long deadlineTick; // Tick at or after which the timeout fires
+        private Timeout prev; // Previous timeout in the same slot (wheel thread only)
+        private Timeout next; // Next timeout in the same slot (wheel thread only)
+        private int level = -1; // Level of the slot holding the timeout, -1 while not in a slot (wheel thread only)
+        private int slot; // Slot holding the timeout (wheel thread only)
+
+        /**
+         * Stops the timeout from firing. The wheel drops its reference on its next tick.
+         *
+         * @return true if the timeout was still pending, false if it had already fired or been cancelled.
+         */
+        public final boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            TimingWheel owner = wheel;
+            if (owner != null) {
+                owner.cancelled.add(this);
+            }
+            return true;
+        }
+
+        /**
+         * Returns true until the timeout fires or is cancelled.
+         *
+         * @return true while pending.
+         */
+        public final boolean isPending() {
+            return state.get() == PENDING;
+        }
+
+        /**
+         * Runs on the wheel thread when the deadline passes. Must be short and must not block.
+         */
+        protected abstract void expire();
+    }
+
+    private final long tickNanos; // Resolution of the wheel
+    private final int wheelBits; // log2 of the slots per level
+    private final int slotMask; // Slots per level minus one
+    private final Timeout[][] slots; // Head of each slot's list, per level (wheel thread only)
+    private final ConcurrentLinkedQueue<Timeout> incoming = new ConcurrentLinkedQueue<>(); // Added but not yet placed
+    private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<>(); // Cancelled but maybe still in a slot
+    private final long startNanos; // Time of tick 0
+    private long currentTick; // Last tick processed (wheel thread only)
+    private final ScheduledThreadPoolExecutor executor; // The wheel thread
+
+    /**
+     * Creates a wheel and starts its thread.
+     *
+     * @param tickMillis Resolution; timeouts fire at most this late.
+     * @param slotsPerLevel Slots in each level's wheel (rounded up to a power of two).
+     * @param levels Number of levels. Level L reaches slotsPerLevel^(L+1) ticks ahead; longer timeouts are re-cascaded.
+     * @param threadName Name of the wheel thread.
+     */
+    public TimingWheel(long tickMillis, int slotsPerLevel, int levels, String threadName) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        this.wheelBits = 32 - Integer.numberOfLeadingZeros(Math.max(2, slotsPerLevel) - 1);
+        this.slotMask = (1 << wheelBits) - 1;
+        this.slots = new Timeout[Math.max(1, levels)][1 << wheelBits];
+        this.startNanos = System.nanoTime();
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules a timeout. Safe to call from any thread.
+     *
+     * @param timeout The timeout, which must not have been added before.
+     * @param delayMillis How long from now it should fire.
+     */
+    public void add(Timeout timeout, long delayMillis) {
+        long deadlineNanos = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        timeout.deadlineTick = (deadlineNanos + tickNanos - 1) / tickNanos; // Round up so nothing fires early
+        timeout.wheel = this;
+        incoming.add(timeout);
+    }
+
+    /**
+     * Stops the wheel thread. Pending timeouts never fire.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Catches the wheel up with the clock: places newly added timeouts, then processes every elapsed tick.
+     */
+    private void advance() {
+        long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            unlink(timeout);
+        }
+        while ((timeout = incoming.poll()) != null) {
+            if (timeout.isPending()) {
+                place(timeout);
+            }
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = slots.length - 1; level > 0; level--) {
+                int shift = wheelBits * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) { // The level below just completed a turn
+                    cascade(level, (int) ((currentTick >>> shift) & slotMask));
+                }
+            }
+            cascade(0, (int) (currentTick & slotMask));
+        }
+    }
+
+    /**
+     * Empties one slot, firing the timeouts that are due and re-placing the rest on a lower level.
+     */
+    private void cascade(int level, int slot) {
+        Timeout timeout = slots[level][slot];
+        slots[level][slot] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.level = -1;
+            if (timeout.isPending()) {
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Puts a timeout on the lowest level whose wheel reaches its deadline, or fires it if it is due.
+     */
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            fire(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < slots.length - 1 && delta >> (wheelBits * (level + 1)) != 0) {
+            level++;
+        }
+        int slot = (int) ((timeout.deadlineTick >>> (wheelBits * level)) & slotMask);
+        Timeout head = slots[level][slot];
+        if (head != null) {
+            head.prev = timeout;
+        }
+        timeout.next = head;
+        timeout.level = level;
+        timeout.slot = slot;
+        slots[level][slot] = timeout;
+    }
+
+    /**
+     * Removes a cancelled timeout from its slot, if it is in one.
+     */
+    private void unlink(Timeout timeout) {
+        if (timeout.level < 0) {
+            return; // Still queued, or already dropped by a cascade
+        }
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+
+    /**
+     * Returns how many timeouts currently sit in the wheel's slots. Walks every slot on the wheel thread, so it is meant for tests.
+     *
+     * @return The number of placed timeouts.
+     */
+    int placedCount() throws Exception {
+        return executor.submit(this::countPlaced).get();
+    }
+
+    private int countPlaced() {
+        int count = 0;
+        for (Timeout[] level : slots) {
+            for (Timeout head : level) {
+                for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void fire(Timeout timeout) {
+        if (!timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        try {
+            timeout.expire();
+        } catch (RuntimeException e) {
+            LoggingUtility.getLogger().log(Level.WARNING, "Timeout failed to expire: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.TicketingPlatformBackend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveTicketSystemControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void replacesTheServletController() {
+        assertEquals(1, context.getBeanNamesForType(ReactiveTicketSystemController.class).length);
+        assertEquals(0, context.getBeanNamesForType(TicketSystemController.class).length);
+    }
+
+    @Test
+    void servesStatusWithTheServletContract() {
+        webTestClient.get().uri("/api/status").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.currentTicketsAvailable").isEqualTo(0);
+    }
+
+    @Test
+    void rejectsPurchasesUntilTheSystemStarts() {
+        webTestClient.post().uri("/api/purchases").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"customerName\": \"alice\", \"quantity\": 2}]").exchange()
+                .expectStatus().isEqualTo(409);
+        webTestClient.post().uri("/api/purchases").contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[]").exchange()
+                .expectStatus().isBadRequest();
+    }
+}
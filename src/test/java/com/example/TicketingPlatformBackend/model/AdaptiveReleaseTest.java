@@ -0,0 +1,73 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveReleaseTest {
+
+    private static Level previousLevel;
+
+    @BeforeAll
+    static void silenceLogger() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+    }
+
+    @AfterAll
+    static void restoreLogger() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void vendorsSettleOnTheTargetWithoutHittingCapacity() {
+        TicketPool pool = new TicketPool(1, 100);
+        AtomicInteger rejected = new AtomicInteger();
+        pool.addListener((type, actor, count, poolSize, capacity) -> {
+            if (type == PoolEventType.ADD_REJECTED) {
+                rejected.incrementAndGet();
+            }
+        });
+        AdaptiveRelease release = new AdaptiveRelease(pool, 50);
+        Vendor first = new Vendor(pool, "v1", 100, 1000, release);
+        Vendor second = new Vendor(pool, "v2", 100, 1000, release);
+
+        for (int i = 0; i < 30; i++) {
+            first.tick();
+            second.tick();
+            assertTrue(pool.getCurrentSize() <= 50); // Approaches the target from below, never past it
+        }
+
+        assertEquals(50, pool.getCurrentSize());
+        assertEquals(0, rejected.get()); // Idle vendors never reached the pool's capacity check
+    }
+
+    @Test
+    void idleVendorsBackOffAndRecoverOnDemand() {
+        TicketPool pool = new TicketPool(50, 100);
+        AtomicInteger added = new AtomicInteger();
+        pool.addListener((type, actor, count, poolSize, capacity) -> {
+            if (type == PoolEventType.TICKETS_ADDED) {
+                added.incrementAndGet();
+            }
+        });
+        Vendor vendor = new Vendor(pool, "v", 100, 1000, new AdaptiveRelease(pool, 50));
+
+        for (int i = 0; i < 10; i++) {
+            vendor.tick(); // At the target with no demand: nothing to release
+        }
+        assertEquals(0, added.get());
+
+        pool.removeTicket(40, "c");
+        for (int i = 0; i <= AdaptiveRelease.MAX_IDLE_TICKS; i++) {
+            vendor.tick(); // Within one backoff the vendor looks again
+        }
+        assertTrue(added.get() > 0);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLogWriterTest {
+
+    @Test
+    void writesStructuredEventsInTheOriginalFormat() {
+        StringWriter out = new StringWriter();
+        AsyncLogWriter writer = new AsyncLogWriter(out, "TestLogger", 16, LogOverflowPolicy.BLOCK);
+
+        publish(writer, PoolEventType.TICKETS_PURCHASED, "[Customer-1]", new int[]{4, 5});
+        publish(writer, PoolEventType.PURCHASE_REJECTED_SOLD_OUT, "[Customer-2]", null);
+        writer.message(Level.INFO, "Simulation ended.");
+        writer.close(2000);
+
+        String log = out.toString();
+        assertTrue(log.contains("TestLogger"));
+        assertTrue(log.contains("INFO: [Customer-1] purchased 2 tickets [#4, #5]. Current Pool Size: 8/10"), log);
+        assertTrue(log.contains("WARNING: No tickets available for [Customer-2]."), log);
+        assertTrue(log.indexOf("[Customer-1]") < log.indexOf("[Customer-2]"));
+        assertTrue(log.contains("INFO: Simulation ended."));
+    }
+
+    @Test
+    void blockPolicyNeverLosesEvents() throws InterruptedException {
+        StringWriter out = new StringWriter();
+        AsyncLogWriter writer = new AsyncLogWriter(out, "TestLogger", 4, LogOverflowPolicy.BLOCK);
+
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    publish(writer, PoolEventType.PURCHASE_REJECTED_SOLD_OUT, "buyer", null);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        writer.close(5000);
+
+        assertEquals(2000, countOccurrences(out.toString(), "No tickets available"));
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    void dropPolicyCountsDiscardedEventsInsteadOfWaiting() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter sink = new StringWriter();
+        Writer slowDisk = new Writer() { // Stalls the writer thread until the test releases it
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sink.write(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncLogWriter writer = new AsyncLogWriter(slowDisk, "TestLogger", 8, LogOverflowPolicy.DROP);
+
+        for (int i = 0; i < 100; i++) {
+            publish(writer, PoolEventType.PURCHASE_REJECTED_SOLD_OUT, "buyer", null);
+        }
+        long dropped = writer.getDroppedCount();
+        release.countDown();
+        writer.close(5000);
+
+        assertTrue(dropped >= 100 - 9, "at most one in-flight event plus a full ring can be kept");
+        assertEquals(100 - dropped, countOccurrences(sink.toString(), "No tickets available"));
+        assertTrue(sink.toString().contains(dropped + " log event(s) dropped"));
+    }
+
+    @Test
+    void failedWritesAreDroppedInsteadOfBlockingProducers() {
+        Writer brokenDisk = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncLogWriter writer = new AsyncLogWriter(brokenDisk, "TestLogger", 4, LogOverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) { // Far more than the ring holds; would hang if failed events kept their slots
+            publish(writer, PoolEventType.PURCHASE_REJECTED_SOLD_OUT, "buyer", null);
+        }
+        writer.close(5000);
+
+        assertEquals(100, writer.getDroppedCount());
+    }
+
+    private static void publish(AsyncLogWriter writer, PoolEventType type, String actor, int[] ids) {
+        long position = writer.claim();
+        if (position < 0) {
+            return;
+        }
+        PoolEvent event = writer.slot(position);
+        event.set(type, actor, ids != null ? ids.length : 1, 8, 10);
+        if (ids != null) {
+            event.setTickets(SeatLayout.GENERAL_ADMISSION, ids, 0, ids.length);
+        }
+        writer.publish(position);
+    }
+
+    private static int countOccurrences(String text, String needle) {
+        int count = 0;
+        for (int index = text.indexOf(needle); index >= 0; index = text.indexOf(needle, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
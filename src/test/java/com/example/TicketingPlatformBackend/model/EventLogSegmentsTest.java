@@ -0,0 +1,72 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLogSegmentsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesOneJsonLinePerRecordNextToTheTextLog() throws IOException {
+        StringWriter text = new StringWriter();
+        AsyncLogWriter writer = new AsyncLogWriter(text, new EventLogSegments(directory, 1 << 20, 4),
+                "TestLogger", 16, LogOverflowPolicy.BLOCK);
+
+        publish(writer, PoolEventType.TICKETS_PURCHASED, "[Customer-1]", new int[]{4, 5});
+        writer.message(Level.INFO, "Said \"hi\"\non two lines");
+        writer.close(2000);
+
+        assertTrue(text.toString().contains("[Customer-1] purchased 2 tickets [#4, #5]")); // The text log is unchanged
+        List<Path> segments = EventLogSegments.list(directory);
+        assertEquals(1, segments.size());
+        List<String> lines = Files.readAllLines(segments.get(0), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).matches("\\{\"ts\":\\d+,\"level\":\"INFO\",\"type\":\"TICKETS_PURCHASED\",\"actor\":\"\\[Customer-1]\","
+                + "\"count\":2,\"poolSize\":8,\"capacity\":10,\"tickets\":\\[4,5]}"), lines.get(0));
+        assertTrue(lines.get(1).endsWith("\"type\":\"MESSAGE\",\"actor\":null,\"count\":0,\"poolSize\":0,\"capacity\":0,"
+                + "\"message\":\"Said \\\"hi\\\"\\non two lines\"}"), lines.get(1));
+    }
+
+    @Test
+    void rotatesAtTheSizeCapAndKeepsTheNewestSegments() throws IOException {
+        AsyncLogWriter writer = new AsyncLogWriter(new StringWriter(), new EventLogSegments(directory, 1000, 3),
+                "TestLogger", 64, LogOverflowPolicy.BLOCK);
+        for (int i = 0; i < 200; i++) {
+            publish(writer, PoolEventType.TICKETS_PURCHASED, "[Customer-" + i + "]", new int[]{i});
+        }
+        writer.close(2000);
+
+        List<Path> segments = EventLogSegments.list(directory);
+        assertEquals(3, segments.size());
+        for (Path segment : segments) {
+            assertTrue(Files.size(segment) <= 1000);
+        }
+        List<String> newest = Files.readAllLines(segments.get(2), StandardCharsets.UTF_8);
+        assertTrue(newest.get(newest.size() - 1).contains("\"actor\":\"[Customer-199]\""));
+
+        EventLogSegments reopened = new EventLogSegments(directory, 1000, 3); // Carries on in the newest segment
+        reopened.close();
+        assertEquals(segments, EventLogSegments.list(directory));
+    }
+
+    private static void publish(AsyncLogWriter writer, PoolEventType type, String actor, int[] ids) {
+        long position = writer.claim();
+        PoolEvent event = writer.slot(position);
+        event.set(type, actor, ids.length, 8, 10);
+        event.setTickets(SeatLayout.GENERAL_ADMISSION, ids, 0, ids.length);
+        writer.publish(position);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolJournalTest {
+
+    private static Level previousLevel;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void silenceLogger() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+    }
+
+    @AfterAll
+    static void restoreLogger() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void recoversSoldTicketsAndTotals() throws IOException {
+        TicketPool pool = journaledPool(PoolJournal.recover(directory), 60000);
+        int[] ids = new int[4];
+        assertTrue(pool.removeTicket(4, "buyer", ids, 0));
+        pool.addTickets(3, "vendor");
+        assertTrue(pool.adminRemoveTicket(ids, 2, 2, "buyer"));
+        closeJournal(pool);
+
+        PoolState state = PoolJournal.recover(directory);
+        TicketPool restored = new TicketPool(state, 20, InventoryMode.ATOMIC, 0, SeatLayout.GENERAL_ADMISSION);
+        assertEquals(pool.getCurrentSize(), restored.getCurrentSize());
+        assertEquals(13, state.getNextId());
+        assertEquals(13, restored.getTotalTicketsAddedByVendors());
+        assertEquals(4, restored.getTotalTicketsPurchasedByCustomers());
+        assertEquals(2, restored.getTotalTicketsReturned());
+        assertTrue(restored.isSold(ids[0]) && restored.isSold(ids[1]));
+        assertFalse(restored.isSold(ids[2]) || restored.isSold(ids[3]));
+        assertTrue(restored.adminRemoveTicket(ids, 0, 2, "buyer")); // Sold tickets can still be returned after recovery
+    }
+
+    @Test
+    void continuesAcrossSnapshots() throws IOException, InterruptedException {
+        TicketPool pool = journaledPool(PoolJournal.recover(directory), 1);
+        int[] ids = new int[1];
+        for (int i = 0; i < 5; i++) {
+            assertTrue(pool.removeTicket(1, "buyer", ids, 0));
+            Thread.sleep(20); // Lets the writer take a snapshot between purchases
+        }
+        closeJournal(pool);
+        assertEquals(1, countFiles("snapshot-")); // Older snapshots and segments are compacted away
+
+        TicketPool restored = journaledPool(PoolJournal.recover(directory), 60000);
+        assertEquals(5, restored.getCurrentSize());
+        assertTrue(restored.removeTicket(5, "buyer"));
+        closeJournal(restored);
+        assertEquals(0, new TicketPool(PoolJournal.recover(directory), 20, InventoryMode.ATOMIC, 0, SeatLayout.GENERAL_ADMISSION).getCurrentSize());
+    }
+
+    @Test
+    void ignoresTornFinalBatch() throws IOException {
+        TicketPool pool = journaledPool(PoolJournal.recover(directory), 60000);
+        assertTrue(pool.removeTicket(2, "buyer"));
+        pool.getJournal().close(5000); // Closing snapshots, so the torn batch below lands after the snapshot
+
+        Path segment = directory.resolve(String.format("journal-%016d.bin", 99));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3})); // Header promising bytes that never arrived
+        }
+
+        PoolState state = PoolJournal.recover(directory);
+        assertEquals(8, state.getAvailable());
+        assertEquals(2, state.getTotalPurchased());
+    }
+
+    @Test
+    void concurrentBuyersReplayInTheOrderTheyHappened() throws Exception {
+        TicketPool pool = journaledPool(PoolJournal.recover(directory), 60000);
+        Thread[] buyers = new Thread[8];
+        for (int t = 0; t < buyers.length; t++) {
+            buyers[t] = new Thread(() -> {
+                int[] ids = new int[1];
+                for (int i = 0; i < 2000; i++) {
+                    if (pool.removeTicket(1, "buyer", ids, 0)) {
+                        pool.adminRemoveTicket(ids, 0, 1, "buyer"); // Another buyer may take the same ID next
+                    }
+                }
+            });
+            buyers[t].start();
+        }
+        for (Thread buyer : buyers) {
+            buyer.join();
+        }
+        int[] last = new int[3];
+        assertTrue(pool.removeTicket(3, "buyer", last, 0));
+        closeJournal(pool);
+
+        PoolState state = PoolJournal.recover(directory);
+        assertEquals(pool.getTotalTicketsPurchasedByCustomers(), state.getTotalPurchased());
+        assertEquals(pool.getTotalTicketsReturned(), state.getTotalReturned());
+        assertEquals(7, state.getAvailable());
+        for (int id : last) {
+            assertTrue(state.isSold(id));
+        }
+        assertEquals(0, pool.getJournal().getDroppedRecords());
+        assertFalse(pool.getJournal().isFailed());
+    }
+
+    @Test
+    void countsRecordsDroppedAfterClose() throws IOException {
+        TicketPool pool = journaledPool(PoolJournal.recover(directory), 60000);
+        closeJournal(pool);
+
+        assertTrue(pool.removeTicket(1, "buyer"));
+        assertEquals(1, pool.getJournal().getDroppedRecords());
+    }
+
+    @Test
+    void journalsShareOneWriterThreadAndGrowTheirBuffersOnDemand() throws IOException {
+        TicketPool[] pools = new TicketPool[20];
+        for (int i = 0; i < pools.length; i++) {
+            Path eventDirectory = directory.resolve("event-" + i);
+            pools[i] = new TicketPool(10_000, 10_000, InventoryMode.ATOMIC, 0, SeatLayout.GENERAL_ADMISSION);
+            pools[i].setJournal(new PoolJournal(eventDirectory, new PoolState(), 60000));
+        }
+        long writers = Thread.getAllStackTraces().keySet().stream().filter(thread -> thread.getName().equals("pool-journal")).count();
+        assertEquals(1, writers);
+
+        assertTrue(pools[0].removeTicket(9_000, "buyer")); // Larger than a stripe's starting buffer
+        for (TicketPool pool : pools) {
+            closeJournal(pool);
+        }
+        assertEquals(9_000, PoolJournal.recover(directory.resolve("event-0")).getTotalPurchased());
+    }
+
+    @Test
+    void aLargePurchaseIsRecoveredWholeOrNotAtAll() throws Exception {
+        int tickets = 300_000; // Its records outgrow a stripe's share and the usual batch
+        TicketPool pool = new TicketPool(tickets, tickets, InventoryMode.ATOMIC, 0, SeatLayout.GENERAL_ADMISSION);
+        PoolState empty = PoolJournal.recover(directory);
+        pool.setJournal(new PoolJournal(directory, empty, 60000));
+        assertTrue(pool.removeTicket(tickets - 1, "buyer"));
+
+        Path segment = directory.resolve(String.format("journal-%016d.bin", 1));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.size(segment) < 4L * (tickets - 1) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(tickets - 1, PoolJournal.recover(directory).getTotalPurchased());
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1); // A crash in the middle of the last batch
+        }
+        assertEquals(0, PoolJournal.recover(directory).getTotalPurchased());
+        closeJournal(pool);
+    }
+
+    private TicketPool journaledPool(PoolState state, long snapshotIntervalMillis) throws IOException {
+        TicketPool pool = state.isEmpty()
+                ? new TicketPool(10, 20, InventoryMode.STRIPED, 2, SeatLayout.GENERAL_ADMISSION)
+                : new TicketPool(state, 20, InventoryMode.STRIPED, 2, SeatLayout.GENERAL_ADMISSION);
+        pool.setJournal(new PoolJournal(directory, state, snapshotIntervalMillis));
+        return pool;
+    }
+
+    private static void closeJournal(TicketPool pool) {
+        pool.getJournal().close(5000);
+    }
+
+    private long countFiles(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).count();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PurchaseLimiterTest {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    @Test
+    void allowsABurstOfOneSecondThenRefillsAtTheRate() {
+        PurchaseLimiter limiter = new PurchaseLimiter(0, 5, 1000);
+        long now = 1_000 * MILLISECOND;
+        for (int i = 0; i < 5; i++) {
+            assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("bot", 1, now));
+        }
+        assertEquals(LimitDecision.RATE_LIMITED, limiter.tryAcquire("bot", 1, now));
+        assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("someone-else", 1, now)); // Buckets are per customer
+
+        assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("bot", 1, now + 200 * MILLISECOND)); // One token back
+        assertEquals(LimitDecision.RATE_LIMITED, limiter.tryAcquire("bot", 1, now + 200 * MILLISECOND));
+    }
+
+    @Test
+    void countsTicketsAgainstTheLimitUntilRefunded() {
+        PurchaseLimiter limiter = new PurchaseLimiter(4, 0, 1000);
+
+        assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("fan", 3, 0));
+        assertEquals(LimitDecision.LIMIT_REACHED, limiter.tryAcquire("fan", 2, 0));
+        assertEquals(LimitDecision.LIMIT_REACHED, limiter.check("fan", 2));
+
+        limiter.refund("fan", 3); // The pool turned the purchase down after all
+        assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("fan", 4, 0));
+    }
+
+    @Test
+    void tracksAtLeastTheConfiguredNumberOfBuyersThenSaysSo() {
+        int maxCustomers = 1 << 20;
+        PurchaseLimiter limiter = new PurchaseLimiter(4, 0, maxCustomers);
+        for (int i = 0; i < maxCustomers; i++) {
+            assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("buyer-" + i, 1, 0)); // Every buyer keeps holding a ticket
+        }
+        assertEquals(maxCustomers, limiter.getTrackedCustomers());
+
+        LimitDecision decision = LimitDecision.ALLOWED;
+        for (int i = maxCustomers; decision == LimitDecision.ALLOWED; i++) {
+            decision = limiter.tryAcquire("buyer-" + i, 1, 0);
+        }
+        assertEquals(LimitDecision.TOO_MANY_CUSTOMERS, decision); // Not reported as rate limiting
+        assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("buyer-0", 1, 0)); // Tracked buyers are unaffected
+    }
+
+    @Test
+    void idleCustomersMakeRoomWhileBuyersStayTracked() {
+        PurchaseLimiter limiter = new PurchaseLimiter(2, 10, 1000);
+        assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("alice", 2, 0));
+
+        for (int i = 0; i < 200_000; i++) {
+            long now = i * MILLISECOND; // Each bucket refills 100 ms after its customer's attempt
+            assertEquals(LimitDecision.ALLOWED, limiter.tryAcquire("customer-" + i, 1, now));
+            limiter.refund("customer-" + i, 1); // Sold out: nothing held, so the entry can go once it refills
+        }
+
+        assertTrue(limiter.getTrackedCustomers() <= 2048); // Never more than the table's slots
+        assertTrue(limiter.getEvictions() > 0);
+        assertEquals(LimitDecision.LIMIT_REACHED, limiter.tryAcquire("alice", 1, 300_000 * MILLISECOND));
+    }
+}
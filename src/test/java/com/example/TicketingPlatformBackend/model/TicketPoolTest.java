@@ -0,0 +1,354 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicketPoolTest {
+
+    private static Level previousLevel;
+
+    @BeforeAll
+    static void silenceLogger() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF); // Keep the stress runs from flooding logs/application.log
+    }
+
+    @AfterAll
+    static void restoreLogger() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void purchaseIsAllOrNothing(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 3, 10);
+
+        assertFalse(pool.removeTicket(4, "buyer"));
+        assertEquals(3, pool.getCurrentSize());
+        assertTrue(pool.removeTicket(3, "buyer"));
+        assertEquals(0, pool.getCurrentSize());
+        assertEquals(3, pool.getTotalTicketsPurchasedByCustomers());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void addAndReturnRespectCapacity(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 8, 10);
+        int[] ids = new int[1];
+
+        pool.addTickets(3, "vendor");
+        assertEquals(8, pool.getCurrentSize());
+        pool.addTickets(2, "vendor");
+        assertEquals(10, pool.getCurrentSize());
+        assertTrue(pool.removeTicket(1, "buyer", ids, 0));
+        pool.addTickets(1, "vendor");
+
+        assertFalse(pool.adminRemoveTicket(ids, 0, 1, "buyer"));
+        assertEquals(10, pool.getCurrentSize());
+        assertEquals(0, pool.getTotalTicketsReturned());
+        assertTrue(pool.isSold(ids[0])); // A rejected return leaves the ticket with its buyer
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void cancelReturnsTheExactTickets(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 3, 3);
+        int[] ids = new int[3];
+
+        assertTrue(pool.removeTicket(3, "buyer", ids, 0));
+        assertTrue(pool.isSold(ids[0]) && pool.isSold(ids[1]) && pool.isSold(ids[2]));
+        assertTrue(pool.adminRemoveTicket(ids, 1, 1, "buyer"));
+        assertFalse(pool.isSold(ids[1]));
+        assertFalse(pool.adminRemoveTicket(ids, 1, 1, "buyer")); // Already returned
+
+        int[] rebought = new int[1];
+        assertTrue(pool.removeTicket(1, "other", rebought, 0));
+        assertEquals(ids[1], rebought[0]);
+        assertFalse(pool.adminRemoveTicket(new int[]{ids[0], 99}, 0, 2, "buyer")); // 99 was never issued
+        assertTrue(pool.isSold(ids[0]));
+    }
+
+    @Test
+    void seatLayoutLabelsTickets() {
+        SeatLayout layout = new SeatLayout(10, 5);
+
+        assertEquals("S1-R1-1", layout.label(0));
+        assertEquals("S1-R2-3", layout.label(12));
+        assertEquals("S2-R1-1", layout.label(50));
+        assertEquals("#7", SeatLayout.GENERAL_ADMISSION.label(7));
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void concurrentBuyersNeverOversell(InventoryMode mode) throws InterruptedException {
+        int initialTickets = 10_000;
+        TicketPool pool = newPool(mode, initialTickets, initialTickets);
+        AtomicLong sold = new AtomicLong();
+        AtomicIntegerArray timesSold = new AtomicIntegerArray(initialTickets);
+
+        runConcurrently(16, 5_000, () -> {
+            int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+            int[] ids = new int[quantity];
+            if (pool.removeTicket(quantity, "buyer", ids, 0)) {
+                sold.addAndGet(quantity);
+                for (int id : ids) {
+                    timesSold.incrementAndGet(id);
+                }
+            }
+        });
+
+        assertEquals(initialTickets, sold.get() + pool.getCurrentSize());
+        for (int id = 0; id < initialTickets; id++) {
+            assertTrue(timesSold.get(id) <= 1, "ticket " + id + " was sold twice");
+        }
+        assertEquals(sold.get(), pool.getTotalTicketsPurchasedByCustomers());
+        assertTrue(pool.getCurrentSize() >= 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void mixedContentionKeepsCountersConsistent(InventoryMode mode) throws InterruptedException {
+        int maxCapacity = 500;
+        TicketPool pool = newPool(mode, 100, maxCapacity);
+        AtomicInteger negativeReads = new AtomicInteger();
+
+        runConcurrently(12, 20_000, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int quantity = random.nextInt(1, 6);
+            switch (random.nextInt(3)) {
+                case 0 -> pool.addTickets(quantity, "vendor");
+                case 1 -> {
+                    int[] ids = new int[quantity];
+                    if (pool.removeTicket(quantity, "buyer", ids, 0)) {
+                        pool.adminRemoveTicket(ids, 0, random.nextInt(quantity + 1), "buyer");
+                    }
+                }
+                default -> pool.removeTicket(quantity, "buyer");
+            }
+            if (pool.getCurrentSize() < 0) {
+                negativeReads.incrementAndGet();
+            }
+        });
+
+        assertEquals(0, negativeReads.get());
+        assertTrue(pool.getCurrentSize() <= maxCapacity);
+        assertEquals(pool.getTotalTicketsAddedByVendors() - pool.getTotalTicketsPurchasedByCustomers()
+                + pool.getTotalTicketsReturned(), pool.getCurrentSize());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void purchaseLargerThanOneStripeSucceeds(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 8, 8);
+
+        assertTrue(pool.removeTicket(7, "buyer"));
+        assertEquals(1, pool.getCurrentSize());
+        assertFalse(pool.removeTicket(2, "buyer"));
+        assertEquals(1, pool.getCurrentSize());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void purchaseBatchGrantsEachRequestAllOrNothing(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 6, 10);
+
+        List<PurchaseResult> whole = pool.purchaseBatch(List.of(new PurchaseRequest("a", 2), new PurchaseRequest("b", 1)));
+        assertTrue(whole.get(0).isSuccess() && whole.get(1).isSuccess());
+        assertEquals(3, pool.getCurrentSize());
+
+        List<PurchaseResult> partial = pool.purchaseBatch(List.of(
+                new PurchaseRequest("c", 2), new PurchaseRequest("d", 2), new PurchaseRequest("e", 0), new PurchaseRequest("f", 1)));
+        assertTrue(partial.get(0).isSuccess());
+        assertEquals(PurchaseResult.INSUFFICIENT_TICKETS, partial.get(1).getReason());
+        assertEquals(PurchaseResult.INVALID_QUANTITY, partial.get(2).getReason());
+        assertTrue(partial.get(3).isSuccess()); // A later, smaller request still fits
+        assertEquals(0, pool.getCurrentSize());
+        assertEquals(6, pool.getTotalTicketsPurchasedByCustomers());
+
+        int[] ids = partial.get(0).getTicketIds();
+        assertEquals(2, ids.length);
+        assertTrue(pool.isSold(ids[0]) && pool.isSold(ids[1]));
+        assertEquals(PurchaseResult.SOLD_OUT, pool.purchaseBatch(List.of(new PurchaseRequest("g", 1))).get(0).getReason());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void ticketsOnHoldBalanceTheBooks(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 6, 10);
+        int[] held = new int[4];
+
+        assertTrue(pool.holdTickets(4, "a", held, 0));
+        assertEquals(4, pool.getTicketsOnHold());
+        assertEquals(pool.getTotalTicketsAddedByVendors() - pool.getTotalTicketsPurchasedByCustomers()
+                + pool.getTotalTicketsReturned() - pool.getTicketsOnHold(), pool.getCurrentSize());
+
+        pool.confirmHold(held, 0, 2, "a");
+        pool.releaseHold(held, 2, 2, "a", true);
+        assertEquals(0, pool.getTicketsOnHold());
+        assertEquals(4, pool.getCurrentSize());
+        assertEquals(2, pool.getTotalTicketsPurchasedByCustomers());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void releasedHoldsNeverOverfillARefilledPool(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 10, 10);
+        int[] held = new int[4];
+        assertTrue(pool.holdTickets(4, "a", held, 0));
+        assertTrue(pool.addTickets(3, "vendor")); // Refilled while the hold is out
+
+        assertEquals(1, pool.releaseHold(held, 0, 4, "a", true));
+        assertEquals(10, pool.getCurrentSize());
+        assertEquals(3, pool.getTicketsWithdrawn());
+        assertEquals(pool.getTotalTicketsAddedByVendors() - pool.getTotalTicketsPurchasedByCustomers()
+                + pool.getTotalTicketsReturned() - pool.getTicketsOnHold() - pool.getTicketsWithdrawn(), pool.getCurrentSize());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void levelListenersHearEachTransitionOnce(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 5, 10);
+        pool.setLowWaterMark(2);
+        List<String> transitions = new ArrayList<>();
+        pool.addLevelListener((previous, current, poolSize, capacity) -> transitions.add(previous + ">" + current));
+
+        pool.removeTicket(1, "a"); // 4 left, still NORMAL
+        pool.removeTicket(2, "a");
+        pool.removeTicket(1, "a"); // Still LOW
+        pool.removeTicket(1, "a");
+        pool.removeTicket(1, "a"); // Rejected while sold out
+        pool.addTickets(10, "v");
+
+        assertEquals(List.of("NORMAL>LOW", "LOW>SOLD_OUT", "SOLD_OUT>AT_CAPACITY"), transitions);
+        assertEquals(PoolLevel.AT_CAPACITY, pool.getLevel());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void levelSettlesOnTheFinalSizeUnderContention(InventoryMode mode) throws InterruptedException {
+        TicketPool pool = newPool(mode, 1, 4);
+        AtomicReference<PoolLevel> lastHeard = new AtomicReference<>(pool.getLevel());
+        pool.addLevelListener((previous, current, poolSize, capacity) -> lastHeard.set(current));
+
+        runConcurrently(4, 5_000, () -> {
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                pool.removeTicket(1, "buyer");
+            } else {
+                pool.addTickets(1, "vendor");
+            }
+        });
+
+        int size = pool.getCurrentSize();
+        PoolLevel expected = size == 0 ? PoolLevel.SOLD_OUT : size == 4 ? PoolLevel.AT_CAPACITY : PoolLevel.NORMAL;
+        assertEquals(expected, pool.getLevel());
+        assertEquals(expected, lastHeard.get());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void maxCapacityChangesOnALivePool(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 5, 10);
+
+        pool.setMaxCapacity(6);
+        assertFalse(pool.addTickets(2, "v"));
+        assertTrue(pool.addTickets(1, "v"));
+        assertEquals(PoolLevel.AT_CAPACITY, pool.getLevel());
+
+        pool.setMaxCapacity(10);
+        assertEquals(PoolLevel.NORMAL, pool.getLevel());
+        assertTrue(pool.addTickets(4, "v"));
+        assertThrows(IllegalArgumentException.class, () -> pool.setMaxCapacity(11)); // Past what the ticket IDs were sized for
+        assertEquals(10, pool.getMaxCapacity());
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void addUpToFillsWhatFits(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 7, 10);
+
+        assertEquals(3, pool.addTicketsUpTo(5, "v"));
+        assertEquals(0, pool.addTicketsUpTo(5, "v"));
+        assertEquals(10, pool.getCurrentSize());
+        assertEquals(10, pool.getTotalTicketsAddedByVendors());
+        int[] ids = new int[10];
+        assertTrue(pool.removeTicket(10, "c", ids, 0)); // Every partially filled ticket received an ID
+    }
+
+    @Test
+    void idsStopAtTheLimitInsteadOfOverflowing() {
+        TicketIdStore store = new TicketIdStore(6, 10, 1, 8);
+
+        assertEquals(2, store.claim(5)); // Six of eight IDs went to the initial tickets
+        assertEquals(0, store.claim(1));
+        store.unclaim(1); // A release that found no room gives its IDs back
+        assertEquals(1, store.claim(3));
+        assertEquals(0, store.claim(1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(InventoryMode.class)
+    void customerLimitsRefuseBeforeTheInventory(InventoryMode mode) {
+        TicketPool pool = newPool(mode, 10, 10);
+        pool.setPurchaseLimiter(new PurchaseLimiter(3, 0, 1000));
+
+        assertTrue(pool.removeTicket(2, "fan"));
+        assertEquals(PurchaseResult.LIMIT_REACHED, pool.purchase(2, "fan", new int[2], 0));
+        assertEquals(8, pool.getCurrentSize());
+
+        List<PurchaseResult> results = pool.purchaseBatch(List.of(new PurchaseRequest("fan", 2), new PurchaseRequest("other", 3)));
+        assertEquals(PurchaseResult.LIMIT_REACHED, results.get(0).getReason());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(5, pool.getCurrentSize());
+
+        TicketPool empty = newPool(mode, 0, 10);
+        empty.setPurchaseLimiter(new PurchaseLimiter(0, 1, 1000));
+        assertEquals(PurchaseResult.SOLD_OUT, empty.purchase(1, "fan", new int[1], 0)); // Used the last token, still sold out
+        assertEquals(PurchaseResult.RATE_LIMITED, empty.hold(1, "fan", new int[1], 0));
+    }
+
+    private static TicketPool newPool(InventoryMode mode, int initialTickets, int maxCapacity) {
+        return new TicketPool(initialTickets, maxCapacity, mode, 4);
+    }
+
+    private static void runConcurrently(int threads, int operationsPerThread, Runnable operation) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int op = 0; op < operationsPerThread; op++) {
+                    operation.run();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+}
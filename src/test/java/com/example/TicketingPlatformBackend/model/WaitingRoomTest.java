@@ -0,0 +1,136 @@
+package com.example.TicketingPlatformBackend.model;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WaitingRoomTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private static Level previousLevel;
+
+    @BeforeAll
+    static void silenceLogger() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+    }
+
+    @AfterAll
+    static void restoreLogger() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void admitsInArrivalOrderAtTheConfiguredRate() {
+        WaitingRoom room = new WaitingRoom(new TicketPool(100, 100), 10);
+        for (int i = 1; i <= 30; i++) {
+            assertEquals(i, room.join());
+        }
+        room.admit(0);
+        room.admit(SECOND); // One second at 10 per second
+
+        assertEquals(AdmissionState.ADMITTED, room.getStatus(10).getState());
+        QueueStatus eleventh = room.getStatus(11);
+        assertEquals(AdmissionState.WAITING, eleventh.getState());
+        assertEquals(1, eleventh.getPosition());
+        assertEquals(100, eleventh.getEstimatedWaitMillis());
+        assertEquals(20, room.getStatus(30).getPosition());
+        assertEquals(20, room.getQueueLength());
+    }
+
+    @Test
+    void eachAdmissionBuysOnce() {
+        TicketPool pool = new TicketPool(100, 100);
+        WaitingRoom room = new WaitingRoom(pool, 10);
+        long first = room.join();
+        long second = room.join();
+        room.admit(0);
+        room.admit(SECOND / 10); // Exactly one admission
+
+        PurchaseResult result = room.purchase(first, new PurchaseRequest("alice", 3));
+        assertTrue(result.isSuccess());
+        assertEquals(97, pool.getCurrentSize());
+        assertThrows(IllegalStateException.class, () -> room.purchase(first, new PurchaseRequest("alice", 3)));
+        assertThrows(IllegalStateException.class, () -> room.purchase(second, new PurchaseRequest("bob", 1)));
+        assertEquals(97, pool.getCurrentSize());
+    }
+
+    @Test
+    void aBurstNeverAdmitsMoreThanTheWindowAtOnce() {
+        WaitingRoom room = new WaitingRoom(new TicketPool(100, 100), 10);
+        int window = 1 << 16; // The smallest window
+        for (int i = 0; i < window + 1000; i++) {
+            room.join();
+        }
+        room.admit(0);
+        room.admit(100_000 * SECOND); // Far more credit than the window holds
+
+        assertEquals(AdmissionState.ADMITTED, room.getStatus(1).getState()); // Still claimable, not expired by the burst
+        assertEquals(AdmissionState.ADMITTED, room.getStatus(window).getState());
+        assertEquals(AdmissionState.WAITING, room.getStatus(window + 1).getState());
+        assertEquals(1000, room.getQueueLength());
+    }
+
+    @Test
+    void anInvalidQuantityKeepsTheAdmission() {
+        WaitingRoom room = new WaitingRoom(new TicketPool(100, 100), 10);
+        long number = room.join();
+        room.admit(0);
+        room.admit(SECOND);
+
+        assertEquals(PurchaseResult.INVALID_QUANTITY, room.purchase(number, new PurchaseRequest("alice", 0)).getReason());
+        assertTrue(room.purchase(number, new PurchaseRequest("alice", 2)).isSuccess());
+    }
+
+    @Test
+    void aQuantityBeyondTheStockIsRefusedBeforeAnythingIsAllocated() {
+        WaitingRoom room = new WaitingRoom(new TicketPool(100, 100), 10);
+        long number = room.join();
+        room.admit(0);
+        room.admit(SECOND);
+
+        PurchaseResult result = room.purchase(number, new PurchaseRequest("alice", Integer.MAX_VALUE));
+        assertEquals(PurchaseResult.INSUFFICIENT_TICKETS, result.getReason());
+    }
+
+    @Test
+    void idleQueueDoesNotSaveUpABurst() {
+        WaitingRoom room = new WaitingRoom(new TicketPool(100, 100), 10);
+        room.admit(0);
+        room.admit(60 * SECOND); // A minute with nobody waiting
+        for (int i = 0; i < 20; i++) {
+            room.join();
+        }
+        room.admit(60 * SECOND + 1);
+
+        assertTrue(room.getQueueLength() >= 19);
+    }
+
+    @Test
+    void rejectsEarlyOnceSoldOut() {
+        TicketPool pool = new TicketPool(2, 10);
+        WaitingRoom room = new WaitingRoom(pool, 10);
+        long waiting = room.join();
+        pool.removeTicket(2, "bulk");
+
+        assertEquals(-1, room.join());
+        assertEquals(AdmissionState.REJECTED, room.joinWithStatus().getState());
+        assertEquals(2, room.getRejectedOnJoinCount());
+        assertEquals(AdmissionState.SOLD_OUT, room.getStatus(waiting).getState());
+        PurchaseResult result = room.purchase(waiting, new PurchaseRequest("carol", 1));
+        assertFalse(result.isSuccess());
+        assertEquals(PurchaseResult.SOLD_OUT, result.getReason());
+
+        room.admit(0);
+        room.admit(SECOND);
+        assertEquals(AdmissionState.SOLD_OUT, room.getStatus(waiting).getState()); // Nobody is admitted to an empty pool
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void updatesSwapInACopyAndOutliveARestart() throws IOException {
+        Path file = directory.resolve("nested/config.json");
+        ConfigService service = new ConfigService(config(100, 5), file.toString());
+        assertEquals(100, service.get().getTotalTickets()); // No file yet, so the defaults apply
+
+        TicketConfig requested = config(250, 7);
+        TicketConfig active = service.update(requested);
+        requested.setTotalTickets(1); // The caller's object is not the snapshot
+        assertNotSame(requested, active);
+        assertEquals(250, service.get().getTotalTickets());
+
+        assertTrue(service.flush(5000));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count()); // Nothing left behind by the temporary write
+        }
+        ConfigService restarted = new ConfigService(config(100, 5), file.toString());
+        assertEquals(250, restarted.get().getTotalTickets());
+        assertEquals(7, restarted.get().getTicketReleaseRate());
+    }
+
+    @Test
+    void burstsOfUpdatesPersistTheLatest() {
+        Path file = directory.resolve("config.json");
+        ConfigService service = new ConfigService(config(100, 5), file.toString());
+        for (int i = 1; i <= 200; i++) {
+            service.update(config(i, i));
+        }
+
+        assertTrue(service.flush(5000));
+        assertEquals(200, new ConfigService(new TicketConfig(), file.toString()).get().getTotalTickets());
+    }
+
+    private static TicketConfig config(int totalTickets, int releaseRate) {
+        TicketConfig config = new TicketConfig();
+        config.setTotalTickets(totalTickets);
+        config.setTicketReleaseRate(releaseRate);
+        return config;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.EventStatus;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRegistryTest {
+
+    private EventRegistry registry;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+        registry = new EventRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void eventsRunIndependentPools() throws InterruptedException {
+        registry.configure("concert", config(500, 0, 50));
+        registry.configure("theatre", config(40, 0, 0));
+        assertNull(registry.getEvent("theatre").getTicketPool()); // Idle events hold no pool
+
+        registry.startEvent("concert");
+        registry.startEvent("theatre");
+        Thread.sleep(300);
+
+        EventStatus concert = registry.getEventStatus("concert");
+        EventStatus theatre = registry.getEventStatus("theatre");
+        assertTrue(concert.getTotalTicketsPurchased() > 0);
+        assertEquals(0, theatre.getTotalTicketsPurchased());
+        assertEquals(40, theatre.getCurrentTicketsAvailable());
+        assertEquals(2, registry.getEventStatuses().size());
+        assertThrows(IllegalStateException.class, () -> registry.startEvent("concert"));
+
+        registry.stopEvent("concert");
+        assertFalse(registry.getEventStatus("concert").isRunning());
+        assertTrue(registry.getEventStatus("theatre").isRunning());
+    }
+
+    @Test
+    void soldOutEventsStopThemselves() throws InterruptedException {
+        registry.configure("matinee", config(5, 0, 100));
+        registry.startEvent("matinee");
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (registry.getEventStatus("matinee").isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertFalse(registry.getEventStatus("matinee").isRunning());
+    }
+
+    @Test
+    void rejectsUnknownAndInvalidEvents() {
+        assertThrows(NoSuchElementException.class, () -> registry.startEvent("missing"));
+        assertThrows(IllegalArgumentException.class, () -> registry.configure("../etc", config(10, 0, 0)));
+
+        registry.configure("gala", config(10, 0, 0));
+        registry.removeEvent("gala");
+        assertEquals(0, registry.getEventCount());
+    }
+
+    private static TicketConfig config(int totalTickets, int releaseRate, int retrievalRate) {
+        TicketConfig config = new TicketConfig();
+        config.setTotalTickets(totalTickets);
+        config.setMaxTicketCapacity(totalTickets * 2);
+        config.setTicketReleaseRate(releaseRate);
+        config.setCustomerRetrievalRate(retrievalRate);
+        config.setVendorCount(releaseRate > 0 ? 1 : 0);
+        config.setCustomerCount(retrievalRate > 0 ? 2 : 0);
+        config.setTickIntervalMillis(20);
+        return config;
+    }
+}
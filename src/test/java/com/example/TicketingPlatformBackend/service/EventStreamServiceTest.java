@@ -0,0 +1,97 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import com.example.TicketingPlatformBackend.model.PoolLevel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventStreamServiceTest {
+
+    private final EventStreamService service = new EventStreamService(60_000); // Flushed by hand in these tests
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void coalescesEventsIntoOneFramePerFlush() throws IOException {
+        WebSocketSession session = openSession("a");
+        service.subscribe(session);
+
+        service.onPoolEvent(PoolEventType.TICKETS_PURCHASED, "[Customer-1]", 2, 8, 10);
+        service.onPoolEvent(PoolEventType.TICKETS_PURCHASED, "[Customer-2]", 1, 7, 10);
+        service.onPoolEvent(PoolEventType.TICKETS_ADDED, "[Vendor-1]", 3, 10, 10);
+        service.flush();
+
+        ArgumentCaptor<WebSocketMessage<?>> frames = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, times(1)).sendMessage(frames.capture());
+        String json = ((TextMessage) frames.getValue()).getPayload();
+        assertTrue(json.startsWith("{\"poolSize\":10,\"capacity\":10,\"events\":["), json);
+        assertTrue(json.contains("[Customer-2]") && json.contains("TICKETS_ADDED"), json);
+
+        service.flush(); // Nothing new happened
+        verify(session, times(1)).sendMessage(any());
+    }
+
+    @Test
+    void dropsSubscribersThatFailToReceive() throws IOException {
+        WebSocketSession slow = openSession("slow");
+        WebSocketSession healthy = openSession("healthy");
+        doThrow(new IOException("broken pipe")).when(slow).sendMessage(any());
+        service.subscribe(slow);
+        service.subscribe(healthy);
+
+        service.onPoolEvent(PoolEventType.TICKETS_PURCHASED, "[Customer-1]", 1, 4, 10);
+        service.flush();
+
+        assertEquals(1, service.getSubscriberCount());
+        verify(healthy).sendMessage(any());
+    }
+
+    @Test
+    void sendsLevelChangesWithoutWaitingForTheFlush() throws IOException {
+        WebSocketSession session = openSession("a");
+        service.subscribe(session);
+
+        service.onLevelChanged(PoolLevel.LOW, PoolLevel.SOLD_OUT, 0, 10);
+
+        ArgumentCaptor<WebSocketMessage<?>> frames = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, timeout(2000)).sendMessage(frames.capture());
+        assertTrue(((TextMessage) frames.getValue()).getPayload().contains("\"level\":\"SOLD_OUT\""));
+    }
+
+    @Test
+    void skipsAllWorkWithoutSubscribers() throws IOException {
+        service.onPoolEvent(PoolEventType.TICKETS_PURCHASED, "[Customer-1]", 1, 4, 10);
+        WebSocketSession late = openSession("late");
+        service.subscribe(late);
+        service.flush();
+
+        verify(late, never()).sendMessage(any()); // Events from before the subscription are not replayed
+    }
+
+    private static WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.HoldRequest;
+import com.example.TicketingPlatformBackend.model.HoldStatus;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.PurchaseResult;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HoldServiceTest {
+
+    private HoldService holdService;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+        holdService = new HoldService(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        holdService.shutdown();
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void confirmedHoldsBecomePurchases() {
+        TicketPool pool = new TicketPool(5, 10);
+        HoldStatus hold = holdService.hold(pool, new HoldRequest("alice", 3, 60));
+
+        assertEquals(HoldStatus.HELD, hold.getState());
+        assertEquals(2, pool.getCurrentSize());
+        assertFalse(pool.isSold(hold.getTicketIds()[0])); // Held, not sold
+
+        HoldStatus confirmed = holdService.confirm(hold.getHoldId());
+        assertEquals(HoldStatus.CONFIRMED, confirmed.getState());
+        assertTrue(pool.isSold(hold.getTicketIds()[0]));
+        assertEquals(3, pool.getTotalTicketsPurchasedByCustomers());
+        assertThrows(NoSuchElementException.class, () -> holdService.release(hold.getHoldId()));
+    }
+
+    @Test
+    void aHoldLargerThanThePoolIsRefused() {
+        TicketPool pool = new TicketPool(5, 10);
+        HoldStatus hold = holdService.hold(pool, new HoldRequest("alice", Integer.MAX_VALUE, 60));
+
+        assertEquals(HoldStatus.REJECTED, hold.getState());
+        assertEquals(PurchaseResult.INSUFFICIENT_TICKETS, hold.getReason());
+        assertEquals(5, pool.getCurrentSize());
+    }
+
+    @Test
+    void releasedAndExpiredHoldsReturnTickets() throws InterruptedException {
+        TicketPool pool = new TicketPool(5, 5);
+        HoldStatus released = holdService.hold(pool, new HoldRequest("bob", 2, 60));
+        HoldStatus expiring = holdService.hold(pool, new HoldRequest("carol", 3, 1));
+        assertEquals(0, pool.getCurrentSize());
+        assertEquals(PurchaseResult.SOLD_OUT, holdService.hold(pool, new HoldRequest("dave", 1, 60)).getReason());
+
+        holdService.release(released.getHoldId());
+        assertEquals(2, pool.getCurrentSize());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (holdService.getActiveHoldCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(5, pool.getCurrentSize());
+        assertEquals(0, pool.getTotalTicketsPurchasedByCustomers());
+        assertThrows(NoSuchElementException.class, () -> holdService.confirm(expiring.getHoldId()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LedgerEntry;
+import com.example.TicketingPlatformBackend.model.LedgerEntryType;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LedgerServiceTest {
+
+    private Level previousLevel;
+    private LedgerService ledger;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+        String url = "jdbc:h2:mem:ledger-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        ledger = new LedgerService(new JdbcTemplate(new DriverManagerDataSource(url, "sa", "")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.shutdown();
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void recordsReleasesPurchasesAndCancellations() {
+        TicketPool pool = new TicketPool(0, 100);
+        pool.addListener(ledger.listenerFor("concert"));
+
+        assertTrue(pool.addTickets(10, "Vendor-1"));
+        int[] bought = new int[3];
+        assertTrue(pool.removeTicket(3, "Customer-1", bought, 0));
+        assertTrue(pool.adminRemoveTicket(bought, 0, 1, "Customer-1"));
+        assertTrue(ledger.flush(5000));
+
+        List<LedgerEntry> vendor = ledger.vendorHistory("Vendor-1", 0, 10);
+        assertEquals(1, vendor.size());
+        assertEquals(LedgerEntryType.RELEASE, vendor.get(0).getType());
+        assertEquals(10, vendor.get(0).getQuantity());
+        assertEquals("concert", vendor.get(0).getEventId());
+
+        List<LedgerEntry> customer = ledger.customerHistory("Customer-1", 0, 10);
+        assertEquals(2, customer.size());
+        assertEquals(LedgerEntryType.CANCELLATION, customer.get(0).getType()); // Newest first
+        assertEquals(String.valueOf(bought[0]), customer.get(0).getTicketIds());
+        assertEquals(LedgerEntryType.PURCHASE, customer.get(1).getType());
+        assertEquals(LedgerService.toRanges(bought), customer.get(1).getTicketIds());
+        assertEquals(0, ledger.getFailedEntries());
+    }
+
+    @Test
+    void historyPagesWithAKeysetCursor() {
+        TicketPool pool = new TicketPool(2500, 2500);
+        pool.addListener(ledger.listenerFor("concert"));
+        for (int i = 0; i < 2500; i++) {
+            assertTrue(pool.removeTicket(1, "Customer-1"));
+        }
+        assertTrue(ledger.flush(10000)); // More than one JDBC batch
+
+        long before = 0;
+        int seen = 0;
+        long previous = Long.MAX_VALUE;
+        List<LedgerEntry> page;
+        while (!(page = ledger.customerHistory("Customer-1", before, LedgerService.MAX_PAGE_SIZE)).isEmpty()) {
+            for (LedgerEntry entry : page) {
+                assertTrue(entry.getId() < previous);
+                previous = entry.getId();
+            }
+            seen += page.size();
+            before = page.get(page.size() - 1).getId();
+        }
+        assertEquals(2500, seen);
+        assertThrows(IllegalArgumentException.class, () -> ledger.customerHistory("Customer-1", 0, LedgerService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void aBadEntryCostsOnlyItselfNotItsBatch() {
+        TicketPool pool = new TicketPool(10, 100);
+        pool.addListener(ledger.listenerFor("concert"));
+        String longName = "Customer-" + "x".repeat(300); // Wider than the old column
+        String tooLong = "y".repeat(1_000_001); // Wider than any column the ledger allows
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(pool.removeTicket(1, "Customer-1"));
+        }
+        assertTrue(pool.removeTicket(1, tooLong));
+        assertTrue(pool.removeTicket(1, longName));
+        assertTrue(ledger.flush(5000));
+
+        assertEquals(3, ledger.customerHistory("Customer-1", 0, 10).size());
+        assertEquals(1, ledger.customerHistory(longName, 0, 10).size());
+        assertEquals(1, ledger.getFailedEntries());
+    }
+
+    @Test
+    void entriesAfterShutdownAreRefusedAndCounted() {
+        TicketPool pool = new TicketPool(10, 100);
+        pool.addListener(ledger.listenerFor("concert"));
+        ledger.shutdown();
+
+        assertTrue(pool.removeTicket(2, "Customer-1")); // The purchase itself still goes through
+        assertEquals(1, ledger.getDroppedEntries());
+        assertTrue(ledger.flush(1000));
+    }
+
+    @Test
+    void ticketIdsCollapseIntoRanges() {
+        assertEquals("3-7,12,14-15", LedgerService.toRanges(new int[]{3, 4, 5, 6, 7, 12, 14, 15}));
+        assertEquals("", LedgerService.toRanges(new int[0]));
+    }
+}
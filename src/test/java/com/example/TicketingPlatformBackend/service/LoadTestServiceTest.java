@@ -0,0 +1,89 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.config.TicketConfig;
+import com.example.TicketingPlatformBackend.model.InventoryMode;
+import com.example.TicketingPlatformBackend.model.LoadTestReport;
+import com.example.TicketingPlatformBackend.model.LoadTestSettings;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTestServiceTest {
+
+    private LoadTestService loadTestService;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+        TicketConfig config = new TicketConfig();
+        config.setTotalTickets(500);
+        config.setMaxTicketCapacity(1000);
+        config.setTicketReleaseRate(5);
+        config.setCustomerRetrievalRate(3);
+        config.setInventoryMode(InventoryMode.STRIPED);
+        loadTestService = new LoadTestService(new ConfigService(config, "target/load-test-config.json"), new MetricsService(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        loadTestService.shutdown();
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void unpacedRunReportsThroughputAndBalances() throws InterruptedException {
+        LoadTestSettings settings = new LoadTestSettings();
+        settings.setVendorCount(2);
+        settings.setCustomerCount(4);
+        settings.setDurationMillis(200);
+
+        assertTrue(loadTestService.start(settings).isRunning());
+        LoadTestReport report = loadTestService.awaitCompletion(10_000);
+
+        assertFalse(report.isRunning());
+        assertTrue(report.getOperations() > 0);
+        assertEquals(report.getOperations(), report.getPurchaseLatency().getCount() + report.getAddLatency().getCount()
+                + report.getReturnLatency().getCount());
+        assertTrue(report.getPurchaseLatency().getP99() >= report.getPurchaseLatency().getP50());
+        assertEquals(report.getTicketsPurchased(), report.getTotalPurchased());
+        assertTrue(report.isConsistent());
+    }
+
+    @Test
+    void pacedRunStaysNearTheTarget() throws InterruptedException {
+        LoadTestSettings settings = new LoadTestSettings();
+        settings.setVendorCount(1);
+        settings.setCustomerCount(1);
+        settings.setTargetOpsPerSecond(1000);
+        settings.setDurationMillis(500);
+
+        loadTestService.start(settings);
+        LoadTestReport report = loadTestService.awaitCompletion(10_000);
+
+        assertTrue(report.getOperations() <= 520, "ran " + report.getOperations() + " operations");
+        assertTrue(report.getOperations() >= 250, "ran " + report.getOperations() + " operations");
+    }
+
+    @Test
+    void rejectsASecondRunAndBadSettings() {
+        LoadTestSettings tooMany = new LoadTestSettings();
+        tooMany.setCustomerCount(5000);
+        assertThrows(IllegalArgumentException.class, () -> loadTestService.start(tooMany));
+
+        LoadTestSettings longRun = new LoadTestSettings();
+        longRun.setDurationMillis(60_000);
+        loadTestService.start(longRun);
+        assertThrows(IllegalStateException.class, () -> loadTestService.start(null));
+    }
+}
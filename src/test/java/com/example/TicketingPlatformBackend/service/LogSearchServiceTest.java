@@ -0,0 +1,110 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.EventLogEntry;
+import com.example.TicketingPlatformBackend.model.EventLogPage;
+import com.example.TicketingPlatformBackend.model.PoolEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogSearchServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void filtersByActorTypeAndTimeAcrossSegments() throws IOException {
+        segment(1, line(1000, "TICKETS_ADDED", "[Vendor-1]"), line(1001, "TICKETS_PURCHASED", "[Customer-1]"));
+        segment(2, line(2000, "TICKETS_PURCHASED", "[Customer-10]"), line(2001, "TICKETS_PURCHASED", "[Customer-1]"),
+                "{\"ts\":2002,\"level\":\"INFO\",\"type\":\"MESSAGE\",\"actor\":null,\"count\":0,\"poolSize\":0,\"capacity\":0,"
+                        + "\"message\":\"\\\"actor\\\":\\\"[Customer-1]\\\"\"}");
+        LogSearchService search = new LogSearchService(directory.toString());
+
+        List<EventLogEntry> customer = search.search("[Customer-1]", null, 0, Long.MAX_VALUE, 0, 100).getEntries();
+        assertEquals(2, customer.size()); // Not [Customer-10], and not the message that quotes the name
+        assertEquals(1001, customer.get(0).getTimestampMillis());
+        assertEquals(2001, customer.get(1).getTimestampMillis());
+        assertArrayEquals(new int[]{7, 8}, customer.get(0).getTicketIds());
+        assertNull(customer.get(0).getMessage());
+
+        List<EventLogEntry> purchases = search.search(null, PoolEventType.TICKETS_PURCHASED, 1500, 2000, 0, 100).getEntries();
+        assertEquals(1, purchases.size());
+        assertEquals("[Customer-10]", purchases.get(0).getActor());
+
+        assertEquals("\"actor\":\"[Customer-1]\"",
+                search.search(null, PoolEventType.MESSAGE, 0, Long.MAX_VALUE, 0, 100).getEntries().get(0).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> search.search(null, null, 0, 0, 0, LogSearchService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void cursorsPageThroughAndPickUpNewRecords() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            lines.add(line(1000 + i, "TICKETS_PURCHASED", "[Customer-1]"));
+        }
+        Path first = segment(1, lines.toArray(new String[0]));
+        LogSearchService search = new LogSearchService(directory.toString());
+
+        long cursor = 0;
+        int seen = 0;
+        EventLogPage page;
+        do {
+            page = search.search("[Customer-1]", null, 0, Long.MAX_VALUE, cursor, 10);
+            assertFalse(page.isReset());
+            for (EventLogEntry entry : page.getEntries()) {
+                assertEquals(1000 + seen++, entry.getTimestampMillis());
+            }
+            cursor = page.getNextCursor();
+        } while (!page.getEntries().isEmpty());
+        assertEquals(25, seen);
+
+        Files.writeString(first, line(1025, "TICKETS_PURCHASED", "[Customer-1]") + "\n{\"ts\":1026", StandardOpenOption.APPEND);
+        page = search.search("[Customer-1]", null, 0, Long.MAX_VALUE, cursor, 10);
+        assertEquals(1, page.getEntries().size()); // The half-written line is left for a later poll
+        assertEquals(1025, page.getEntries().get(0).getTimestampMillis());
+
+        segment(2, line(5000, "TICKETS_PURCHASED", "[Customer-1]"));
+        Files.delete(first); // Rotated away
+        page = search.search("[Customer-1]", null, 0, Long.MAX_VALUE, page.getNextCursor(), 10);
+        assertEquals(5000, page.getEntries().get(0).getTimestampMillis());
+        assertTrue(page.isReset());
+    }
+
+    @Test
+    void skipsSegmentsLastWrittenBeforeTheRange() throws IOException {
+        Path old = segment(1, line(3000, "TICKETS_PURCHASED", "[Customer-1]")); // Would match if it were read
+        Files.setLastModifiedTime(old, FileTime.fromMillis(500));
+        segment(2, line(2000, "TICKETS_ADDED", "[Vendor-1]"));
+        LogSearchService search = new LogSearchService(directory.toString());
+
+        List<EventLogEntry> entries = search.search(null, null, 1000, Long.MAX_VALUE, 0, 100).getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(PoolEventType.TICKETS_ADDED, entries.get(0).getType());
+    }
+
+    private Path segment(int sequence, String... lines) throws IOException {
+        Path file = directory.resolve(String.format("events-%06d.jsonl", sequence));
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static String line(long timestamp, String type, String actor) {
+        return "{\"ts\":" + timestamp + ",\"level\":\"INFO\",\"type\":\"" + type + "\",\"actor\":\"" + actor
+                + "\",\"count\":2,\"poolSize\":8,\"capacity\":10,\"tickets\":[7,8]}";
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LogPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoggingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void pagesByLineNumber() throws IOException {
+        Path log = directory.resolve("application.log");
+        Files.writeString(log, "zero\none\r\ntwo\nthree\n");
+        LoggingService service = new LoggingService(log.toString());
+
+        assertEquals(List.of("zero", "one", "two", "three"), service.getLogs());
+        assertEquals(List.of("one", "two"), service.getLogs(1, 2));
+        assertEquals(List.of(), service.getLogs(10, 5));
+    }
+
+    @Test
+    void tailReturnsOnlyNewCompleteLines() throws IOException {
+        Path log = directory.resolve("application.log");
+        Files.writeString(log, "a\nb\n");
+        LoggingService service = new LoggingService(log.toString());
+
+        LogPage first = service.tail(0, 100);
+        assertEquals(List.of("a", "b"), first.getLines());
+
+        append(log, "c\npartial");
+        LogPage second = service.tail(first.getNextCursor(), 100);
+        assertEquals(List.of("c"), second.getLines()); // The unterminated line waits for its newline
+
+        append(log, " line\n");
+        LogPage third = service.tail(second.getNextCursor(), 100);
+        assertEquals(List.of("partial line"), third.getLines());
+        assertFalse(third.isReset());
+    }
+
+    @Test
+    void tailStartsOverAfterTheLogIsCleared() throws IOException {
+        Path log = directory.resolve("application.log");
+        Files.writeString(log, "a\nb\nc\n");
+        LoggingService service = new LoggingService(log.toString());
+        long cursor = service.tail(0, 100).getNextCursor();
+
+        service.clearLogs();
+        append(log, "fresh\n");
+        LogPage page = service.tail(cursor, 100);
+
+        assertTrue(page.isReset());
+        assertEquals(List.of("fresh"), page.getLines());
+        assertFalse(service.tail(page.getNextCursor(), 100).isReset());
+    }
+
+    @Test
+    void tailStartsOverWhenTheClearedLogHasGrownPastTheCursor() throws IOException {
+        Path log = directory.resolve("application.log");
+        Files.writeString(log, "a\nb\n");
+        LoggingService service = new LoggingService(log.toString());
+        long cursor = service.tail(0, 100).getNextCursor();
+
+        service.clearLogs();
+        append(log, "one\ntwo\nthree\n");
+        LogPage page = service.tail(cursor, 100);
+
+        assertTrue(page.isReset());
+        assertEquals(List.of("one", "two", "three"), page.getLines());
+        assertTrue(new LoggingService(log.toString()).tail(page.getNextCursor(), 100).isReset()); // A restarted service does not accept old cursors
+    }
+
+    private static void append(Path log, String text) throws IOException {
+        Files.write(log, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
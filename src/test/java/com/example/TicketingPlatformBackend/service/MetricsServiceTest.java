@@ -0,0 +1,106 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.InventoryMode;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private MetricsService metricsService;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+        registry = new SimpleMeterRegistry();
+        metricsService = new MetricsService(registry, true); // Every pool gets timers of its own
+    }
+
+    @AfterEach
+    void tearDown() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void timesOperationsByOutcome() {
+        TicketPool pool = new TicketPool(5, 10);
+        metricsService.bind("concert", pool, () -> 2, () -> 3);
+
+        pool.removeTicket(2, "alice");
+        pool.removeTicket(4, "bob"); // Only 3 left
+        pool.removeTicket(3, "carol");
+        pool.removeTicket(1, "dave"); // Sold out
+        pool.addTickets(4, "vendor");
+
+        assertEquals(2, purchases("success"));
+        assertEquals(1, purchases("insufficient"));
+        assertEquals(1, purchases("sold_out"));
+        assertEquals(1, registry.get("ticket.pool.operations").tags("event", "concert", "operation", "add", "outcome", "success").timer().count());
+        assertEquals(9, registry.get("ticket.pool.tickets").tags("event", "concert", "flow", "added").functionCounter().count(), 0);
+        assertEquals(5, registry.get("ticket.pool.tickets").tags("event", "concert", "flow", "purchased").functionCounter().count(), 0);
+        assertEquals(0.4, registry.get("ticket.pool.fill").tag("event", "concert").gauge().value(), 1e-9);
+        assertEquals(3, registry.get("ticket.participants.active").tags("event", "concert", "role", "customer").gauge().value(), 0);
+    }
+
+    @Test
+    void timesTheStripeLock() {
+        TicketPool pool = new TicketPool(0, 100, InventoryMode.STRIPED, 4);
+        metricsService.bind("festival", pool, () -> 0, () -> 0);
+
+        pool.addTickets(8, "vendor"); // Raising a stripe always takes the lock
+
+        assertTrue(registry.get("ticket.pool.lock.hold").tags("event", "festival", "lock", "inventory_stripes").timer().count() >= 1);
+    }
+
+    @Test
+    void onlyTheDefaultPoolPublishesHistogramsUnlessAskedTo() {
+        PrometheusMeterRegistry prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        new MetricsService(prometheus).bind(MetricsService.DEFAULT_EVENT, new TicketPool(5, 10), () -> 0, () -> 0);
+        TicketPool concert = new TicketPool(5, 10);
+        new MetricsService(prometheus).bind("concert", concert, () -> 0, () -> 0);
+        new MetricsService(prometheus, true).bind("festival", new TicketPool(5, 10), () -> 0, () -> 0);
+
+        concert.removeTicket(2, "alice");
+
+        assertEquals(1, prometheus.get("ticket.pool.outcomes").tags("event", "concert", "operation", "purchase", "outcome", "success").counter().count());
+        assertEquals(1, prometheus.get("ticket.pool.operations").tags("event", MetricsService.OTHER_EVENTS, "operation", "purchase", "outcome", "success").timer().count());
+        String scrape = prometheus.scrape();
+        assertTrue(scrape.contains("ticket_pool_operations_seconds_bucket{event=\"default\""));
+        assertTrue(scrape.contains("ticket_pool_operations_seconds_bucket{event=\"all_other\""));
+        assertFalse(scrape.contains("ticket_pool_operations_seconds_bucket{event=\"concert\""));
+        assertTrue(scrape.contains("ticket_pool_outcomes_total{event=\"concert\""));
+        assertTrue(scrape.contains("ticket_pool_operations_seconds_bucket{event=\"festival\""));
+        assertFalse(scrape.contains("ticket_pool_outcomes_total{event=\"festival\""));
+    }
+
+    @Test
+    void unbindRemovesThePoolsMeters() {
+        TicketPool pool = new TicketPool(5, 10);
+        MetricsService.PoolMeters meters = metricsService.bind("concert", pool, () -> 0, () -> 0);
+
+        metricsService.unbind(meters);
+        pool.removeTicket(1, "alice");
+
+        assertNull(registry.find("ticket.pool.operations").tag("event", "concert").timer());
+        assertNull(registry.find("ticket.pool.available").tag("event", "concert").gauge());
+    }
+
+    private long purchases(String outcome) {
+        return registry.get("ticket.pool.operations").tags("event", "concert", "operation", "purchase", "outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.ShutdownProgress;
+import com.example.TicketingPlatformBackend.model.ShutdownState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticipantShutdownTest {
+
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void stopsParticipantsInParallel() {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            threads.add(startThread(() -> {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    pause(50); // Winding down takes a while after the interrupt
+                }
+            }));
+        }
+
+        ShutdownProgress progress = new ParticipantShutdown(threads, List.of(), null, 5000).run();
+
+        assertEquals(ShutdownState.STOPPED, progress.getState());
+        assertEquals(200, progress.getParticipantsStopped());
+        assertTrue(progress.getElapsedMillis() < 3000, "One at a time would take at least 10 s, took " + progress.getElapsedMillis() + " ms");
+    }
+
+    @Test
+    void givesUpOnParticipantsThatOutliveTheDeadline() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread stubborn = startThread(() -> {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // Ignores being told to stop
+                }
+            }
+        });
+        Thread polite = startThread(() -> pause(60_000));
+
+        ParticipantShutdown shutdown = new ParticipantShutdown(List.of(stubborn, polite), List.of(), null, 200);
+        ShutdownProgress progress = shutdown.run();
+
+        assertEquals(ShutdownState.TIMED_OUT, progress.getState());
+        assertEquals(1, progress.getParticipantsStopped());
+        assertEquals(1, progress.getParticipantsRunning());
+        assertTrue(progress.getElapsedMillis() < 2000);
+        release.countDown();
+        stubborn.join();
+    }
+
+    private static Thread startThread(Runnable body) {
+        Thread thread = new Thread(body);
+        thread.start();
+        return thread;
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.ParticipantTotals;
+import com.example.TicketingPlatformBackend.model.PoolSnapshot;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolStatusPublisherTest {
+
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LoggingUtility.getLogger().setLevel(previousLevel);
+    }
+
+    @Test
+    void reportsPoolAndParticipantTotals() throws Exception {
+        TicketPool pool = new TicketPool(5, 10);
+        PoolStatusPublisher publisher = new PoolStatusPublisher(pool, 0);
+        pool.addListener(publisher);
+
+        pool.addTickets(4, "vendor");
+        pool.addTickets(4, "vendor"); // Over capacity
+        pool.removeTicket(3, "alice");
+        pool.removeTicket(2, "bob");
+        pool.removeTicket(9, "bob"); // Only 4 left
+
+        PoolSnapshot snapshot = publisher.getSnapshot();
+        assertEquals(4, snapshot.getCurrentTicketsAvailable());
+        assertEquals(9, snapshot.getTotalTicketsAdded());
+        assertEquals(5, snapshot.getTotalTicketsPurchased());
+        assertEquals(0, snapshot.getTicketsInFlight());
+
+        List<ParticipantTotals> participants = snapshot.getParticipants();
+        assertEquals(List.of("alice", "bob", "vendor"), participants.stream().map(ParticipantTotals::getName).toList());
+        assertEquals(3, participants.get(0).getTicketsPurchased());
+        assertEquals(2, participants.get(1).getTicketsPurchased());
+        assertEquals(1, participants.get(1).getRejectedRequests());
+        assertEquals(4, participants.get(2).getTicketsAdded());
+        assertEquals(1, participants.get(2).getRejectedRequests());
+
+        JsonNode json = new ObjectMapper().readTree(publisher.getPublished().getJson());
+        assertEquals(4, json.get("currentTicketsAvailable").asInt());
+        assertEquals("bob", json.get("participants").get(1).get("name").asText());
+    }
+
+    @Test
+    void servesTheSameSnapshotWithinTheRefreshInterval() {
+        TicketPool pool = new TicketPool(5, 10);
+        PoolStatusPublisher publisher = new PoolStatusPublisher(pool, 60_000);
+        pool.addListener(publisher);
+
+        PoolStatusPublisher.Published first = publisher.getPublished();
+        pool.removeTicket(1, "alice");
+
+        assertSame(first, publisher.getPublished()); // Still fresh, so nothing was rebuilt
+        assertEquals(5, publisher.getSnapshot().getCurrentTicketsAvailable());
+    }
+
+    @Test
+    void concurrentPollersSeeIncreasingVersionsAndBalancedBooks() throws Exception {
+        TicketPool pool = new TicketPool(100, 200);
+        PoolStatusPublisher publisher = new PoolStatusPublisher(pool, 0);
+        pool.addListener(publisher);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Throwable> failures = new ArrayList<>();
+
+        Thread trader = new Thread(() -> {
+            while (running.get()) {
+                pool.removeTicket(1, "customer");
+                pool.addTickets(1, "vendor");
+            }
+        });
+        List<Thread> pollers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            pollers.add(new Thread(() -> {
+                long lastVersion = 0;
+                try {
+                    for (int poll = 0; poll < 2_000; poll++) {
+                        PoolSnapshot snapshot = publisher.getSnapshot();
+                        assertTrue(snapshot.getVersion() >= lastVersion, "Versions went backwards");
+                        assertTrue(snapshot.getCurrentTicketsAvailable() <= 200, "Pool over capacity");
+                        lastVersion = snapshot.getVersion();
+                    }
+                } catch (Throwable t) {
+                    synchronized (failures) {
+                        failures.add(t);
+                    }
+                }
+            }));
+        }
+        trader.start();
+        pollers.forEach(Thread::start);
+        for (Thread poller : pollers) {
+            poller.join();
+        }
+        running.set(false);
+        trader.join();
+
+        assertTrue(failures.isEmpty(), () -> failures.get(0).toString());
+        PoolSnapshot settled = new PoolStatusPublisher(pool, 0).getSnapshot();
+        assertEquals(0, settled.getTicketsInFlight()); // Quiet pool: every ticket is accounted for
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.TicketingPlatformBackend.service;
+
+import com.example.TicketingPlatformBackend.model.Customer;
+import com.example.TicketingPlatformBackend.model.LoggingUtility;
+import com.example.TicketingPlatformBackend.model.Participant;
+import com.example.TicketingPlatformBackend.model.RateBudget;
+import com.example.TicketingPlatformBackend.model.TicketPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TickSchedulerTest {
+
+    @Test
+    void manyParticipantsShareAFixedPool() throws InterruptedException {
+        Level previousLevel = LoggingUtility.getLogger().getLevel();
+        LoggingUtility.getLogger().setLevel(Level.OFF);
+        TickScheduler scheduler = new TickScheduler(2);
+        try {
+            int customers = 2_000;
+            TicketPool pool = new TicketPool(customers * 10, customers * 10);
+            for (int i = 0; i < customers; i++) {
+                scheduler.schedule(new Customer(pool, "buyer-" + i, 50, 20)); // One ticket of credit per tick
+            }
+
+            Thread.sleep(300);
+
+            assertEquals(2, scheduler.getPoolSize());
+            assertTrue(pool.getTotalTicketsPurchasedByCustomers() >= customers, "every customer should have ticked");
+        } finally {
+            scheduler.shutdown(1000);
+            LoggingUtility.getLogger().setLevel(previousLevel);
+        }
+    }
+
+    @Test
+    void subSecondIntervalsAreHonored() throws InterruptedException {
+        TickScheduler scheduler = new TickScheduler(1);
+        CountDownLatch ticks = new CountDownLatch(10);
+        try {
+            scheduler.schedule(new Participant() {
+                public void tick() {
+                    ticks.countDown();
+                }
+
+                public long getTickIntervalMillis() {
+                    return 10;
+                }
+
+                public String getName() {
+                    return "fast";
+                }
+
+                public void run() {
+                }
+            });
+
+            assertTrue(ticks.await(1, TimeUnit.SECONDS));
+        } finally {
+            scheduler.shutdown(1000);
+        }
+    }
+
+    @Test
+    void rateBudgetKeepsThePerSecondRate() {
+        assertEquals(10, new RateBudget(10, 1000).nextLimit());
+        assertEquals(5, new RateBudget(10, 500).nextLimit());
+        assertEquals(1, new RateBudget(10, 100).nextLimit());
+
+        assertEquals(30, spentInTenSeconds(3, 10)); // Fractional credit carries over instead of rounding up to 1 per tick
+        assertEquals(150, spentInTenSeconds(15, 100));
+        assertEquals(100, spentInTenSeconds(10, 1000));
+    }
+
+    @Test
+    void idleCreditDoesNotBuildUpABurst() {
+        RateBudget budget = new RateBudget(3, 10);
+        for (int i = 0; i < 1000; i++) {
+            budget.nextLimit(); // Nothing spent for ten seconds
+        }
+        assertEquals(1, budget.nextLimit());
+    }
+
+    /**
+     * Spends the full limit on every tick for ten seconds' worth of ticks.
+     */
+    private static int spentInTenSeconds(int ratePerSecond, long tickIntervalMillis) {
+        RateBudget budget = new RateBudget(ratePerSecond, tickIntervalMillis);
+        int spent = 0;
+        for (long elapsed = 0; elapsed < 10_000; elapsed += tickIntervalMillis) {
+            int limit = budget.nextLimit();
+            budget.spend(limit);
+            spent += limit;
+        }
+        return spent;
+    }
+}
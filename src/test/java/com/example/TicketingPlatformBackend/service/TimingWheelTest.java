@@ -0,0 +1,89 @@
+package com.example.TicketingPlatformBackend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void firesEveryTimeoutNoEarlierThanItsDeadline() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel(1, 4, 3, "test-wheel"); // Small wheels so most timeouts cascade
+        try {
+            int count = 20_000;
+            CountDownLatch fired = new CountDownLatch(count);
+            ConcurrentLinkedQueue<Long> early = new ConcurrentLinkedQueue<>();
+            for (int i = 0; i < count; i++) {
+                long delay = i % 150; // Up to beyond the 64 ticks the three levels reach
+                long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+                wheel.add(new TimingWheel.Timeout() {
+                    @Override
+                    protected void expire() {
+                        if (System.nanoTime() < due) {
+                            early.add(delay);
+                        }
+                        fired.countDown();
+                    }
+                }, delay);
+            }
+
+            assertTrue(fired.await(10, TimeUnit.SECONDS), "every timeout should fire");
+            assertTrue(early.isEmpty(), "no timeout should fire before its deadline");
+        } finally {
+            wheel.shutdown();
+        }
+    }
+
+    @Test
+    void cancelledTimeoutsNeverFire() throws InterruptedException {
+        TimingWheel wheel = new TimingWheel(1, 8, 2, "test-wheel");
+        try {
+            CountDownLatch fired = new CountDownLatch(1);
+            TimingWheel.Timeout cancelled = new TimingWheel.Timeout() {
+                @Override
+                protected void expire() {
+                    fired.countDown();
+                }
+            };
+            wheel.add(cancelled, 20);
+            assertTrue(cancelled.cancel());
+
+            assertFalse(fired.await(200, TimeUnit.MILLISECONDS));
+            assertFalse(cancelled.cancel());
+            assertEquals(1, fired.getCount());
+        } finally {
+            wheel.shutdown();
+        }
+    }
+
+    @Test
+    void cancelledTimeoutsAreUnlinkedBeforeTheirDeadline() throws Exception {
+        TimingWheel wheel = new TimingWheel(1, 8, 3, "test-wheel");
+        try {
+            TimingWheel.Timeout[] timeouts = new TimingWheel.Timeout[100];
+            for (int i = 0; i < timeouts.length; i++) {
+                timeouts[i] = new TimingWheel.Timeout() {
+                    @Override
+                    protected void expire() {
+                    }
+                };
+                wheel.add(timeouts[i], 60_000);
+            }
+            Thread.sleep(20);
+            assertEquals(100, wheel.placedCount());
+            for (int i = 0; i < timeouts.length; i += 2) {
+                assertTrue(timeouts[i].cancel());
+            }
+            Thread.sleep(20);
+            assertEquals(50, wheel.placedCount()); // Long before the one-minute deadline
+        } finally {
+            wheel.shutdown();
+        }
+    }
+}